@@ -1,19 +1,53 @@
 package com.shalako.checkers;
 
+import com.shalako.checkers.api.events.GameEventBroadcaster;
+import com.shalako.checkers.api.events.RedisGameEventRelay;
+import com.shalako.checkers.engine.EngineExecutor;
 import com.shalako.checkers.engine.GameEngine;
 import com.shalako.checkers.engine.GameRulesFactory;
+import com.shalako.checkers.engine.SelfPlayRunner;
+import com.shalako.checkers.enums.RepositoryType;
+import com.shalako.checkers.pdn.PdnExporter;
+import com.shalako.checkers.pdn.PdnImporter;
+import com.shalako.checkers.persistence.AsyncGameRepository;
+import com.shalako.checkers.persistence.AdaptiveJedisPoolSizer;
+import com.shalako.checkers.persistence.GameArchive;
+import com.shalako.checkers.persistence.GameLifecycleManager;
+import com.shalako.checkers.persistence.CoalescingGameRepository;
 import com.shalako.checkers.persistence.GameRepository;
+import com.shalako.checkers.persistence.InMemoryGameRepository;
+import com.shalako.checkers.persistence.InstrumentedJedisPool;
+import com.shalako.checkers.persistence.MappedFileGameRepository;
+import com.shalako.checkers.persistence.NearCacheGameRepository;
 import com.shalako.checkers.persistence.RedisGameRepository;
+import com.shalako.checkers.persistence.ShardedGameRepository;
+import com.shalako.checkers.persistence.WriteBehindGameRepository;
 import com.shalako.checkers.util.EmbeddedRedisServer;
+import com.shalako.checkers.util.TaskExecutors;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.env.Environment;
+import redis.clients.jedis.HostAndPort;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
 
@@ -31,10 +65,7 @@ public class CheckersRestApplication {
   private static final String REDIS_PONG = "PONG";
   private static final int JEDIS_CONNECT_TIMEOUT_MS = 5000;
 
-  private static final int POOL_MAX_TOTAL = 10;
-  private static final int POOL_MAX_IDLE = 5;
   private static final int POOL_MIN_IDLE = 1;
-  private static final int POOL_MAX_WAIT_MS = 10000;
   private static final boolean POOL_JMX_ENABLED = false;
 
   @Value("${redis.external.enabled:false}")
@@ -46,11 +77,152 @@ public class CheckersRestApplication {
   @Value("${redis.external.port:6379}")
   private int redisPort;
 
+  @Value("${redis.pool.initial-total:10}")
+  private int poolInitialTotal;
+
+  @Value("${redis.pool.min-total:4}")
+  private int poolMinTotal;
+
+  @Value("${redis.pool.max-total:64}")
+  private int poolMaxTotal;
+
+  @Value("${redis.pool.max-wait-ms:10000}")
+  private long poolMaxWaitMs;
+
+  @Value("${redis.pool.adaptive.interval-ms:5000}")
+  private long poolResizeIntervalMs;
+
+  @Value("${redis.shards:}")
+  private String redisShards;
+
+  @Value("${redis.shards.virtual-nodes:" + ShardedGameRepository.DEFAULT_VIRTUAL_NODES + "}")
+  private int shardVirtualNodes;
+
+  @Value("${redis.embedded.shard-count:1}")
+  private int embeddedShardCount;
+
+  @Value("${game.repository.type:redis}")
+  private String repositoryType;
+
+  @Value("${game.repository.mmap.file:data/games.dat}")
+  private String mappedFile;
+
+  @Value("${game.repository.mmap.sync-on-write:false}")
+  private boolean mappedFileSyncOnWrite;
+
+  @Value("${game.repository.snapshot-interval:20}")
+  private int snapshotInterval;
+
+  @Value("${game.repository.coalesce-reads:true}")
+  private boolean coalesceReads;
+
+  @Value("${game.repository.async.fallback-threads:64}")
+  private int asyncFallbackThreads;
+
+  @Value("${game.engine.threads:0}")
+  private int engineThreads;
+
+  @Value("${game.engine.queue-capacity:256}")
+  private int engineQueueCapacity;
+
+  @Value("${game.engine.degrade-after-ms:250}")
+  private long engineDegradeAfterMs;
+
+  @Value("${game.engine.defer-computer-replies:false}")
+  private boolean deferComputerReplies;
+
+  @Value("${game.engine.legal-move-cache-size:10000}")
+  private int legalMoveCacheSize;
+
+  @Value("${game.engine.max-delta-moves:50}")
+  private int maxDeltaMoves;
+
+  @Value("${game.self-play.threads:0}")
+  private int selfPlayThreads;
+
+  @Value("${game.self-play.queue-capacity:10000}")
+  private int selfPlayQueueCapacity;
+
+  @Value("${game.self-play.max-plies:400}")
+  private int selfPlayMaxPlies;
+
+  @Value("${game.events.timeout-ms:1800000}")
+  private long eventStreamTimeoutMs;
+
+  @Value("${game.events.heartbeat-interval-ms:15000}")
+  private long eventHeartbeatIntervalMs;
+
+  @Value("${game.events.dispatch-threads:4}")
+  private int eventDispatchThreads;
+
+  @Value("${game.events.max-queued-events:64}")
+  private int eventMaxQueuedEvents;
+
+  @Value("${game.events.relay.enabled:false}")
+  private boolean eventRelayEnabled;
+
+  @Value("${game.events.relay.channel:" + RedisGameEventRelay.Settings.DEFAULT_CHANNEL + "}")
+  private String eventRelayChannel;
+
+  @Value("${game.lifecycle.enabled:false}")
+  private boolean lifecycleEnabled;
+
+  @Value("${game.lifecycle.finished-retention-ms:3600000}")
+  private long finishedRetentionMs;
+
+  @Value("${game.lifecycle.idle-retention-ms:604800000}")
+  private long idleRetentionMs;
+
+  @Value("${game.lifecycle.sweep-interval-ms:300000}")
+  private long lifecycleSweepIntervalMs;
+
+  @Value("${game.lifecycle.archive-dir:data/archive}")
+  private String archiveDir;
+
+  @Value("${game.cache.near.enabled:false}")
+  private boolean nearCacheEnabled;
+
+  @Value("${game.cache.near.max-size:10000}")
+  private int nearCacheMaxSize;
+
+  @Value("${game.cache.near.channel:" + NearCacheGameRepository.Settings.DEFAULT_CHANNEL + "}")
+  private String nearCacheChannel;
+
+  @Value("${game.cache.write-behind.enabled:false}")
+  private boolean writeBehindEnabled;
+
+  @Value("${game.cache.write-behind.max-size:10000}")
+  private int writeBehindMaxSize;
+
+  @Value("${game.cache.write-behind.ttl-ms:1800000}")
+  private long writeBehindTtlMs;
+
+  @Value("${game.cache.write-behind.flush-interval-ms:1000}")
+  private long writeBehindFlushIntervalMs;
+
+  @Value("${game.cache.write-behind.batch-size:100}")
+  private int writeBehindBatchSize;
+
+  @Value("${game.pdn.import.threads:4}")
+  private int pdnImportThreads;
+
+  @Value("${game.pdn.import.batch-size:100}")
+  private int pdnImportBatchSize;
+
   private static boolean embeddedRedisStarted = false;
 
+  private final List<Integer> embeddedShardPorts = new ArrayList<>();
+  private final List<InstrumentedJedisPool> shardPools = new ArrayList<>();
+
   public static void main(String[] args) {
-    // Start Spring application
-    ConfigurableApplicationContext context = SpringApplication.run(CheckersRestApplication.class, args);
+    // Start Spring application, looking for running Redis servers while the context starts rather than before it
+    SpringApplication application = new SpringApplication(CheckersRestApplication.class);
+    application.addListeners(event -> {
+      if (event instanceof ApplicationEnvironmentPreparedEvent prepared) {
+        startRedisDiscovery(prepared.getEnvironment());
+      }
+    });
+    ConfigurableApplicationContext context = application.run(args);
 
     // Add shutdown hook as a backup to ensure Redis server is stopped
     Runtime.getRuntime().addShutdownHook(new Thread(() -> {
@@ -61,11 +233,29 @@ public class CheckersRestApplication {
     }));
   }
 
+  /**
+   * Starts probing the local Redis ports in the background when Redis on this machine may be used, so the probes overlap with
+   * creating the context. {@link #initializeRedis()} then waits for their result instead of probing each port in turn.
+   */
+  private static void startRedisDiscovery(Environment environment) {
+    RepositoryType type = RepositoryType.fromPropertyValue(environment.getProperty("game.repository.type", "redis"));
+    boolean external = environment.getProperty("redis.external.enabled", Boolean.class, false);
+    String host = environment.getProperty("redis.external.host", LOCALHOST_IP);
+    if (type == RepositoryType.REDIS && (!external || host.equals(LOCALHOST_IP) || host.equals(LOCALHOST_NAME))) {
+      EmbeddedRedisServer.discoverAsync();
+    }
+  }
+
   /**
    * Initializes Redis after Spring context is loaded. Checks for external Redis server first, and starts embedded server only if needed.
    */
   @PostConstruct
   public void initializeRedis() {
+    if (RepositoryType.fromPropertyValue(repositoryType) != RepositoryType.REDIS) {
+      logger.info("Game repository type is {}, not starting Redis", repositoryType);
+      return;
+    }
+
     if (externalRedisEnabled) {
       logger.info("External Redis server enabled, checking if available at {}:{}", redisHost, redisPort);
 
@@ -73,7 +263,7 @@ public class CheckersRestApplication {
       boolean externalRedisAvailable = false;
 
       if (redisHost.equals(LOCALHOST_IP) || redisHost.equals(LOCALHOST_NAME)) {
-        externalRedisAvailable = !EmbeddedRedisServer.checkExternalRedisServer(redisPort);
+        externalRedisAvailable = EmbeddedRedisServer.isRedisRunning(redisPort);
       } else {
         try (redis.clients.jedis.Jedis jedis =
             new redis.clients.jedis.Jedis(redisHost, redisPort, JEDIS_CONNECT_TIMEOUT_MS)) {
@@ -98,6 +288,11 @@ public class CheckersRestApplication {
     logger.info("Starting embedded Redis server");
     EmbeddedRedisServer.start();
     embeddedRedisStarted = true;
+
+    if (embeddedShardCount > 1 && redisShards.isBlank()) {
+      logger.info("Starting {} additional embedded Redis shards", embeddedShardCount - 1);
+      embeddedShardPorts.addAll(EmbeddedRedisServer.startShards(embeddedShardCount - 1));
+    }
   }
 
   /**
@@ -105,6 +300,10 @@ public class CheckersRestApplication {
    */
   @PreDestroy
   public void onShutdown() {
+    shardPools.forEach(JedisPool::close);
+    if (!embeddedShardPorts.isEmpty()) {
+      EmbeddedRedisServer.stopShards();
+    }
     if (embeddedRedisStarted) {
       logger.info("Application context is closing, stopping embedded Redis server");
       EmbeddedRedisServer.stop();
@@ -115,47 +314,274 @@ public class CheckersRestApplication {
 
   /**
    * Creates and configures a JedisPool for Redis connection. Uses either the external Redis server if available, or the embedded Redis server.
+   * The pool publishes borrow latency, exhaustion and connection counts as {@code redis.pool.*} metrics. Only created when games are stored in
+   * Redis.
    */
   @Bean
-  public JedisPool jedisPool() {
+  @ConditionalOnProperty(name = "game.repository.type", havingValue = "redis", matchIfMissing = true)
+  public JedisPool jedisPool(MeterRegistry meterRegistry) {
+    return new InstrumentedJedisPool(poolConfig(), redisEndpoint(), meterRegistry);
+  }
+
+  /**
+   * Creates the connection pool settings used for every Redis server.
+   */
+  private JedisPoolConfig poolConfig() {
     JedisPoolConfig poolConfig = new JedisPoolConfig();
-    poolConfig.setMaxTotal(POOL_MAX_TOTAL);
-    poolConfig.setMaxIdle(POOL_MAX_IDLE);
+    poolConfig.setMaxTotal(poolInitialTotal);
+    poolConfig.setMaxIdle(Math.max(POOL_MIN_IDLE, poolInitialTotal / 2));
     poolConfig.setMinIdle(POOL_MIN_IDLE);
-    poolConfig.setMaxWait(java.time.Duration.ofMillis(POOL_MAX_WAIT_MS)); // Set positive maxWait value
+    poolConfig.setMaxWait(Duration.ofMillis(poolMaxWaitMs)); // Set positive maxWait value
     poolConfig.setJmxEnabled(POOL_JMX_ENABLED); // Disable JMX to avoid MBean registration issues
+    return poolConfig;
+  }
 
-    String host;
-    int port;
+  /**
+   * Creates the sizer that resizes every Redis connection pool, including shard pools, to the concurrency it observes. Only created when
+   * games are stored in Redis.
+   */
+  @Bean(destroyMethod = "close")
+  @DependsOn("gameRepository")
+  @ConditionalOnExpression("'${game.repository.type:redis}'.trim().equalsIgnoreCase('redis') and ${redis.pool.adaptive.enabled:true}")
+  public AdaptiveJedisPoolSizer adaptiveJedisPoolSizer(JedisPool jedisPool) {
+    List<InstrumentedJedisPool> pools = new ArrayList<>(shardPools);
+    if (jedisPool instanceof InstrumentedJedisPool instrumented) {
+      pools.add(instrumented);
+    }
+    logger.info("Sizing {} Redis connection pool(s) between {} and {} connections", pools.size(), poolMinTotal, poolMaxTotal);
+    return new AdaptiveJedisPoolSizer(pools,
+        new AdaptiveJedisPoolSizer.Settings(poolMinTotal, poolMaxTotal, Duration.ofMillis(poolResizeIntervalMs)));
+  }
 
+  /**
+   * Resolves the Redis servers that games are sharded across: the configured shard list, or the main server plus any embedded shards.
+   */
+  private List<HostAndPort> shardEndpoints() {
+    List<HostAndPort> endpoints = new ArrayList<>();
+    if (!redisShards.isBlank()) {
+      for (String shard : redisShards.split(",")) {
+        endpoints.add(HostAndPort.from(shard.trim()));
+      }
+      return endpoints;
+    }
+    endpoints.add(redisEndpoint());
+    embeddedShardPorts.forEach(port -> endpoints.add(new HostAndPort(LOCALHOST_IP, port)));
+    return endpoints;
+  }
+
+  /**
+   * Resolves the Redis server to connect to: the external Redis server if it is enabled and available, otherwise the embedded one.
+   */
+  private HostAndPort redisEndpoint() {
     if (externalRedisEnabled && !embeddedRedisStarted) {
-      // Use external Redis server
-      host = redisHost;
-      port = redisPort;
-      logger.info("Configuring JedisPool to connect to external Redis at {}:{}", host, port);
-    } else {
-      // Use embedded Redis server
-      host = LOCALHOST_IP;
-      port = EmbeddedRedisServer.getCurrentPort();
-      logger.info("Configuring JedisPool to connect to embedded Redis at {}:{}", host, port);
+      logger.info("Configuring Redis connections to external Redis at {}:{}", redisHost, redisPort);
+      return new HostAndPort(redisHost, redisPort);
     }
 
-    return new JedisPool(poolConfig, host, port);
+    int port = EmbeddedRedisServer.getCurrentPort();
+    logger.info("Configuring Redis connections to embedded Redis at {}:{}", LOCALHOST_IP, port);
+    return new HostAndPort(LOCALHOST_IP, port);
   }
 
   /**
-   * Creates a GameRepository bean.
+   * Creates a GameRepository bean for the configured storage, optionally fronted by either the near cache (multi-node, Redis only) or the
+   * write-behind cache (single node), and by read coalescing. Repositories and caches are closed with the context; the write-behind cache
+   * flushes pending games when it closes.
    */
   @Bean
-  public GameRepository gameRepository(JedisPool jedisPool) {
-    return new RedisGameRepository(jedisPool);
+  public GameRepository gameRepository(ObjectProvider<JedisPool> jedisPool, MeterRegistry meterRegistry) {
+    GameRepository repository = createCachedRepository(jedisPool, meterRegistry);
+    if (!coalesceReads) {
+      return repository;
+    }
+    CoalescingGameRepository coalescing = new CoalescingGameRepository(repository);
+    coalescing.bindTo(meterRegistry);
+    return coalescing;
+  }
+
+  /**
+   * Creates the repository for the configured storage behind the configured cache, if any.
+   */
+  private GameRepository createCachedRepository(ObjectProvider<JedisPool> jedisPool, MeterRegistry meterRegistry) {
+    RepositoryType type = RepositoryType.fromPropertyValue(repositoryType);
+    if (nearCacheEnabled && writeBehindEnabled) {
+      throw new IllegalStateException("game.cache.near.enabled and game.cache.write-behind.enabled are mutually exclusive");
+    }
+    if (nearCacheEnabled && type != RepositoryType.REDIS) {
+      throw new IllegalStateException("game.cache.near.enabled requires game.repository.type=redis");
+    }
+
+    GameRepository repository = createRepository(type, jedisPool, meterRegistry);
+    if (nearCacheEnabled) {
+      logger.info("Enabling near game cache with invalidations on channel {}", nearCacheChannel);
+      return new NearCacheGameRepository(repository, jedisPool.getObject(),
+          new NearCacheGameRepository.Settings(redisEndpoint(), nearCacheChannel, nearCacheMaxSize));
+    }
+    if (!writeBehindEnabled) {
+      return repository;
+    }
+
+    logger.info("Enabling write-behind game cache (maxSize={}, flushIntervalMs={})", writeBehindMaxSize, writeBehindFlushIntervalMs);
+    WriteBehindGameRepository.Settings settings = new WriteBehindGameRepository.Settings(
+        writeBehindMaxSize,
+        Duration.ofMillis(writeBehindTtlMs),
+        Duration.ofMillis(writeBehindFlushIntervalMs),
+        writeBehindBatchSize);
+    return new WriteBehindGameRepository(repository, settings);
+  }
+
+  /**
+   * Creates the repository that stores games in the configured backend.
+   */
+  private GameRepository createRepository(RepositoryType type, ObjectProvider<JedisPool> jedisPool, MeterRegistry meterRegistry) {
+    switch (type) {
+      case MEMORY:
+        logger.info("Storing games in memory; they are lost when the application stops");
+        return new InMemoryGameRepository();
+      case MMAP:
+        logger.info("Storing games in memory-mapped file {}", mappedFile);
+        return new MappedFileGameRepository(new MappedFileGameRepository.Settings(Path.of(mappedFile), mappedFileSyncOnWrite));
+      default:
+        return createRedisRepository(jedisPool.getObject(), meterRegistry);
+    }
+  }
+
+  /**
+   * Creates the Redis repository, sharded across several servers with a consistent-hash ring when more than one is configured. Each shard
+   * gets its own connection pool; the main pool stays in use for pub/sub.
+   */
+  private GameRepository createRedisRepository(JedisPool jedisPool, MeterRegistry meterRegistry) {
+    RedisGameRepository.Settings settings = new RedisGameRepository.Settings(
+        snapshotInterval, redisTtl(finishedRetentionMs), redisTtl(idleRetentionMs));
+    List<HostAndPort> endpoints = shardEndpoints();
+    if (endpoints.size() <= 1) {
+      return new RedisGameRepository(jedisPool, settings);
+    }
+
+    logger.info("Sharding games across Redis servers {}", endpoints);
+    Map<String, GameRepository> shards = new LinkedHashMap<>();
+    for (HostAndPort endpoint : endpoints) {
+      InstrumentedJedisPool shardPool = new InstrumentedJedisPool(poolConfig(), endpoint, meterRegistry);
+      shardPools.add(shardPool);
+      shards.put(endpoint.toString(), new RedisGameRepository(shardPool, settings));
+    }
+    return new ShardedGameRepository(shards, shardVirtualNodes);
+  }
+
+  /**
+   * Returns the TTL for Redis keys given a lifecycle retention period. The TTL only backs up the lifecycle manager, so it leaves two sweeps
+   * for archiving before Redis drops the game; without the lifecycle manager keys never expire.
+   */
+  private Duration redisTtl(long retentionMs) {
+    if (!lifecycleEnabled) {
+      return Duration.ZERO;
+    }
+    return Duration.ofMillis(retentionMs + 2 * lifecycleSweepIntervalMs);
+  }
+
+  /**
+   * Creates the lifecycle manager that archives finished and idle games and removes them from the repository.
+   */
+  @Bean
+  @ConditionalOnProperty(name = "game.lifecycle.enabled", havingValue = "true")
+  public GameLifecycleManager gameLifecycleManager(GameRepository gameRepository) {
+    logger.info("Archiving finished games after {}ms and idle games after {}ms to {}", finishedRetentionMs, idleRetentionMs, archiveDir);
+    GameLifecycleManager.Settings settings = new GameLifecycleManager.Settings(
+        Duration.ofMillis(finishedRetentionMs),
+        Duration.ofMillis(idleRetentionMs),
+        Duration.ofMillis(lifecycleSweepIntervalMs));
+    return new GameLifecycleManager(gameRepository, new GameArchive(Path.of(archiveDir)), settings);
+  }
+
+  /**
+   * Creates the non-blocking repository view used by the move pipeline.
+   * Calls run on virtual threads when the runtime supports them, otherwise on a fixed pool of platform threads.
+   */
+  @Bean(destroyMethod = "close")
+  public AsyncGameRepository asyncGameRepository(GameRepository gameRepository) {
+    return new AsyncGameRepository(gameRepository,
+        TaskExecutors.newBlockingTaskExecutor("game-repository-async", asyncFallbackThreads));
+  }
+
+  /**
+   * Creates the executor for CPU-bound engine work, one thread per core unless configured otherwise.
+   * Computer moves that waited longer than game.engine.degrade-after-ms for a thread use the quick move
+   * picker. Queue depth, queue and run times, busy threads, degraded and rejected tasks are published as
+   * engine.* metrics.
+   */
+  @Bean(destroyMethod = "close")
+  public EngineExecutor engineExecutor() {
+    int threads = engineThreads > 0 ? engineThreads : Runtime.getRuntime().availableProcessors();
+    return new EngineExecutor(new EngineExecutor.Settings(threads, engineQueueCapacity, engineDegradeAfterMs));
   }
 
   /**
    * Creates a GameEngine bean.
    */
   @Bean
-  public GameEngine gameEngine(GameRepository gameRepository, GameRulesFactory gameRulesFactory) {
-    return new GameEngine(gameRepository, gameRulesFactory);
+  public GameEngine gameEngine(GameRepository gameRepository, GameRulesFactory gameRulesFactory,
+      AsyncGameRepository asyncGameRepository, EngineExecutor engineExecutor) {
+    return new GameEngine(gameRepository, gameRulesFactory, asyncGameRepository, engineExecutor,
+        new GameEngine.Settings(deferComputerReplies, legalMoveCacheSize, maxDeltaMoves));
+  }
+
+  /**
+   * Creates the runner that plays computer-vs-computer games to completion, one thread per core unless configured otherwise.
+   */
+  @Bean(destroyMethod = "close")
+  public SelfPlayRunner selfPlayRunner(GameEngine gameEngine) {
+    int threads = selfPlayThreads > 0 ? selfPlayThreads : Runtime.getRuntime().availableProcessors();
+    return new SelfPlayRunner(gameEngine,
+        new SelfPlayRunner.Settings(threads, selfPlayQueueCapacity, selfPlayMaxPlies));
+  }
+
+  /**
+   * Creates the broadcaster that streams game updates to clients subscribed on this node.
+   * With the relay enabled, updates also travel to and from the other nodes over Redis pub/sub.
+   */
+  @Bean(destroyMethod = "close")
+  public GameEventBroadcaster gameEventBroadcaster(GameEngine gameEngine, ObjectMapper objectMapper) {
+    GameEventBroadcaster broadcaster = new GameEventBroadcaster(objectMapper,
+        new GameEventBroadcaster.Settings(eventStreamTimeoutMs, eventHeartbeatIntervalMs, eventDispatchThreads,
+            eventMaxQueuedEvents));
+    if (!eventRelayEnabled) {
+      gameEngine.addUpdateListener(broadcaster);
+    }
+    return broadcaster;
+  }
+
+  /**
+   * Creates the relay that shares game updates between nodes.
+   */
+  @Bean(destroyMethod = "close")
+  @ConditionalOnProperty(name = "game.events.relay.enabled", havingValue = "true")
+  public RedisGameEventRelay redisGameEventRelay(GameEngine gameEngine, GameEventBroadcaster gameEventBroadcaster,
+      ObjectProvider<JedisPool> jedisPool) {
+    JedisPool pool = jedisPool.getIfAvailable();
+    if (pool == null) {
+      throw new IllegalStateException("game.events.relay.enabled requires game.repository.type=redis");
+    }
+    logger.info("Relaying game events between nodes on channel {}", eventRelayChannel);
+    RedisGameEventRelay relay = new RedisGameEventRelay(gameEventBroadcaster, pool,
+        new RedisGameEventRelay.Settings(redisEndpoint(), eventRelayChannel));
+    gameEngine.addUpdateListener(relay);
+    return relay;
+  }
+
+  /**
+   * Creates the PDN exporter used for bulk export of games.
+   */
+  @Bean
+  public PdnExporter pdnExporter(GameRepository gameRepository) {
+    return new PdnExporter(gameRepository);
+  }
+
+  /**
+   * Creates the PDN importer used for bulk import of games.
+   */
+  @Bean
+  public PdnImporter pdnImporter(GameEngine gameEngine, GameRulesFactory gameRulesFactory) {
+    return new PdnImporter(gameEngine, gameRulesFactory,
+        new PdnImporter.Settings(pdnImportThreads, pdnImportBatchSize));
   }
 }
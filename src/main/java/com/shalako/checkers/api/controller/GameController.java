@@ -1,44 +1,86 @@
 package com.shalako.checkers.api.controller;
 
+import com.shalako.checkers.api.dto.BatchMoveRequestDto;
+import com.shalako.checkers.api.dto.BatchMoveResultDto;
 import com.shalako.checkers.api.dto.BoardDisplayDto;
+import com.shalako.checkers.api.dto.BulkNewGameRequest;
+import com.shalako.checkers.api.dto.GameDeltaDto;
 import com.shalako.checkers.api.dto.GameResponseDto;
+import com.shalako.checkers.api.dto.GameResponseDto.BoardFormat;
+import com.shalako.checkers.api.dto.LegalMovesDto;
 import com.shalako.checkers.api.dto.MoveRequestDto;
 import com.shalako.checkers.api.dto.NewGameRequest;
+import com.shalako.checkers.api.events.GameEventBroadcaster;
+import com.shalako.checkers.engine.BatchMoveResult;
+import com.shalako.checkers.engine.EngineOverloadedException;
 import com.shalako.checkers.engine.GameEngine;
+import com.shalako.checkers.engine.GameNotFoundException;
+import com.shalako.checkers.engine.LegalMoves;
+import com.shalako.checkers.engine.SelfPlayRunner;
+import com.shalako.checkers.enums.GameMode;
 import com.shalako.checkers.enums.PlayerType;
 import com.shalako.checkers.model.Game;
 import com.shalako.checkers.model.MoveRequest;
+import com.shalako.checkers.model.Position;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * REST controller for Checkers game operations.
  */
-@CrossOrigin(origins = {"http://localhost:3000"}, allowCredentials = "true", methods = {RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT, RequestMethod.DELETE})
+@CrossOrigin(origins = {"http://localhost:3000"}, allowCredentials = "true", methods = {RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT, RequestMethod.DELETE}, exposedHeaders = {HttpHeaders.ETAG})
 @RestController
 @RequestMapping("/games")
 public class GameController {
+    private static final String DEFAULT_PAGE_SIZE = "20";
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final GameEngine gameEngine;
+    private final GameEventBroadcaster gameEventBroadcaster;
+    private final SelfPlayRunner selfPlayRunner;
 
-    public GameController(GameEngine gameEngine) {
+    public GameController(GameEngine gameEngine, GameEventBroadcaster gameEventBroadcaster, SelfPlayRunner selfPlayRunner) {
         this.gameEngine = gameEngine;
+        this.gameEventBroadcaster = gameEventBroadcaster;
+        this.selfPlayRunner = selfPlayRunner;
     }
 
     /**
      * Creates a new game.
+     * Like every endpoint returning games, it writes the board as a map of pieces, or with
+     * {@code ?board=compact} as one character per square.
      */
     @PostMapping
-    public ResponseEntity<GameResponseDto> createGame(@Valid @RequestBody NewGameRequest request) {
+    public ResponseEntity<GameResponseDto> createGame(
+            @Valid @RequestBody NewGameRequest request,
+            @RequestParam(name = "board", required = false) String board) {
+        BoardFormat boardFormat = boardFormat(board);
         Game game = gameEngine.createGame(
                 request.getBoardSize(),
                 request.getPlayerName(),
@@ -58,41 +100,165 @@ public class GameController {
         }
         
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(GameResponseDto.fromGame(game));
+                .body(GameResponseDto.fromGame(game, boardFormat));
+    }
+
+    /**
+     * Creates many games with one request and saves them in one batch, for load generation, engine
+     * regression runs and training data.
+     * Human-vs-computer games come back ready for the human's first move, as from {@link #createGame}; if the
+     * engine cannot play the computer's opening moves, none are created and the answer is 503.
+     * Computer-vs-computer games come back as created and are then played to completion in the background,
+     * without a request per move; follow them through their event streams or the finished games list.
+     * Answers 503 when the self-play queue cannot take all the games.
+     */
+    @PostMapping("/bulk")
+    public CompletableFuture<ResponseEntity<List<GameResponseDto>>> createGames(
+            @Valid @RequestBody BulkNewGameRequest request,
+            @RequestParam(name = "board", required = false) String board) {
+        BoardFormat boardFormat = boardFormat(board);
+        GameMode mode = request.getMode() != null ? request.getMode() : GameMode.HUMAN_VS_COMPUTER;
+        if (mode == GameMode.COMPUTER_VS_COMPUTER) {
+            // Checked up front so no games are left unplayed
+            if (selfPlayRunner.getRemainingCapacity() < request.getCount()) {
+                throw new EngineOverloadedException("Too many self-play games are waiting", selfPlayRunner.estimateDrainSeconds());
+            }
+            List<Game> games = gameEngine.createGames(mode, request.getBoardSize(), null, null, request.getCount());
+            games.forEach(game -> selfPlayRunner.playOut(game.getId()));
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.status(HttpStatus.CREATED).body(toResponses(games, boardFormat)));
+        }
+
+        if (request.getPlayerName() == null || request.getPlayerName().isBlank() || request.getPlayerColor() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Player name and color are required");
+        }
+        List<Game> games = gameEngine.createGames(
+                mode, request.getBoardSize(), request.getPlayerName(), request.getPlayerColor(), request.getCount());
+
+        return CompletableFuture.completedFuture(
+                ResponseEntity.status(HttpStatus.CREATED).body(toResponses(games, boardFormat)));
+    }
+
+    /**
+     * Lists a player's unfinished games, most recently updated first.
+     */
+    @GetMapping("/players/{playerId}/active")
+    public ResponseEntity<List<GameResponseDto>> getActiveGamesForPlayer(
+            @PathVariable String playerId,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(name = "board", required = false) String board) {
+        validatePage(offset, limit);
+        return ResponseEntity.ok(toResponses(gameEngine.getActiveGamesForPlayer(playerId, offset, limit), boardFormat(board)));
+    }
+
+    /**
+     * Lists finished games, most recently finished first.
+     */
+    @GetMapping("/finished")
+    public ResponseEntity<List<GameResponseDto>> getRecentlyFinishedGames(
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(name = "board", required = false) String board) {
+        validatePage(offset, limit);
+        return ResponseEntity.ok(toResponses(gameEngine.getRecentlyFinishedGames(offset, limit), boardFormat(board)));
     }
 
     /**
      * Gets a game by ID.
+     * With {@code ?since=<version>} only the changes since that version are returned, as a {@link GameDeltaDto}.
      */
     @GetMapping("/{gameId}")
-    public ResponseEntity<GameResponseDto> getGame(@PathVariable String gameId) {
-        Game game = gameEngine.getGame(gameId);
-        if (game == null) {
+    public ResponseEntity<?> getGame(
+            @PathVariable String gameId,
+            @RequestParam(name = "board", required = false) String board,
+            @RequestParam(name = "since", required = false) Long since,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        BoardFormat boardFormat = boardFormat(board);
+        String currentETag = eTagFor(gameEngine.getGameVersion(gameId));
+        if (matchesETag(ifNoneMatch, currentETag)) {
+            return notModified(currentETag);
+        }
+        Game game = loadGame(gameId);
+        return ResponseEntity.ok()
+                .eTag(eTagFor(game.getVersion()))
+                .cacheControl(CacheControl.noCache())
+                .body(since != null
+                        ? GameDeltaDto.fromMoves(game, since, gameEngine.getMovesSince(game, since, List.of()), boardFormat)
+                        : GameResponseDto.fromGame(game, boardFormat));
+    }
+
+    /**
+     * Streams a game's updates as server-sent events: a {@code game} event with the current state,
+     * then a {@code move} event with the new state and the moves played after every move.
+     * Players and spectators subscribe the same way.
+     */
+    @GetMapping(value = "/{gameId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamGameEvents(@PathVariable String gameId) {
+        SseEmitter emitter = gameEventBroadcaster.subscribe(gameId, () -> gameEngine.getGame(gameId));
+        if (emitter == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Game not found");
         }
-        return ResponseEntity.ok(GameResponseDto.fromGame(game));
+        return emitter;
     }
 
     /**
      * Gets a human-readable display of the game board.
      */
     @GetMapping("/{gameId}/board")
-    public ResponseEntity<BoardDisplayDto> getBoard(@PathVariable String gameId) {
-        Game game = gameEngine.getGame(gameId);
-        if (game == null) {
+    public ResponseEntity<BoardDisplayDto> getBoard(
+            @PathVariable String gameId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String currentETag = eTagFor(gameEngine.getGameVersion(gameId));
+        if (matchesETag(ifNoneMatch, currentETag)) {
+            return notModified(currentETag);
+        }
+        Game game = loadGame(gameId);
+        return ResponseEntity.ok()
+                .eTag(eTagFor(game.getVersion()))
+                .cacheControl(CacheControl.noCache())
+                .body(BoardDisplayDto.fromBoard(gameId, game.getBoard()));
+    }
+
+    /**
+     * Gets every legal move of the side to move, so clients can highlight them without trying moves.
+     * Moves are generated once per game version and cached; like the game itself they carry the version
+     * as their ETag.
+     */
+    @GetMapping("/{gameId}/legal-moves")
+    public ResponseEntity<LegalMovesDto> getLegalMoves(
+            @PathVariable String gameId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String currentETag = eTagFor(gameEngine.getGameVersion(gameId));
+        if (matchesETag(ifNoneMatch, currentETag)) {
+            return notModified(currentETag);
+        }
+        LegalMoves legalMoves = gameEngine.getLegalMoves(gameId);
+        if (legalMoves == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Game not found");
         }
-        return ResponseEntity.ok(BoardDisplayDto.fromBoard(gameId, game.getBoard()));
+        return ResponseEntity.ok()
+                .eTag(eTagFor(legalMoves.version()))
+                .cacheControl(CacheControl.noCache())
+                .body(LegalMovesDto.fromLegalMoves(legalMoves));
     }
 
     /**
      * Makes a move in a game.
+     * A multi-jump can be sent as its full {@code path} and is then validated, played and saved in one request.
+     * The request is processed asynchronously, so no servlet thread waits while the game is loaded and saved.
+     * With deferred computer replies the response carries the human move only; the reply follows on the
+     * game's event stream. Answers 503 with a Retry-After header when the engine is too busy to take the move.
+     * With {@code ?since=<version>} only the changes since that version are returned, as a {@link GameDeltaDto}.
      */
     @PostMapping("/{gameId}/moves")
-    public ResponseEntity<GameResponseDto> makeMove(
+    public CompletableFuture<ResponseEntity<?>> makeMove(
             @PathVariable String gameId,
-            @Valid @RequestBody MoveRequestDto moveRequestDto) {
-        
+            @Valid @RequestBody MoveRequestDto moveRequestDto,
+            @RequestParam(name = "board", required = false) String board,
+            @RequestParam(name = "since", required = false) Long since) {
+        BoardFormat boardFormat = boardFormat(board);
+
         // Validate that the game ID in the path matches the one in the request body
         if (!gameId.equals(moveRequestDto.getGameId())) {
             throw new ResponseStatusException(
@@ -101,46 +267,217 @@ public class GameController {
             );
         }
         
-        try {
-            Game game = gameEngine.getGame(gameId);
-            if (game == null) {
-                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Game not found");
+        return gameEngine.getGameAsync(gameId)
+                .thenCompose(game -> {
+                    if (game == null) {
+                        throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Game not found");
+                    }
+                    return gameEngine.makeMoveWithMovesAsync(toMoveRequest(game, moveRequestDto));
+                })
+                .<ResponseEntity<?>>thenApply(update -> ResponseEntity.ok(since != null
+                        ? GameDeltaDto.fromMoves(update.game(), since,
+                                gameEngine.getMovesSince(update.game(), since, update.moves()), boardFormat)
+                        : GameResponseDto.fromGame(update.game(), boardFormat)))
+                .exceptionally(error -> {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    if (cause instanceof GameNotFoundException) {
+                        throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Game not found");
+                    }
+                    if (cause instanceof IllegalArgumentException || cause instanceof IllegalStateException) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, cause.getMessage());
+                    }
+                    if (cause instanceof EngineOverloadedException overloaded) {
+                        // The engine's queue is full; nothing was saved
+                        throw overloaded;
+                    }
+                    throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+                });
+    }
+
+    /**
+     * Makes moves in many games with one request, for clients such as bots playing lots of games.
+     * Each game's moves are played in the order given and games are played in parallel; changed games
+     * are saved in one batch. Every move gets its own result, in request order, with the status it would
+     * have had as a single request. Moves for human and computer players are given as for a single move.
+     */
+    @PostMapping("/moves")
+    public CompletableFuture<ResponseEntity<List<BatchMoveResultDto>>> makeMoves(
+            @Valid @RequestBody BatchMoveRequestDto batchRequest,
+            @RequestParam(name = "board", required = false) String board) {
+        BoardFormat boardFormat = boardFormat(board);
+        List<MoveRequestDto> moves = batchRequest.getMoves();
+        if (moves.size() > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A batch can hold at most " + MAX_BATCH_SIZE + " moves");
+        }
+        // A malformed move gets its own 400 result; the others are played
+        BatchMoveResultDto[] results = new BatchMoveResultDto[moves.size()];
+        List<MoveRequest> moveRequests = new ArrayList<>(moves.size());
+        List<Integer> requestIndexes = new ArrayList<>(moves.size());
+        for (int i = 0; i < moves.size(); i++) {
+            try {
+                moveRequests.add(toMoveRequest(moves.get(i)));
+                requestIndexes.add(i);
+            } catch (ResponseStatusException e) {
+                results[i] = BatchMoveResultDto.failed(moves.get(i).getGameId(), e.getStatusCode().value(), e.getReason());
             }
-            
-            // Check if this is a computer move (indicated by null positions)
-            if (moveRequestDto.getFrom() == null || moveRequestDto.getTo() == null) {
-                // For computer moves, we just need the game ID and player ID
-                if (game.getCurrentPlayer().getType() != PlayerType.COMPUTER) {
-                    throw new ResponseStatusException(
-                            HttpStatus.BAD_REQUEST,
-                            "Cannot make a computer move for a human player"
-                    );
-                }
-                
-                MoveRequest moveRequest = MoveRequest.MoveRequestFactory.createMoveRequest(
-                        moveRequestDto.getGameId(),
-                        moveRequestDto.getPlayerId(),
-                        null,
-                        null,
-                        PlayerType.COMPUTER
-                );
-                
-                Game updatedGame = gameEngine.makeMove(moveRequest);
-                return ResponseEntity.ok(GameResponseDto.fromGame(updatedGame));
-            } else {
-                // For human moves, we need all the details
-                MoveRequest moveRequest = MoveRequest.MoveRequestFactory.createMoveRequest(
-                        moveRequestDto.getGameId(),
-                        moveRequestDto.getPlayerId(),
-                        moveRequestDto.getFrom(),
-                        moveRequestDto.getTo()
-                );
-                
-                Game updatedGame = gameEngine.makeMove(moveRequest);
-                return ResponseEntity.ok(GameResponseDto.fromGame(updatedGame));
+        }
+        if (moveRequests.isEmpty()) {
+            return CompletableFuture.completedFuture(ResponseEntity.ok(List.of(results)));
+        }
+
+        return gameEngine.makeMovesAsync(moveRequests)
+                .thenApply(played -> {
+                    for (int i = 0; i < played.size(); i++) {
+                        results[requestIndexes.get(i)] = toBatchResult(played.get(i), boardFormat);
+                    }
+                    return ResponseEntity.ok(List.of(results));
+                });
+    }
+
+    /**
+     * Sheds load when the engine's queue is full: answers 503 with a Retry-After of roughly how long the
+     * queued work takes, so clients back off instead of retrying at once. Nothing was saved for the request.
+     */
+    @ExceptionHandler(EngineOverloadedException.class)
+    public void handleEngineOverloaded(EngineOverloadedException e, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfterSeconds()));
+        response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), e.getMessage());
+    }
+
+    static BatchMoveResultDto toBatchResult(BatchMoveResult result, BoardFormat boardFormat) {
+        if (result.isPlayed()) {
+            return BatchMoveResultDto.played(result.gameId(), GameResponseDto.fromGame(result.game(), boardFormat));
+        }
+        RuntimeException error = result.error();
+        // Same statuses as a single move
+        if (error instanceof EngineOverloadedException overloaded) {
+            return BatchMoveResultDto.overloaded(result.gameId(), overloaded.getMessage(), overloaded.getRetryAfterSeconds());
+        }
+        HttpStatus status = error instanceof GameNotFoundException ? HttpStatus.NOT_FOUND
+                : error instanceof RejectedExecutionException ? HttpStatus.SERVICE_UNAVAILABLE
+                : error instanceof IllegalArgumentException || error instanceof IllegalStateException ? HttpStatus.BAD_REQUEST
+                : HttpStatus.INTERNAL_SERVER_ERROR;
+        return BatchMoveResultDto.failed(result.gameId(), status.value(), error.getMessage());
+    }
+
+    private Game loadGame(String gameId) {
+        Game game = gameEngine.getGame(gameId);
+        if (game == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Game not found");
+        }
+        return game;
+    }
+
+    /**
+     * Returns the strong ETag for a game version, or null if the game does not exist.
+     * A game's version increases with every move, so it identifies the game's state.
+     */
+    private static String eTagFor(Long version) {
+        return version != null ? "\"" + version + "\"" : null;
+    }
+
+    /**
+     * Checks an If-None-Match header against the current ETag, using the weak comparison HTTP specifies for GET.
+     */
+    private static boolean matchesETag(String ifNoneMatch, String currentETag) {
+        if (ifNoneMatch == null || currentETag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(currentETag)) {
+                return true;
             }
-        } catch (IllegalArgumentException | IllegalStateException e) {
+        }
+        return false;
+    }
+
+    private static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .build();
+    }
+
+    private static void validatePage(int offset, int limit) {
+        if (offset < 0 || limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "offset must be at least 0 and limit between 1 and " + MAX_PAGE_SIZE
+            );
+        }
+    }
+
+    private static List<GameResponseDto> toResponses(List<Game> games, BoardFormat boardFormat) {
+        return games.stream().map(game -> GameResponseDto.fromGame(game, boardFormat)).collect(Collectors.toList());
+    }
+
+    private static BoardFormat boardFormat(String board) {
+        try {
+            return BoardFormat.fromParameter(board);
+        } catch (IllegalArgumentException e) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
         }
     }
+
+    private static MoveRequest toMoveRequest(Game game, MoveRequestDto moveRequestDto) {
+        if (!hasPositions(moveRequestDto) && game.getCurrentPlayer().getType() != PlayerType.COMPUTER) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Cannot make a computer move for a human player"
+            );
+        }
+        return toMoveRequest(moveRequestDto);
+    }
+
+    private static boolean hasPositions(MoveRequestDto moveRequestDto) {
+        return (moveRequestDto.getPath() != null && !moveRequestDto.getPath().isEmpty())
+                || (moveRequestDto.getFrom() != null && moveRequestDto.getTo() != null);
+    }
+
+    /**
+     * Converts a move without checking it against the game; the engine refuses a move for the wrong kind of player.
+     */
+    private static MoveRequest toMoveRequest(MoveRequestDto moveRequestDto) {
+        // A full path plays a whole multi-jump in one request
+        List<Position> path = moveRequestDto.getPath();
+        if (path != null && !path.isEmpty()) {
+            if (path.size() < 2 || path.contains(null)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "path must contain at least two positions");
+            }
+            if ((moveRequestDto.getFrom() != null && !moveRequestDto.getFrom().equals(path.get(0)))
+                    || (moveRequestDto.getTo() != null && !moveRequestDto.getTo().equals(path.get(path.size() - 1)))) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from and to must be the ends of path");
+            }
+            return MoveRequest.MoveRequestFactory.createMoveRequest(
+                    moveRequestDto.getGameId(),
+                    moveRequestDto.getPlayerId(),
+                    path
+            );
+        }
+
+        // Check if this is a computer move (indicated by null positions)
+        if (moveRequestDto.getFrom() == null || moveRequestDto.getTo() == null) {
+            // For computer moves, we just need the game ID and player ID
+            return MoveRequest.MoveRequestFactory.createMoveRequest(
+                    moveRequestDto.getGameId(),
+                    moveRequestDto.getPlayerId(),
+                    null,
+                    null,
+                    PlayerType.COMPUTER
+            );
+        }
+        
+        // For human moves, we need all the details
+        return MoveRequest.MoveRequestFactory.createMoveRequest(
+                moveRequestDto.getGameId(),
+                moveRequestDto.getPlayerId(),
+                moveRequestDto.getFrom(),
+                moveRequestDto.getTo()
+        );
+    }
 }
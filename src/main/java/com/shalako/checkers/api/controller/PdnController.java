@@ -0,0 +1,59 @@
+package com.shalako.checkers.api.controller;
+
+import com.shalako.checkers.pdn.PdnExporter;
+import com.shalako.checkers.pdn.PdnImportResult;
+import com.shalako.checkers.pdn.PdnImporter;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * REST controller for bulk export and import of games in Portable Draughts Notation.
+ * Both directions stream the body, so files of any size can be transferred.
+ */
+@CrossOrigin(origins = {"http://localhost:3000"}, allowCredentials = "true", methods = {RequestMethod.GET, RequestMethod.POST})
+@RestController
+@RequestMapping("/games/pdn")
+public class PdnController {
+    private static final MediaType PDN_MEDIA_TYPE = MediaType.parseMediaType("application/x-pdn");
+
+    private final PdnExporter pdnExporter;
+    private final PdnImporter pdnImporter;
+
+    public PdnController(PdnExporter pdnExporter, PdnImporter pdnImporter) {
+        this.pdnExporter = pdnExporter;
+        this.pdnImporter = pdnImporter;
+    }
+
+    /**
+     * Exports every game as a PDN file.
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportGames() {
+        StreamingResponseBody body = out -> pdnExporter.exportGames(Channels.newChannel(out));
+        return ResponseEntity.ok()
+                .contentType(PDN_MEDIA_TYPE)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"games.pdn\"")
+                .body(body);
+    }
+
+    /**
+     * Imports the games in the PDN request body. Games with illegal moves are skipped and reported.
+     */
+    @PostMapping
+    public ResponseEntity<PdnImportResult> importGames(HttpServletRequest request) throws IOException {
+        ReadableByteChannel channel = Channels.newChannel(request.getInputStream());
+        return ResponseEntity.ok(pdnImporter.importGames(channel));
+    }
+}
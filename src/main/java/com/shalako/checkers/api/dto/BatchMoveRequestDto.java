@@ -0,0 +1,20 @@
+package com.shalako.checkers.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for making moves in many games with one request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchMoveRequestDto {
+    // Played in this order within each game; games proceed independently
+    @NotEmpty(message = "At least one move is required")
+    private List<@Valid MoveRequestDto> moves;
+}
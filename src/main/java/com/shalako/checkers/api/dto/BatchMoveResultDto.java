@@ -0,0 +1,37 @@
+package com.shalako.checkers.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the result of one move of a batch.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchMoveResultDto {
+    private String gameId;
+    // The HTTP status the move would have had on its own: 200, 400, 404 or 503
+    private int status;
+    // Why the move was refused; absent if it was played
+    private String error;
+    // With status 503, the seconds to wait before sending the move again, as the Retry-After header of a single move
+    private Long retryAfterSeconds;
+    // The game after the move; absent if it was refused
+    private GameResponseDto game;
+
+    public static BatchMoveResultDto played(String gameId, GameResponseDto game) {
+        return new BatchMoveResultDto(gameId, 200, null, null, game);
+    }
+
+    public static BatchMoveResultDto failed(String gameId, int status, String error) {
+        return new BatchMoveResultDto(gameId, status, error, null, null);
+    }
+
+    public static BatchMoveResultDto overloaded(String gameId, String error, long retryAfterSeconds) {
+        return new BatchMoveResultDto(gameId, 503, error, retryAfterSeconds, null);
+    }
+}
@@ -0,0 +1,34 @@
+package com.shalako.checkers.api.dto;
+
+import com.shalako.checkers.enums.BoardSize;
+import com.shalako.checkers.enums.GameMode;
+import com.shalako.checkers.enums.PlayerColor;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for creating many games with one request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkNewGameRequest {
+
+  @Min(value = 1, message = "At least one game is required")
+  @Max(value = 1000, message = "At most 1000 games can be created at once")
+  private int count;
+
+  @NotNull(message = "Board size is required")
+  private BoardSize boardSize;
+
+  private GameMode mode = GameMode.HUMAN_VS_COMPUTER;
+
+  // Required for human-vs-computer games, ignored for computer-vs-computer games
+  private String playerName;
+
+  private PlayerColor playerColor;
+}
@@ -0,0 +1,55 @@
+package com.shalako.checkers.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.shalako.checkers.enums.GameState;
+import com.shalako.checkers.enums.PlayerColor;
+import com.shalako.checkers.model.Game;
+import com.shalako.checkers.model.Move;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the changes to a game since a version the client holds. Carries the moves the client
+ * missed and the new state, or, when the client is too far behind, the whole game in {@code game}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GameDeltaDto {
+    private String gameId;
+    // The version the changes start from, as sent by the client
+    private long sinceVersion;
+    private long version;
+    // Moves played after sinceVersion, encoded like 52-43, 52-34-16x43,25 (captures) or 21-10+ (promotion);
+    // absent when the whole game is sent instead
+    private List<String> moves;
+    private PlayerColor currentTurn;
+    private GameState state;
+    private boolean isGameOver;
+    private Instant updatedAt;
+    // The whole game, only when the moves could not be sent
+    private GameResponseDto game;
+
+    /**
+     * Creates a delta carrying the given moves, or the whole game if {@code moves} is null.
+     */
+    public static GameDeltaDto fromMoves(Game game, long sinceVersion, List<Move> moves,
+                                         GameResponseDto.BoardFormat boardFormat) {
+        return new GameDeltaDto(
+                game.getId(),
+                sinceVersion,
+                game.getVersion(),
+                moves != null ? moves.stream().map(Move::encode).collect(Collectors.toList()) : null,
+                game.getCurrentTurn(),
+                game.getState(),
+                game.isGameOver(),
+                game.getUpdatedAt(),
+                moves != null ? null : GameResponseDto.fromGame(game, boardFormat)
+        );
+    }
+}
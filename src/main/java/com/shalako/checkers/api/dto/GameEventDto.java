@@ -0,0 +1,33 @@
+package com.shalako.checkers.api.dto;
+
+import com.shalako.checkers.model.Game;
+import com.shalako.checkers.model.Move;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a game update pushed to subscribers.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameEventDto {
+    private String gameId;
+    // Increases with every move; subscribers can ignore events older than the state they hold
+    private long version;
+    // Moves played since the previous event, encoded like 52-43 or 52-34-16x43,25
+    private List<String> moves;
+    private GameResponseDto game;
+
+    public static GameEventDto fromUpdate(Game game, List<Move> moves) {
+        return new GameEventDto(
+                game.getId(),
+                game.getVersion(),
+                moves.stream().map(Move::encode).collect(Collectors.toList()),
+                GameResponseDto.fromGame(game)
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package com.shalako.checkers.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.shalako.checkers.enums.BoardSize;
 import com.shalako.checkers.enums.GameState;
 import com.shalako.checkers.enums.PieceType;
@@ -11,6 +12,7 @@ import com.shalako.checkers.model.Piece;
 import com.shalako.checkers.model.Player;
 
 import java.time.Instant;
+import java.util.Locale;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.Data;
@@ -37,9 +39,18 @@ public class GameResponseDto {
      * Creates a GameResponseDto from a Game entity.
      */
     public static GameResponseDto fromGame(Game game) {
+        return fromGame(game, BoardFormat.PIECES);
+    }
+
+    /**
+     * Creates a GameResponseDto from a Game entity with the board in the given format.
+     */
+    public static GameResponseDto fromGame(Game game, BoardFormat boardFormat) {
         GameResponseDto dto = new GameResponseDto();
         dto.id = game.getId();
-        dto.board = BoardDto.fromBoard(game.getBoard());
+        dto.board = boardFormat == BoardFormat.COMPACT
+                ? BoardDto.fromBoardCompact(game.getBoard())
+                : BoardDto.fromBoard(game.getBoard());
         dto.redPlayer = PlayerDto.fromPlayer(game.getRedPlayer());
         dto.blackPlayer = PlayerDto.fromPlayer(game.getBlackPlayer());
         dto.currentTurn = game.getCurrentTurn();
@@ -54,13 +65,39 @@ public class GameResponseDto {
     // Getters and setters are generated by Lombok @Data
 
     /**
-     * DTO for board state.
+     * How the board is written in a response.
+     */
+    public enum BoardFormat {
+        /** A map from position to piece; the default. */
+        PIECES,
+        /** One character per square, as produced by {@link Board#encode()}. */
+        COMPACT;
+
+        /**
+         * Parses the {@code board} query parameter; absent means {@link #PIECES}.
+         */
+        public static BoardFormat fromParameter(String parameter) {
+            if (parameter == null || parameter.isBlank()) {
+                return PIECES;
+            }
+            try {
+                return valueOf(parameter.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("board must be 'pieces' or 'compact'", e);
+            }
+        }
+    }
+
+    /**
+     * DTO for board state. Carries either {@code pieces} or, in the compact format, {@code squares}.
      */
     @Data
     @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class BoardDto {
         private BoardSize size;
         private Map<String, PieceDto> pieces;
+        private String squares;
 
         public static BoardDto fromBoard(Board board) {
             BoardDto dto = new BoardDto();
@@ -72,6 +109,13 @@ public class GameResponseDto {
                     ));
             return dto;
         }
+
+        public static BoardDto fromBoardCompact(Board board) {
+            BoardDto dto = new BoardDto();
+            dto.size = board.getSize();
+            dto.squares = board.encode();
+            return dto;
+        }
     }
 
     /**
@@ -0,0 +1,33 @@
+package com.shalako.checkers.api.dto;
+
+import com.shalako.checkers.engine.LegalMoves;
+import com.shalako.checkers.enums.PlayerColor;
+import com.shalako.checkers.model.Move;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the legal moves of the side to move.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LegalMovesDto {
+    private String gameId;
+    private long version;
+    private PlayerColor currentTurn;
+    // Every legal move, encoded like 52-43 or 52-34-16x43,25; empty when the game is over
+    private List<String> moves;
+
+    public static LegalMovesDto fromLegalMoves(LegalMoves legalMoves) {
+        return new LegalMovesDto(
+                legalMoves.gameId(),
+                legalMoves.version(),
+                legalMoves.currentTurn(),
+                legalMoves.moves().stream().map(Move::encode).collect(Collectors.toList())
+        );
+    }
+}
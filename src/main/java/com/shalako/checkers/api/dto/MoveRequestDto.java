@@ -2,6 +2,7 @@ package com.shalako.checkers.api.dto;
 
 import com.shalako.checkers.model.Position;
 import jakarta.validation.constraints.NotBlank;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -23,4 +24,11 @@ public class MoveRequestDto {
     private Position from;
     
     private Position to;
+
+    // Optional full path of a multi-jump, e.g. every landing square; replaces from and to
+    private List<Position> path;
+
+    public MoveRequestDto(String gameId, String playerId, Position from, Position to) {
+        this(gameId, playerId, from, to, null);
+    }
 }
@@ -0,0 +1,250 @@
+package com.shalako.checkers.api.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shalako.checkers.api.dto.GameEventDto;
+import com.shalako.checkers.engine.GameUpdateListener;
+import com.shalako.checkers.model.Game;
+import com.shalako.checkers.model.Move;
+import com.shalako.checkers.util.TaskExecutors;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes game updates to clients subscribed over server-sent events on this node.
+ *
+ * Each update is serialised once and the same text is queued for every subscriber of the game,
+ * so spectators cost one write each. Every subscriber has its own bounded queue, written in order
+ * by one task at a time on the blocking-task executor, so a slow client never delays the move that
+ * produced the update or the other clients. A client that falls {@code maxQueuedEvents} behind is
+ * disconnected; it reconnects and starts again from the current state.
+ */
+public class GameEventBroadcaster implements GameUpdateListener, AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(GameEventBroadcaster.class);
+    static final String GAME_EVENT = "game";
+    static final String MOVE_EVENT = "move";
+
+    private final ObjectMapper objectMapper;
+    private final Settings settings;
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService writers;
+    private final ScheduledExecutorService heartbeat;
+
+    public GameEventBroadcaster(ObjectMapper objectMapper, Settings settings) {
+        this.objectMapper = objectMapper;
+        this.settings = settings;
+        this.writers = TaskExecutors.newBlockingTaskExecutor("game-events", settings.dispatchThreads());
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-events-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats,
+            settings.heartbeatIntervalMs(), settings.heartbeatIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Subscribes to a game's updates. The subscriber first receives a {@code game} event with the
+     * current state, then a {@code move} event after every move.
+     *
+     * @param gameId the game to follow
+     * @param currentState loads the game's current state; called after the subscription is registered so no move is missed
+     * @return the emitter to return from the controller, or null if the game does not exist
+     */
+    public SseEmitter subscribe(String gameId, Supplier<Game> currentState) {
+        SseEmitter emitter = new SseEmitter(settings.timeoutMs());
+        Subscriber subscriber = new Subscriber(gameId, emitter);
+        subscribers.compute(gameId, (id, gameSubscribers) -> {
+            Set<Subscriber> updated = gameSubscribers != null ? gameSubscribers : ConcurrentHashMap.newKeySet();
+            updated.add(subscriber);
+            return updated;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+
+        Game game = currentState.get();
+        if (game == null) {
+            unsubscribe(subscriber);
+            return null;
+        }
+        subscriber.enqueue(new Event(GAME_EVENT, toEventJson(game, Collections.emptyList())));
+        return emitter;
+    }
+
+    @Override
+    public void onGameUpdated(Game game, List<Move> moves) {
+        if (hasSubscribers(game.getId())) {
+            deliver(game.getId(), toEventJson(game, moves));
+        }
+    }
+
+    /**
+     * Queues an already serialised update for this node's subscribers of the game.
+     */
+    public void deliver(String gameId, String eventJson) {
+        Set<Subscriber> gameSubscribers = subscribers.get(gameId);
+        if (gameSubscribers == null) {
+            return;
+        }
+        Event event = new Event(MOVE_EVENT, eventJson);
+        for (Subscriber subscriber : gameSubscribers) {
+            subscriber.enqueue(event);
+        }
+    }
+
+    /**
+     * Serialises an update as the JSON carried by {@code game} and {@code move} events.
+     */
+    public String toEventJson(Game game, List<Move> moves) {
+        try {
+            return objectMapper.writeValueAsString(GameEventDto.fromUpdate(game, moves));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialise game event for " + game.getId(), e);
+        }
+    }
+
+    /**
+     * Returns the number of clients on this node following a game.
+     */
+    public int getSubscriberCount(String gameId) {
+        Set<Subscriber> gameSubscribers = subscribers.get(gameId);
+        return gameSubscribers != null ? gameSubscribers.size() : 0;
+    }
+
+    @Override
+    public void close() {
+        heartbeat.shutdownNow();
+        writers.shutdownNow();
+        subscribers.values().forEach(gameSubscribers -> gameSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+    }
+
+    private boolean hasSubscribers(String gameId) {
+        Set<Subscriber> gameSubscribers = subscribers.get(gameId);
+        return gameSubscribers != null && !gameSubscribers.isEmpty();
+    }
+
+    /**
+     * Queues a comment for every subscriber so proxies keep idle streams open and dead clients are noticed.
+     */
+    private void sendHeartbeats() {
+        subscribers.values().forEach(gameSubscribers -> gameSubscribers.forEach(subscriber -> subscriber.enqueue(Event.HEARTBEAT)));
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.gameId, (id, gameSubscribers) -> {
+            gameSubscribers.remove(subscriber);
+            return gameSubscribers.isEmpty() ? null : gameSubscribers;
+        });
+    }
+
+    /**
+     * An event waiting to be written; a null name marks a heartbeat comment.
+     */
+    private record Event(String name, String json) {
+        private static final Event HEARTBEAT = new Event(null, null);
+
+        private SseEmitter.SseEventBuilder toSseEvent() {
+            return name == null
+                ? SseEmitter.event().comment("heartbeat")
+                : SseEmitter.event().name(name).data(json, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    /**
+     * A client following a game and the events not yet written to it.
+     */
+    private final class Subscriber {
+        private final String gameId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Event> pending = new ArrayBlockingQueue<>(settings.maxQueuedEvents());
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(String gameId, SseEmitter emitter) {
+            this.gameId = gameId;
+            this.emitter = emitter;
+        }
+
+        private void enqueue(Event event) {
+            if (!pending.offer(event)) {
+                LOG.info("Disconnecting a client of game {} that fell {} events behind", gameId, settings.maxQueuedEvents());
+                disconnect();
+                // Completing waits for a write in progress, so leave that to a writer thread
+                try {
+                    writers.execute(emitter::complete);
+                } catch (RejectedExecutionException e) {
+                    // Shutting down
+                    emitter.complete();
+                }
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                writers.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+                draining.set(false);
+            }
+        }
+
+        /**
+         * Writes the queued events in order, then looks again for events queued while it was finishing.
+         */
+        private void drain() {
+            try {
+                for (Event event = pending.poll(); event != null; event = pending.poll()) {
+                    emitter.send(event.toSseEvent());
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away; drop it and leave the drain flag set so nothing more is written
+                disconnect();
+                return;
+            }
+            draining.set(false);
+            if (!pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void disconnect() {
+            unsubscribe(this);
+            pending.clear();
+        }
+    }
+
+    /**
+     * Settings for game event streams.
+     *
+     * @param timeoutMs how long a stream stays open before the client has to reconnect
+     * @param heartbeatIntervalMs how often idle streams get a comment line
+     * @param dispatchThreads number of platform threads writing events to clients when virtual threads are not available
+     * @param maxQueuedEvents number of events a client may fall behind before it is disconnected
+     */
+    public record Settings(long timeoutMs, long heartbeatIntervalMs, int dispatchThreads, int maxQueuedEvents) {
+        public static final Settings DEFAULT = new Settings(1_800_000, 15_000, 4, 64);
+    }
+}
@@ -0,0 +1,85 @@
+package com.shalako.checkers.api.events;
+
+import com.shalako.checkers.engine.GameUpdateListener;
+import com.shalako.checkers.model.Game;
+import com.shalako.checkers.model.Move;
+import com.shalako.checkers.util.RedisSubscription;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+/**
+ * Relays game updates between nodes over Redis pub/sub so clients receive every move of the game
+ * they follow, whichever node played it. Each update is delivered to this node's subscribers and
+ * published once as {@code nodeId|gameId|eventJson}; the other nodes pass the JSON on to their own
+ * subscribers unchanged.
+ */
+public class RedisGameEventRelay implements GameUpdateListener, AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(RedisGameEventRelay.class);
+    private static final String MESSAGE_SEPARATOR = "|";
+
+    private final GameEventBroadcaster broadcaster;
+    private final JedisPool jedisPool;
+    private final Settings settings;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RedisSubscription subscription;
+
+    public RedisGameEventRelay(GameEventBroadcaster broadcaster, JedisPool jedisPool, Settings settings) {
+        this.broadcaster = broadcaster;
+        this.jedisPool = jedisPool;
+        this.settings = settings;
+        this.subscription = new RedisSubscription(settings.endpoint(), settings.channel(), this::onRelayedEvent);
+    }
+
+    @Override
+    public void onGameUpdated(Game game, List<Move> moves) {
+        String eventJson = broadcaster.toEventJson(game, moves);
+        broadcaster.deliver(game.getId(), eventJson);
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.publish(settings.channel(), nodeId + MESSAGE_SEPARATOR + game.getId() + MESSAGE_SEPARATOR + eventJson);
+        }
+    }
+
+    /**
+     * Waits until this node is subscribed to the event channel.
+     */
+    public boolean awaitSubscribed(Duration timeout) throws InterruptedException {
+        return subscription.awaitSubscribed(timeout);
+    }
+
+    @Override
+    public void close() {
+        subscription.close();
+    }
+
+    /**
+     * Delivers an update published by another node.
+     */
+    private void onRelayedEvent(String message) {
+        String[] parts = message.split("\\|", 3);
+        if (parts.length != 3) {
+            LOG.warn("Ignoring malformed game event message");
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            // Our own update; local subscribers already have it
+            return;
+        }
+        broadcaster.deliver(parts[1], parts[2]);
+    }
+
+    /**
+     * Settings for the event relay.
+     *
+     * @param endpoint Redis server used for the subscription
+     * @param channel pub/sub channel carrying game events
+     */
+    public record Settings(HostAndPort endpoint, String channel) {
+        public static final String DEFAULT_CHANNEL = "games:events";
+    }
+}
@@ -0,0 +1,75 @@
+package com.shalako.checkers.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+
+/**
+ * Writes log entries from a background thread so request threads only pay for a queue insert.
+ * Entries are taken off the queue in batches. When the queue is full new entries are dropped
+ * rather than blocking the caller, and the number dropped is logged with the next batch.
+ */
+class AsyncLogWriter implements AutoCloseable {
+    private static final int BATCH_SIZE = 256;
+
+    private final Logger logger;
+    private final BlockingQueue<String> queue;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    AsyncLogWriter(Logger logger, int capacity, String threadName) {
+        this.logger = logger;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.thread = new Thread(this::run, threadName);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Queues an entry to be logged at INFO; returns false if the queue is full and the entry was dropped.
+     */
+    boolean offer(String entry) {
+        if (queue.offer(entry)) {
+            return true;
+        }
+        dropped.incrementAndGet();
+        return false;
+    }
+
+    private void run() {
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, BATCH_SIZE - 1);
+            write(batch);
+        }
+        // Write whatever was queued before shutdown
+        queue.drainTo(batch);
+        write(batch);
+    }
+
+    private void write(List<String> batch) {
+        for (String entry : batch) {
+            logger.info(entry);
+        }
+        batch.clear();
+        long droppedEntries = dropped.getAndSet(0);
+        if (droppedEntries > 0) {
+            logger.warn("Dropped {} log entries because the log queue was full", droppedEntries);
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        thread.interrupt();
+    }
+}
@@ -0,0 +1,126 @@
+package com.shalako.checkers.config;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+
+/**
+ * Response wrapper that keeps a copy of the first bytes of the body for logging while writing
+ * everything straight through to the client. Unlike a content-caching wrapper it never holds the
+ * whole body, so large responses cost no more memory than the cap.
+ */
+class BodyCapturingResponseWrapper extends HttpServletResponseWrapper {
+    private final int maxBytes;
+    private final ByteArrayOutputStream captured;
+    private long bodyLength;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    BodyCapturingResponseWrapper(HttpServletResponse response, int maxBytes) {
+        super(response);
+        this.maxBytes = maxBytes;
+        this.captured = new ByteArrayOutputStream(Math.min(maxBytes, 1024));
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new CapturingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        flushWriter();
+        super.flushBuffer();
+    }
+
+    /**
+     * Pushes text written through {@link #getWriter()} down to the captured stream.
+     */
+    void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Returns the captured start of the body, decoded with the response's character encoding.
+     */
+    String getCapturedBody() {
+        return captured.toString(Charset.forName(getCharacterEncoding()));
+    }
+
+    /**
+     * Returns the number of body bytes written, including those beyond the capture cap.
+     */
+    long getBodyLength() {
+        return bodyLength;
+    }
+
+    private void capture(byte[] bytes, int offset, int length) {
+        int remaining = maxBytes - captured.size();
+        if (remaining > 0) {
+            captured.write(bytes, offset, Math.min(remaining, length));
+        }
+        bodyLength += length;
+    }
+
+    private final class CapturingOutputStream extends ServletOutputStream {
+        private final ServletOutputStream delegate;
+
+        private CapturingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            if (captured.size() < maxBytes) {
+                captured.write(b);
+            }
+            bodyLength++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            delegate.write(bytes, offset, length);
+            capture(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
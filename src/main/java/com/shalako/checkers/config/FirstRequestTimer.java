@@ -0,0 +1,65 @@
+package com.shalako.checkers.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time from JVM start until the first request has been answered, the startup cost a
+ * freshly scaled-out node actually pays. It is logged once and published as the
+ * {@code application.first-request.time} metric, next to Spring Boot's {@code application.ready.time}.
+ * After the first request the filter costs one volatile read per request.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class FirstRequestTimer extends OncePerRequestFilter {
+    private volatile boolean served;
+    private volatile long firstRequestMs = -1;
+
+    public FirstRequestTimer(MeterRegistry meterRegistry) {
+        TimeGauge.builder("application.first-request.time", this, TimeUnit.MILLISECONDS, FirstRequestTimer::getFirstRequestMs)
+                .description("Time from JVM start until the first request was answered")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (!served) {
+                recordFirstRequest(request);
+            }
+        }
+    }
+
+    /**
+     * Returns the milliseconds from JVM start until the first request was answered, or NaN before then.
+     */
+    public double getFirstRequestMs() {
+        return firstRequestMs >= 0 ? firstRequestMs : Double.NaN;
+    }
+
+    private synchronized void recordFirstRequest(HttpServletRequest request) {
+        if (served) {
+            return;
+        }
+        firstRequestMs = ManagementFactory.getRuntimeMXBean().getUptime();
+        served = true;
+        log.info("Answered the first request ({} {}) {} ms after the JVM started", request.getMethod(), request.getRequestURI(), firstRequestMs);
+    }
+}
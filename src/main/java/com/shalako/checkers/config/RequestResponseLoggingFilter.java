@@ -5,79 +5,139 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
 
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
 import java.util.Collections;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
- * Filter that logs all HTTP requests and responses.
+ * Filter that logs a sample of HTTP requests and responses.
+ *
+ * Whether a request is logged is decided once, when it arrives. Requests that are not sampled pass
+ * straight through without any wrapping or buffering. Sampled requests have at most
+ * {@code logging.http.max-body-bytes} of each body captured, and their log entry is written by a
+ * background thread so the request never waits on the logger.
  */
 @Component
 @Slf4j
 public class RequestResponseLoggingFilter extends OncePerRequestFilter {
+    private static final String START_TIME_ATTRIBUTE = RequestResponseLoggingFilter.class.getName() + ".START_TIME";
+    private static final String SAMPLED_ATTRIBUTE = RequestResponseLoggingFilter.class.getName() + ".SAMPLED";
+    private static final String PDN_PATH = "/games/pdn";
+
+    private final double sampleRate;
+    private final int maxBodyBytes;
+    private final AsyncLogWriter logWriter;
+
+    public RequestResponseLoggingFilter(
+            @Value("${logging.http.sample-rate:0.01}") double sampleRate,
+            @Value("${logging.http.max-body-bytes:1024}") int maxBodyBytes,
+            @Value("${logging.http.queue-capacity:10000}") int queueCapacity) {
+        this.sampleRate = sampleRate;
+        this.maxBodyBytes = maxBodyBytes;
+        this.logWriter = new AsyncLogWriter(log, queueCapacity, "http-log-writer");
+    }
+
+    /**
+     * Asynchronous requests finish on a later dispatch, which must also pass through this filter
+     * so the response is logged.
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    /**
+     * PDN imports and exports can be very large, so they are streamed rather than captured for logging.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(PDN_PATH);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        // Wrap request and response to cache their content
-        ContentCachingRequestWrapper requestWrapper = new ContentCachingRequestWrapper(request);
-        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        if (!isAsyncDispatch(request)) {
+            request.setAttribute(SAMPLED_ATTRIBUTE, isSampled());
+        }
+        if (!Boolean.TRUE.equals(request.getAttribute(SAMPLED_ATTRIBUTE))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-        long startTime = System.currentTimeMillis();
+        // Wrap request and response to capture their bodies, reusing the wrappers on an async dispatch
+        ContentCachingRequestWrapper requestWrapper = WebUtils.getNativeRequest(request, ContentCachingRequestWrapper.class);
+        if (requestWrapper == null) {
+            requestWrapper = new ContentCachingRequestWrapper(request, maxBodyBytes);
+        }
+        BodyCapturingResponseWrapper responseWrapper = WebUtils.getNativeResponse(response, BodyCapturingResponseWrapper.class);
+        if (responseWrapper == null) {
+            responseWrapper = new BodyCapturingResponseWrapper(response, maxBodyBytes);
+        }
 
-        // Log request details before processing
-        logRequestDetails(requestWrapper);
+        if (!isAsyncDispatch(request)) {
+            request.setAttribute(START_TIME_ATTRIBUTE, System.nanoTime());
+        }
 
         try {
-            // Process the request
             filterChain.doFilter(requestWrapper, responseWrapper);
         } finally {
-            // Log response details after processing
-            long duration = System.currentTimeMillis() - startTime;
-            logResponseDetails(responseWrapper, duration);
-            
-            // Copy content back to the original response
-            responseWrapper.copyBodyToResponse();
+            // An async request has no response yet; it is logged when the final dispatch completes
+            if (!isAsyncStarted(request)) {
+                responseWrapper.flushWriter();
+                long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - (Long) request.getAttribute(START_TIME_ATTRIBUTE));
+                logWriter.offer(formatExchange(requestWrapper, responseWrapper, durationMs));
+            }
         }
     }
 
-    private void logRequestDetails(ContentCachingRequestWrapper request) {
+    @Override
+    public void destroy() {
+        logWriter.close();
+    }
+
+    private boolean isSampled() {
+        return sampleRate > 0 && log.isInfoEnabled()
+                && (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private String formatExchange(ContentCachingRequestWrapper request, BodyCapturingResponseWrapper response, long durationMs) {
         String queryString = request.getQueryString() != null ? "?" + request.getQueryString() : "";
         String headers = Collections.list(request.getHeaderNames())
                 .stream()
                 .map(headerName -> headerName + ": " + request.getHeader(headerName))
                 .collect(Collectors.joining(", "));
-        
-        log.info("REQUEST: {} {} {}", request.getMethod(), request.getRequestURI() + queryString, headers);
-        
-        // Log request body for POST, PUT, etc.
-        if (request.getContentLength() > 0) {
-            try {
-                String requestBody = getContentAsString(request.getContentAsByteArray(), request.getCharacterEncoding());
-                log.info("REQUEST BODY: {}", requestBody);
-            } catch (UnsupportedEncodingException e) {
-                log.warn("Failed to log request body", e);
-            }
-        }
-    }
 
-    private void logResponseDetails(ContentCachingResponseWrapper response, long duration) {
-        try {
-            String responseBody = getContentAsString(response.getContentAsByteArray(), response.getCharacterEncoding());
-            log.info("RESPONSE: {} ({}ms) - {}", response.getStatus(), duration, responseBody);
-        } catch (UnsupportedEncodingException e) {
-            log.warn("Failed to log response body", e);
+        StringBuilder entry = new StringBuilder(256)
+                .append("HTTP ").append(request.getMethod()).append(' ').append(request.getRequestURI()).append(queryString)
+                .append(" -> ").append(response.getStatus()).append(" (").append(durationMs).append("ms)")
+                .append(" HEADERS: ").append(headers);
+
+        byte[] requestBody = request.getContentAsByteArray();
+        if (requestBody.length > 0) {
+            entry.append(" REQUEST BODY: ")
+                    .append(new String(requestBody, Charset.forName(request.getCharacterEncoding())));
+            appendTruncation(entry, requestBody.length, request.getContentLengthLong());
+        }
+        if (response.getBodyLength() > 0) {
+            entry.append(" RESPONSE BODY: ").append(response.getCapturedBody());
+            appendTruncation(entry, Math.min(response.getBodyLength(), maxBodyBytes), response.getBodyLength());
         }
+        return entry.toString();
     }
 
-    private String getContentAsString(byte[] content, String charset) throws UnsupportedEncodingException {
-        if (content.length == 0) return "";
-        return new String(content, charset);
+    private static void appendTruncation(StringBuilder entry, long logged, long total) {
+        if (total > logged) {
+            entry.append("... (").append(total).append(" bytes)");
+        }
     }
 }
@@ -0,0 +1,28 @@
+package com.shalako.checkers.engine;
+
+import com.shalako.checkers.model.Game;
+import com.shalako.checkers.model.Move;
+import java.util.List;
+
+/**
+ * The outcome of one move of a batch: the game after it and the moves it played, or why it failed.
+ *
+ * @param gameId the game the move was for
+ * @param game the game after the move, or null if it failed
+ * @param moves the moves played, the requested one and any computer reply; empty if it failed
+ * @param error why the move was refused, or null if it was played
+ */
+public record BatchMoveResult(String gameId, Game game, List<Move> moves, RuntimeException error) {
+
+    static BatchMoveResult played(Game game, List<Move> moves) {
+        return new BatchMoveResult(game.getId(), game, List.copyOf(moves), null);
+    }
+
+    static BatchMoveResult failed(String gameId, RuntimeException error) {
+        return new BatchMoveResult(gameId, null, List.of(), error);
+    }
+
+    public boolean isPlayed() {
+        return error == null;
+    }
+}
@@ -80,4 +80,25 @@ public class ComputerPlayer {
             return regularMoves.get(random.nextInt(regularMoves.size()));
         }
     }
+
+    /**
+     * Selects a move with as little work as possible, used when the engine is overloaded: plays the
+     * longest of the first captures the rules find, or else a promotion or any move at random.
+     * Returns null if no valid moves are available.
+     */
+    public Move selectQuickMove(Game game) {
+        GameRules rules = gameRulesFactory.getRules(game.getGameType());
+        List<Move> moves = rules.getQuickMoves(game.getBoard(), game.getCurrentTurn());
+        if (moves.isEmpty()) {
+            return null;
+        }
+        if (moves.get(0).isJump()) {
+            return moves.stream().max(Comparator.comparing(move -> move.getCapturedPieces().size())).orElseThrow();
+        }
+        List<Move> promotionMoves = moves.stream().filter(Move::isPromotion).toList();
+        if (!promotionMoves.isEmpty()) {
+            return promotionMoves.get(random.nextInt(promotionMoves.size()));
+        }
+        return moves.get(random.nextInt(moves.size()));
+    }
 }
@@ -0,0 +1,249 @@
+package com.shalako.checkers.engine;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs CPU-bound engine work, such as choosing the computer's move, on a small fixed pool of
+ * platform threads. Request threads, which may be virtual threads, hand the work over and wait for
+ * the result, so searches never occupy more than {@code threads} cores and cannot starve the threads
+ * that carry I/O-bound requests. Work beyond the bounded queue is rejected with an
+ * {@link EngineOverloadedException} instead of piling up, and work that waited longer than
+ * {@code degradeAfterMs} for a thread runs its cheaper fallback so a backlog drains quickly.
+ * Queue depth, queue time, run time, busy threads, degraded and rejected tasks are published as
+ * {@code engine.*} metrics.
+ */
+public class EngineExecutor implements AutoCloseable, MeterBinder {
+    private static final Logger LOG = LoggerFactory.getLogger(EngineExecutor.class);
+    // The executor whose thread is running, so work it hands to itself runs inline
+    private static final ThreadLocal<EngineExecutor> CURRENT = new ThreadLocal<>();
+
+    private static final long MAX_RETRY_AFTER_SECONDS = 60;
+
+    private final String name;
+    private final Settings settings;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong degraded = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong queueNanos = new AtomicLong();
+    private final AtomicLong runNanos = new AtomicLong();
+
+    public EngineExecutor(Settings settings) {
+        this("engine", settings);
+    }
+
+    /**
+     * Creates an executor whose threads are named {@code <name>-N}.
+     */
+    public EngineExecutor(String name, Settings settings) {
+        this.name = name;
+        this.settings = settings;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            settings.threads(),
+            settings.threads(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(settings.queueCapacity()),
+            runnable -> {
+                Thread thread = new Thread(() -> {
+                    CURRENT.set(this);
+                    runnable.run();
+                }, name + "-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+        LOG.info("Running {} work on {} threads with a queue of {}", name, settings.threads(), settings.queueCapacity());
+    }
+
+    /**
+     * Runs a task on the engine threads and waits for its result. Exceptions thrown by the task are
+     * rethrown unchanged. Called from an engine thread, the task runs inline, as waiting for another
+     * engine thread could leave every thread waiting on work queued behind them.
+     *
+     * @throws EngineOverloadedException if all engine threads are busy and the queue is full
+     */
+    public <T> T call(Supplier<T> task) {
+        return call(task, task);
+    }
+
+    /**
+     * Like {@link #call(Supplier)}, but runs {@code fallback} instead of {@code task} if the work
+     * waited longer than {@code degradeAfterMs} for a thread.
+     */
+    public <T> T call(Supplier<T> task, Supplier<T> fallback) {
+        if (CURRENT.get() == this) {
+            return task.get();
+        }
+        Future<T> future;
+        try {
+            future = executor.submit(measured(task, fallback)::get);
+        } catch (RejectedExecutionException e) {
+            throw overloaded();
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for engine work", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Engine work failed", cause);
+        }
+    }
+
+    /**
+     * Runs a task on the engine threads without waiting for it. If the queue is full the returned
+     * future fails with an {@link EngineOverloadedException}.
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        return supplyAsync(task, task);
+    }
+
+    /**
+     * Like {@link #supplyAsync(Supplier)}, but runs {@code fallback} instead of {@code task} if the
+     * work waited longer than {@code degradeAfterMs} for a thread.
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task, Supplier<T> fallback) {
+        try {
+            return CompletableFuture.supplyAsync(measured(task, fallback), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(overloaded());
+        }
+    }
+
+    /**
+     * Returns the number of threads running engine work.
+     */
+    public int getThreads() {
+        return executor.getMaximumPoolSize();
+    }
+
+    /**
+     * Returns the number of tasks waiting for an engine thread.
+     */
+    public int getQueuedTasks() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Returns the number of tasks that can still be queued before new work is rejected.
+     */
+    public int getRemainingCapacity() {
+        return executor.getQueue().remainingCapacity();
+    }
+
+    /**
+     * Returns true if the queue is full, so new work would be rejected.
+     */
+    public boolean isSaturated() {
+        return executor.getQueue().remainingCapacity() == 0;
+    }
+
+    /**
+     * Returns roughly how long the current queue takes to drain, in whole seconds, from the average
+     * run time of the work done so far. Used as the Retry-After of rejected requests.
+     */
+    public long estimateDrainSeconds() {
+        long tasks = completed.get();
+        long averageRunNanos = tasks > 0 ? runNanos.get() / tasks : 0;
+        long drainNanos = averageRunNanos * (getQueuedTasks() + executor.getActiveCount()) / executor.getMaximumPoolSize();
+        return Math.min(MAX_RETRY_AFTER_SECONDS, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(drainNanos) + 1));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("engine.queue.depth", this, EngineExecutor::getQueuedTasks)
+            .description("Engine tasks waiting for a thread")
+            .register(registry);
+        FunctionTimer.builder("engine.queue.time", this, executor -> executor.completed.get(),
+                executor -> executor.queueNanos.get(), TimeUnit.NANOSECONDS)
+            .description("Time engine tasks waited for a thread")
+            .register(registry);
+        FunctionTimer.builder("engine.run.time", this, executor -> executor.completed.get(),
+                executor -> executor.runNanos.get(), TimeUnit.NANOSECONDS)
+            .description("Time engine tasks spent running")
+            .register(registry);
+        FunctionCounter.builder("engine.degraded", degraded, AtomicLong::get)
+            .description("Engine tasks that ran their cheaper fallback because they waited too long")
+            .register(registry);
+        Gauge.builder("engine.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Engine threads running a task")
+            .register(registry);
+        FunctionCounter.builder("engine.rejected", rejected, AtomicLong::get)
+            .description("Engine tasks rejected because the queue was full")
+            .register(registry);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * Wraps a task so its queue and run times are recorded and it degrades to the fallback after a long wait.
+     */
+    private <T> Supplier<T> measured(Supplier<T> task, Supplier<T> fallback) {
+        long queuedAt = System.nanoTime();
+        return () -> {
+            long startedAt = System.nanoTime();
+            long waited = startedAt - queuedAt;
+            boolean degrade = fallback != task && settings.degradeAfterMs() > 0
+                && waited > TimeUnit.MILLISECONDS.toNanos(settings.degradeAfterMs());
+            if (degrade) {
+                degraded.incrementAndGet();
+            }
+            try {
+                return degrade ? fallback.get() : task.get();
+            } finally {
+                queueNanos.addAndGet(waited);
+                runNanos.addAndGet(System.nanoTime() - startedAt);
+                completed.incrementAndGet();
+            }
+        };
+    }
+
+    private EngineOverloadedException overloaded() {
+        rejected.incrementAndGet();
+        return new EngineOverloadedException("The " + name + " queue is full, try again shortly", estimateDrainSeconds());
+    }
+
+    /**
+     * Settings for the engine executor.
+     *
+     * @param threads number of platform threads running engine work
+     * @param queueCapacity number of tasks that may wait for a thread before new work is rejected
+     * @param degradeAfterMs queue time after which a task runs its cheaper fallback; 0 never degrades
+     */
+    public record Settings(int threads, int queueCapacity, long degradeAfterMs) {
+        public static final Settings DEFAULT = new Settings(Runtime.getRuntime().availableProcessors(), 256, 250);
+
+        public Settings(int threads, int queueCapacity) {
+            this(threads, queueCapacity, 0);
+        }
+    }
+}
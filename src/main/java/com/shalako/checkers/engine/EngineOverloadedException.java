@@ -0,0 +1,25 @@
+package com.shalako.checkers.engine;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Thrown when engine work is refused because its queue is full. Nothing has been saved, so the
+ * request can be retried as is once the backlog has drained.
+ */
+public class EngineOverloadedException extends RejectedExecutionException {
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds;
+
+    public EngineOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Returns roughly how long the queued work takes to drain, in whole seconds.
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -1,6 +1,7 @@
 package com.shalako.checkers.engine;
 
 import com.shalako.checkers.enums.BoardSize;
+import com.shalako.checkers.enums.GameMode;
 import com.shalako.checkers.enums.GameState;
 import com.shalako.checkers.enums.PlayerColor;
 import com.shalako.checkers.engine.rules.GameRules;
@@ -11,11 +12,19 @@ import com.shalako.checkers.model.Move;
 import com.shalako.checkers.model.MoveRequest;
 import com.shalako.checkers.model.Piece;
 import com.shalako.checkers.model.Player;
-import com.shalako.checkers.model.Position;
+import com.shalako.checkers.persistence.AsyncGameRepository;
 import com.shalako.checkers.persistence.GameRepository;
+import com.shalako.checkers.persistence.GameUpdate;
+import com.shalako.checkers.util.TaskExecutors;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,15 +34,53 @@ import org.slf4j.LoggerFactory;
  */
 public class GameEngine {
     private static final Logger LOG = LoggerFactory.getLogger(GameEngine.class);
+    private static final int DEFAULT_ASYNC_THREADS = 32;
 
     private final GameRepository gameRepository;
+    private final AsyncGameRepository asyncGameRepository;
     private final GameRulesFactory gameRulesFactory;
     private final ComputerPlayer computerPlayer;
+    private final EngineExecutor engineExecutor;
+    private final Settings settings;
+    private final GameLockManager gameLocks;
+    private final LegalMoveCache legalMoveCache;
+    private final List<GameUpdateListener> updateListeners = new CopyOnWriteArrayList<>();
 
     public GameEngine(GameRepository gameRepository, GameRulesFactory gameRulesFactory) {
+        this(gameRepository, gameRulesFactory, new AsyncGameRepository(gameRepository,
+            TaskExecutors.newBlockingTaskExecutor("game-repository-async", DEFAULT_ASYNC_THREADS)));
+    }
+
+    public GameEngine(GameRepository gameRepository, GameRulesFactory gameRulesFactory,
+                      AsyncGameRepository asyncGameRepository) {
+        this(gameRepository, gameRulesFactory, asyncGameRepository, new EngineExecutor(EngineExecutor.Settings.DEFAULT));
+    }
+
+    /**
+     * Creates an engine that chooses computer moves on the given executor rather than on the request thread.
+     */
+    public GameEngine(GameRepository gameRepository, GameRulesFactory gameRulesFactory,
+                      AsyncGameRepository asyncGameRepository, EngineExecutor engineExecutor) {
+        this(gameRepository, gameRulesFactory, asyncGameRepository, engineExecutor, Settings.DEFAULT);
+    }
+
+    public GameEngine(GameRepository gameRepository, GameRulesFactory gameRulesFactory,
+                      AsyncGameRepository asyncGameRepository, EngineExecutor engineExecutor, Settings settings) {
         this.gameRepository = gameRepository;
+        this.asyncGameRepository = asyncGameRepository;
         this.gameRulesFactory = gameRulesFactory;
         this.computerPlayer = new ComputerPlayer(gameRulesFactory);
+        this.engineExecutor = engineExecutor;
+        this.settings = settings;
+        this.gameLocks = new GameLockManager();
+        this.legalMoveCache = new LegalMoveCache(new LegalMoveCache.Settings(settings.legalMoveCacheSize()));
+    }
+
+    /**
+     * Registers a listener that is told about every move once it has been saved.
+     */
+    public void addUpdateListener(GameUpdateListener listener) {
+        updateListeners.add(listener);
     }
 
     /**
@@ -56,7 +103,8 @@ public class GameEngine {
                 GameState.IN_PROGRESS,
                 game.getCreatedAt(),
                 game.getUpdatedAt(),
-                game.getGameType()
+                game.getGameType(),
+                game.getVersion()
             );
         }
         
@@ -64,111 +112,511 @@ public class GameEngine {
     }
 
     /**
-     * Gets a game by its ID.
+     * Creates several games at once and saves them in one batch.
+     * Human-vs-computer games where the computer moves first are saved with its opening move played, chosen
+     * in at most one task per engine thread before anything is saved. If the engine cannot take those tasks,
+     * no game is created.
+     *
+     * @param mode who plays the two sides; with {@link GameMode#COMPUTER_VS_COMPUTER} the player name and color are ignored
+     * @throws EngineOverloadedException if the opening moves could not be queued
      */
-    public Game getGame(String gameId) {
-        return gameRepository.getGame(gameId);
+    public List<Game> createGames(GameMode mode, BoardSize boardSize, String playerName, PlayerColor playerColor, int count) {
+        List<Game> games = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            games.add(mode == GameMode.COMPUTER_VS_COMPUTER
+                ? Game.GameFactory.createComputerVsComputerGame(boardSize)
+                : Game.GameFactory.createHumanVsComputerGame(boardSize, playerName, playerColor));
+        }
+        List<GameUpdate> updates = mode == GameMode.HUMAN_VS_COMPUTER && isComputerTurn(games.get(0))
+            ? playOpeningMoves(games)
+            : games.stream().map(GameUpdate::snapshot).toList();
+        gameRepository.saveGames(updates);
+        return updates.stream().map(GameUpdate::game).toList();
     }
 
     /**
-     * Makes a move in the game based on the move request.
+     * Plays the computer's first move in new games, split into at most one task per engine thread.
      */
-    public Game makeMove(MoveRequest moveRequest) {
-        // Load and keep an immutable snapshot to allow rollback on any failure
-        Game originalGame = gameRepository.getGame(moveRequest.getGameId());
-        if (originalGame == null) {
-            throw new IllegalArgumentException("Game not found: " + moveRequest.getGameId());
+    private List<GameUpdate> playOpeningMoves(List<Game> games) {
+        int taskCount = Math.min(engineExecutor.getThreads(), games.size());
+        List<CompletableFuture<List<GameUpdate>>> tasks = new ArrayList<>(taskCount);
+        for (int task = 0; task < taskCount; task++) {
+            List<Game> taskGames = new ArrayList<>();
+            for (int i = task; i < games.size(); i += taskCount) {
+                taskGames.add(games.get(i));
+            }
+            tasks.add(engineExecutor.supplyAsync(() -> taskGames.stream().map(game -> {
+                List<Move> played = new ArrayList<>();
+                return new GameUpdate(makeComputerMove(game, played), played);
+            }).toList()));
         }
-
+        List<GameUpdate> updates = new ArrayList<>(games.size());
         try {
-            Game game = originalGame; // work on a local reference
-
-            if (game.isGameOver()) {
-                throw new IllegalStateException("Game is already over");
+            for (CompletableFuture<List<GameUpdate>> task : tasks) {
+                updates.addAll(task.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
+            throw e;
+        }
+        return updates;
+    }
 
-            Player currentPlayer = game.getCurrentPlayer();
-            if (!currentPlayer.getId().equals(moveRequest.getPlayerId())) {
-                throw new IllegalStateException("Not your turn");
+    /**
+     * Plays the computer's moves in a game until it ends or a human is to move, then saves the game once
+     * with all the moves played. A game still running after {@code maxPlies} moves in total is adjudicated
+     * a draw, as two computers can shuffle kings forever. Runs on the calling thread, choosing moves
+     * directly rather than on the engine executor, so long self-play runs never hold up replies to players.
+     *
+     * @return the game as saved
+     */
+    public Game playToCompletion(String gameId, int maxPlies) {
+        return gameLocks.withLock(gameId, () -> {
+            Game original = requireGame(gameRepository.getGame(gameId), gameId);
+            Game game = original;
+            List<Move> played = new ArrayList<>();
+            while (isComputerTurn(game) && game.getVersion() < maxPlies) {
+                Move move = computerPlayer.selectMove(game);
+                game = move != null ? executeMove(game, move, played) : applyComputerMove(game, null, played);
             }
-            // Ensure the move request player type matches the current player's type
-            if (moveRequest.getPlayerType() != currentPlayer.getType()) {
-                throw new IllegalArgumentException("Player type in request does not match current player's type");
+            if (isComputerTurn(game)) {
+                // Adjudicated with the last move played; without one the draw takes a version of its own
+                game = withState(game, GameState.DRAW, played.isEmpty() ? game.getVersion() + 1 : game.getVersion());
+            }
+            if (game == original) {
+                return game;
+            }
+            gameRepository.saveGame(game, played);
+            notifyUpdated(new MoveOutcome(game, played));
+            LOG.info("[SELF-PLAY] gameId={}, plies={}, state={}", gameId, game.getVersion(), game.getState());
+            return game;
+        });
+    }
+
+    /**
+     * Saves games restored from outside the engine, such as a PDN import, in one batch. A game replaces a
+     * stored game with the same id only if that one is at an older version, so restoring a backup never
+     * overwrites moves played since. The games are reserved while they are checked and written, so a
+     * replacement cannot interleave with a move.
+     *
+     * @return the games not saved because the stored game is at the same or a newer version
+     */
+    public List<Game> restoreGames(List<GameUpdate> updates) {
+        List<String> gameIds = updates.stream().map(update -> update.game().getId()).distinct().toList();
+        CompletableFuture<List<Game>> restored = gameLocks.withLocksAsync(gameIds, () -> asyncGameRepository.getGamesAsync(gameIds)
+            .thenCompose(stored -> {
+                Map<String, Long> storedVersions = new HashMap<>();
+                stored.forEach(game -> storedVersions.put(game.getId(), game.getVersion()));
+                List<GameUpdate> newer = new ArrayList<>();
+                List<Game> skipped = new ArrayList<>();
+                for (GameUpdate update : updates) {
+                    Long storedVersion = storedVersions.get(update.game().getId());
+                    if (storedVersion == null || storedVersion < update.game().getVersion()) {
+                        newer.add(update);
+                    } else {
+                        skipped.add(update.game());
+                    }
+                }
+                if (newer.isEmpty()) {
+                    return CompletableFuture.completedFuture(skipped);
+                }
+                return asyncGameRepository.saveGamesAsync(newer).thenApply(ignored -> skipped);
+            }));
+        try {
+            return restored.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
+            throw e;
+        }
+    }
+
+    /**
+     * Gets a game by its ID.
+     */
+    public Game getGame(String gameId) {
+        return gameRepository.getGame(gameId);
+    }
+
+    /**
+     * Gets the current version of a game without loading it, or null if it does not exist.
+     * The version changes with every move, so it tells whether a copy of the game is still current.
+     */
+    public Long getGameVersion(String gameId) {
+        return gameRepository.getGameVersion(gameId);
+    }
+
+    /**
+     * Gets a game by its ID without blocking the caller; the future completes with null if it does not exist.
+     */
+    public CompletableFuture<Game> getGameAsync(String gameId) {
+        return asyncGameRepository.getGameAsync(gameId);
+    }
 
-            // If it's the computer's turn, delegate directly to the computer player
-            if (currentPlayer.getType() == PlayerType.COMPUTER) {
-                Game computerUpdated = makeComputerMove(game);
-                gameRepository.saveGame(computerUpdated);
-                return computerUpdated;
+    /**
+     * Gets the legal moves of the side to move, or null if the game does not exist.
+     * Moves are generated once per game version and cached, so repeated queries of an unchanged
+     * game only read its version.
+     */
+    public LegalMoves getLegalMoves(String gameId) {
+        Long version = gameRepository.getGameVersion(gameId);
+        if (version != null) {
+            LegalMoves cached = legalMoveCache.get(gameId, version);
+            if (cached != null) {
+                return cached;
             }
+        }
+        Game game = gameRepository.getGame(gameId);
+        if (game == null) {
+            return null;
+        }
+        List<Move> moves = game.isGameOver()
+            ? List.of()
+            : gameRulesFactory.getRules(game.getGameType()).getAllValidMoves(game.getBoard(), game.getCurrentTurn());
+        LegalMoves legalMoves = new LegalMoves(gameId, game.getVersion(), game.getCurrentTurn(), moves);
+        legalMoveCache.put(legalMoves);
+        return legalMoves;
+    }
+
+    /**
+     * Gets the moves that bring a client holding {@code sinceVersion} up to the given game, oldest first,
+     * or null if the client should be sent the whole game instead: because it is more than
+     * {@code maxDeltaMoves} behind, claims a version the game does not have, or the move log no longer
+     * reaches back to its version.
+     *
+     * @param game the game the client is to be brought up to
+     * @param sinceVersion the version the client holds
+     * @param latestMoves the moves that produced {@code game}, oldest first, if the caller knows them; they save reading the move log
+     */
+    public List<Move> getMovesSince(Game game, long sinceVersion, List<Move> latestMoves) {
+        long behind = game.getVersion() - sinceVersion;
+        if (behind < 0 || behind > settings.maxDeltaMoves()) {
+            return null;
+        }
+        if (behind <= latestMoves.size()) {
+            return latestMoves.subList(latestMoves.size() - (int) behind, latestMoves.size());
+        }
+        List<Move> moves = gameRepository.getMoves(game.getId(), sinceVersion);
+        // Fewer moves means the log starts after sinceVersion; more means the game has moved on since it was loaded
+        return moves.size() == behind ? moves : null;
+    }
+
+    /**
+     * Gets a page of a player's unfinished games, most recently updated first.
+     */
+    public List<Game> getActiveGamesForPlayer(String playerId, int offset, int limit) {
+        return gameRepository.getActiveGamesForPlayer(playerId, offset, limit);
+    }
+
+    /**
+     * Gets a page of finished games, most recently updated first.
+     */
+    public List<Game> getRecentlyFinishedGames(int offset, int limit) {
+        return gameRepository.getRecentlyFinishedGames(offset, limit);
+    }
+
+    /**
+     * Makes a move in the game based on the move request.
+     * Requests for the same game are serialised so concurrent moves cannot overwrite each other;
+     * requests for different games run in parallel.
+     */
+    public Game makeMove(MoveRequest moveRequest) {
+        return gameLocks.withLock(moveRequest.getGameId(), () -> makeMoveLocked(moveRequest));
+    }
 
-            // Human move: validate and execute
-            Move move = gameRulesFactory.getRules(game.getGameType()).validateMove(game, moveRequest);
+    /**
+     * Makes a move without blocking the caller. The game is loaded, the move validated and executed,
+     * the computer's move chosen on the engine executor, and the result persisted as a chain of
+     * asynchronous stages, so no thread waits for the search; the game stays reserved for this
+     * request until the chain completes, so it is serialised with both synchronous and asynchronous
+     * moves on the same game. The future fails with the same exceptions {@link #makeMove} throws,
+     * wrapped in a {@link CompletionException}.
+     */
+    public CompletableFuture<Game> makeMoveAsync(MoveRequest moveRequest) {
+        return makeMoveWithMovesAsync(moveRequest).thenApply(GameUpdate::game);
+    }
 
-            // Log human move before execution
-            Player player = game.getCurrentPlayer();
-            LOG.info("[HUMAN MOVE] gameId={}, playerId={}, playerName={}, color={}, move={}",
-                    game.getId(), player.getId(), player.getName(), player.getColor(), move);
+    /**
+     * Like {@link #makeMoveAsync}, but completes with the saved game together with the moves this
+     * request played: the human move and, unless it is deferred, the computer's reply.
+     */
+    public CompletableFuture<GameUpdate> makeMoveWithMovesAsync(MoveRequest moveRequest) {
+        String gameId = moveRequest.getGameId();
+        return gameLocks.withLockAsync(gameId, () -> asyncGameRepository.getGameAsync(gameId)
+            .thenCompose(loaded -> {
+                Game originalGame = requireGame(loaded, gameId);
+                CompletableFuture<GameUpdate> saved;
+                try {
+                    saved = playMoveAsync(originalGame, moveRequest)
+                        .thenCompose(outcome -> asyncGameRepository.saveGameAsync(outcome.game(), outcome.played())
+                            .thenApply(ignored -> {
+                                notifyUpdated(outcome);
+                                scheduleComputerReplyIfDue(outcome.game());
+                                return new GameUpdate(outcome.game(), outcome.played());
+                            }));
+                } catch (RuntimeException ex) {
+                    saved = CompletableFuture.failedFuture(ex);
+                }
+                // Same rollback as the synchronous path, performed before the failure is reported
+                return saved.exceptionallyCompose(error -> asyncGameRepository.saveGameAsync(originalGame)
+                    .handle((restored, rollbackError) -> {
+                        logRollback(originalGame, rollbackError);
+                        throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+                    }));
+            }));
+    }
 
-            // Execute the move
-            Game updatedGame = executeMove(game, move);
+    /**
+     * Makes moves for many games in one go, for clients such as bots that play lots of games at once.
+     * All games involved are reserved for the batch and loaded in one batched read. Each game's moves are then
+     * played in the order given. The games are split into at most one task per engine thread, so games
+     * proceed in parallel and a large batch takes a few queue slots rather than one per game. Every changed
+     * game is saved in a single batch write. A refused move fails on its own,
+     * and later moves for its game are played against the state before it. The results are in the order of
+     * the requests. The future fails only if saving fails, in which case every game is restored.
+     */
+    public CompletableFuture<List<BatchMoveResult>> makeMovesAsync(List<MoveRequest> moveRequests) {
+        Map<String, List<Integer>> requestsByGame = new LinkedHashMap<>();
+        for (int i = 0; i < moveRequests.size(); i++) {
+            requestsByGame.computeIfAbsent(moveRequests.get(i).getGameId(), id -> new ArrayList<>()).add(i);
+        }
+        List<String> gameIds = new ArrayList<>(requestsByGame.keySet());
 
-            // Log result state after human move execution
-            LOG.info("[STATE AFTER HUMAN MOVE] gameId={}, state={}, nextTurn={}",
-                    updatedGame.getId(), updatedGame.getState(), updatedGame.getCurrentTurn());
+        return gameLocks.withLocksAsync(gameIds, () -> asyncGameRepository.getGamesAsync(gameIds)
+            .thenCompose(loaded -> {
+                Map<String, Game> originals = new HashMap<>();
+                for (Game game : loaded) {
+                    originals.put(game.getId(), game);
+                }
+                BatchMoveResult[] results = new BatchMoveResult[moveRequests.size()];
+                int taskCount = Math.min(engineExecutor.getThreads(), gameIds.size());
+                List<List<String>> tasks = new ArrayList<>(taskCount);
+                for (int i = 0; i < taskCount; i++) {
+                    tasks.add(new ArrayList<>());
+                }
+                for (int i = 0; i < gameIds.size(); i++) {
+                    tasks.get(i % taskCount).add(gameIds.get(i));
+                }
+                List<CompletableFuture<List<GameUpdate>>> played = new ArrayList<>(taskCount);
+                for (List<String> taskGameIds : tasks) {
+                    played.add(engineExecutor.supplyAsync(() -> {
+                            List<GameUpdate> updates = new ArrayList<>(taskGameIds.size());
+                            for (String gameId : taskGameIds) {
+                                updates.add(playMoves(originals.get(gameId), gameId, moveRequests, requestsByGame.get(gameId), results));
+                            }
+                            return updates;
+                        })
+                        .exceptionally(error -> {
+                            // The engine was too busy to take these games; refuse their moves
+                            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                            RuntimeException failure = cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
+                            taskGameIds.forEach(gameId -> requestsByGame.get(gameId)
+                                .forEach(index -> results[index] = BatchMoveResult.failed(gameId, failure)));
+                            return List.of();
+                        }));
+                }
+                return CompletableFuture.allOf(played.toArray(new CompletableFuture<?>[0]))
+                    .thenCompose(ignored -> saveBatch(played.stream().flatMap(task -> task.join().stream()).toList(), originals))
+                    .thenApply(ignored -> List.of(results));
+            }));
+    }
 
-            // If it's the computer's turn, make a computer move
-            if (!updatedGame.isGameOver() && updatedGame.getCurrentPlayer().getType() == PlayerType.COMPUTER) {
-                updatedGame = makeComputerMove(updatedGame);
+    /**
+     * Plays one game's moves of a batch in order, filling in their results.
+     * Returns the game's final state with every move played, or null if none was.
+     */
+    private GameUpdate playMoves(Game original, String gameId, List<MoveRequest> moveRequests, List<Integer> indexes,
+                                 BatchMoveResult[] results) {
+        Game current = original;
+        List<Move> played = new ArrayList<>();
+        for (int index : indexes) {
+            try {
+                MoveOutcome outcome = playMove(requireGame(current, gameId), moveRequests.get(index));
+                current = outcome.game();
+                played.addAll(outcome.played());
+                results[index] = BatchMoveResult.played(outcome.game(), outcome.played());
+            } catch (RuntimeException e) {
+                results[index] = BatchMoveResult.failed(gameId, e);
             }
+        }
+        return played.isEmpty() ? null : new GameUpdate(current, played);
+    }
+
+    /**
+     * Saves the games a batch changed in one write and announces them, or restores every one of them if the write fails.
+     */
+    private CompletableFuture<Void> saveBatch(List<GameUpdate> playedGames, Map<String, Game> originals) {
+        List<GameUpdate> updates = playedGames.stream().filter(update -> update != null).toList();
+        if (updates.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return asyncGameRepository.saveGamesAsync(updates)
+            .thenRun(() -> updates.forEach(update -> {
+                notifyUpdated(new MoveOutcome(update.game(), update.moves()));
+                scheduleComputerReplyIfDue(update.game());
+            }))
+            .exceptionallyCompose(error -> {
+                List<GameUpdate> restore = updates.stream()
+                    .map(update -> GameUpdate.snapshot(originals.get(update.game().getId())))
+                    .toList();
+                return asyncGameRepository.saveGamesAsync(restore)
+                    .handle((restored, rollbackError) -> {
+                        restore.forEach(snapshot -> logRollback(snapshot.game(), rollbackError));
+                        throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+                    });
+            });
+    }
 
+    /**
+     * Loads, validates, executes and persists a move. Must be called while holding the game's lock.
+     */
+    private Game makeMoveLocked(MoveRequest moveRequest) {
+        // Load and keep an immutable snapshot to allow rollback on any failure
+        Game originalGame = requireGame(gameRepository.getGame(moveRequest.getGameId()), moveRequest.getGameId());
+
+        try {
+            MoveOutcome outcome = playMove(originalGame, moveRequest);
             // Persist the latest updated state (after human move and optional computer reply)
-            gameRepository.saveGame(updatedGame);
-            return updatedGame;
+            gameRepository.saveGame(outcome.game(), outcome.played());
+            notifyUpdated(outcome);
+            scheduleComputerReplyIfDue(outcome.game());
+            return outcome.game();
         } catch (RuntimeException ex) {
             // Explicit rollback to the original state to guarantee no partial updates remain
+            Exception rollbackError = null;
             try {
                 gameRepository.saveGame(originalGame);
-                LOG.warn("[ROLLBACK] Restored original game state after failed move: gameId={}", originalGame.getId());
             } catch (Exception saveEx) {
-                LOG.error("[ROLLBACK FAILED] Could not restore original game state: gameId={}", originalGame.getId(), saveEx);
+                rollbackError = saveEx;
             }
+            logRollback(originalGame, rollbackError);
             throw ex;
         }
     }
 
     /**
-     * Executes a validated move and updates the game state.
+     * Tells the listeners about a saved move. A failing listener is logged and does not fail the move.
      */
-    private Game executeMove(Game game, Move move) {
-        // Create a copy of the board pieces
-        Map<Position, Piece> pieces = new HashMap<>(game.getBoard().getPieces());
-        
-        // Get the piece being moved
-        Piece piece = pieces.get(move.getFrom());
-        if (piece == null) {
-            throw new IllegalStateException("No piece at position: " + move.getFrom());
+    private void notifyUpdated(MoveOutcome outcome) {
+        for (GameUpdateListener listener : updateListeners) {
+            try {
+                listener.onGameUpdated(outcome.game(), outcome.played());
+            } catch (RuntimeException e) {
+                LOG.warn("Game update listener failed: gameId={}", outcome.game().getId(), e);
+            }
         }
-        
-        // Remove the piece from its original position
-        pieces.remove(move.getFrom());
-        
-        // Check for promotion
-        if (move.isPromotion()) {
-            piece = piece.promote();
+    }
+
+    private static Game requireGame(Game game, String gameId) {
+        if (game == null) {
+            throw new GameNotFoundException(gameId);
         }
-        
-        // Place the piece at the new position
-        pieces.put(move.getTo(), piece);
-        
-        // Remove any captured pieces
-        for (Position capturedPos : move.getCapturedPieces()) {
-            pieces.remove(capturedPos);
+        return game;
+    }
+
+    private static void logRollback(Game originalGame, Throwable rollbackError) {
+        if (rollbackError == null) {
+            LOG.warn("[ROLLBACK] Restored original game state after failed move: gameId={}", originalGame.getId());
+        } else {
+            LOG.error("[ROLLBACK FAILED] Could not restore original game state: gameId={}", originalGame.getId(), rollbackError);
         }
-        
-        // Create a new board with the updated pieces
-        Board newBoard = Board.BoardFactory.createCustomBoard(game.getBoard().getSize(), pieces);
+    }
+
+    /**
+     * Validates and executes a move request against a loaded game without persisting anything.
+     * Includes the computer's reply when it is the computer's turn afterwards.
+     */
+    private MoveOutcome playMove(Game game, MoveRequest moveRequest) {
+        Player currentPlayer = checkTurn(game, moveRequest);
+        // Moves executed by this request, persisted as an append to the game's move log
+        List<Move> played = new ArrayList<>();
+
+        // If it's the computer's turn, delegate directly to the computer player
+        if (currentPlayer.getType() == PlayerType.COMPUTER) {
+            return new MoveOutcome(makeComputerMove(game, played), played);
+        }
+
+        Game updatedGame = playHumanMove(game, currentPlayer, moveRequest, played);
+        // If it's the computer's turn, make a computer move, unless it is deferred until this move is saved
+        if (!settings.deferComputerReplies() && isComputerTurn(updatedGame)) {
+            updatedGame = makeComputerMove(updatedGame, played);
+        }
+        return new MoveOutcome(updatedGame, played);
+    }
+
+    /**
+     * Like {@link #playMove}, but the computer's move is chosen on the engine executor and composed into
+     * the returned future instead of waited for. Invalid requests throw before anything is queued.
+     */
+    private CompletableFuture<MoveOutcome> playMoveAsync(Game game, MoveRequest moveRequest) {
+        Player currentPlayer = checkTurn(game, moveRequest);
+        List<Move> played = new ArrayList<>();
+
+        Game updatedGame = currentPlayer.getType() == PlayerType.COMPUTER
+            ? game
+            : playHumanMove(game, currentPlayer, moveRequest, played);
+        if (currentPlayer.getType() == PlayerType.COMPUTER
+                || (!settings.deferComputerReplies() && isComputerTurn(updatedGame))) {
+            return makeComputerMoveAsync(updatedGame, played).thenApply(replied -> new MoveOutcome(replied, played));
+        }
+        return CompletableFuture.completedFuture(new MoveOutcome(updatedGame, played));
+    }
+
+    /**
+     * Checks that the game is still running and that the request comes from the player to move.
+     * Returns that player.
+     */
+    private static Player checkTurn(Game game, MoveRequest moveRequest) {
+        if (game.isGameOver()) {
+            throw new IllegalStateException("Game is already over");
+        }
+
+        Player currentPlayer = game.getCurrentPlayer();
+        if (!currentPlayer.getId().equals(moveRequest.getPlayerId())) {
+            throw new IllegalStateException("Not your turn");
+        }
+        // Ensure the move request player type matches the current player's type
+        if (moveRequest.getPlayerType() != currentPlayer.getType()) {
+            throw new IllegalArgumentException("Player type in request does not match current player's type");
+        }
+        return currentPlayer;
+    }
+
+    /**
+     * Validates and executes a human move, appending it to {@code played}.
+     */
+    private Game playHumanMove(Game game, Player currentPlayer, MoveRequest moveRequest, List<Move> played) {
+        // Human move: validate and execute
+        Move move = gameRulesFactory.getRules(game.getGameType()).validateMove(game, moveRequest);
+
+        // Don't commit a move whose computer reply could not be queued
+        if (settings.deferComputerReplies() && engineExecutor.isSaturated()) {
+            throw new EngineOverloadedException("Engine is busy, try again shortly", engineExecutor.estimateDrainSeconds());
+        }
+
+        // Log human move before execution
+        LOG.info("[HUMAN MOVE] gameId={}, playerId={}, playerName={}, color={}, move={}",
+                game.getId(), currentPlayer.getId(), currentPlayer.getName(), currentPlayer.getColor(), move);
+
+        // Execute the move
+        Game updatedGame = executeMove(game, move, played);
+
+        // Log result state after human move execution
+        LOG.info("[STATE AFTER HUMAN MOVE] gameId={}, state={}, nextTurn={}",
+                updatedGame.getId(), updatedGame.getState(), updatedGame.getCurrentTurn());
+        return updatedGame;
+    }
+
+    /**
+     * Executes a validated move and updates the game state.
+     * The move is appended to {@code played} so it can be persisted to the game's move log.
+     */
+    private Game executeMove(Game game, Move move, List<Move> played) {
+        played.add(move);
+        Board newBoard = game.getBoard().applyMove(move);
 
         // Create a temporary game object to pass to determineGameState
         Game tempGame = Game.GameFactory.createGame(
@@ -180,7 +628,8 @@ public class GameEngine {
             game.getState(),
             game.getCreatedAt(),
             game.getUpdatedAt(),
-            game.getGameType()
+            game.getGameType(),
+            game.getVersion() + 1
         );
         
         // Check for game over conditions
@@ -196,15 +645,89 @@ public class GameEngine {
             newState,
             game.getCreatedAt(),
             Instant.now(),
-            game.getGameType()
+            game.getGameType(),
+            game.getVersion() + 1
+        );
+    }
+
+    private static Game withState(Game game, GameState state, long version) {
+        return Game.GameFactory.createGame(
+            game.getId(),
+            game.getBoard(),
+            game.getRedPlayer(),
+            game.getBlackPlayer(),
+            game.getCurrentTurn(),
+            state,
+            game.getCreatedAt(),
+            Instant.now(),
+            game.getGameType(),
+            version
         );
     }
 
+    private static boolean isComputerTurn(Game game) {
+        return !game.isGameOver() && game.getCurrentPlayer().getType() == PlayerType.COMPUTER;
+    }
+
     /**
-     * Makes a move for the computer player.
+     * With deferred replies, queues the computer's reply to a saved human move. The reply is chosen on
+     * the engine executor, then saved and announced to the update listeners like any other move; the game
+     * stays reserved for it, so a move arriving meanwhile waits for the reply and sees its result.
+     * If the reply fails, the game stays on the computer's turn and a computer move request can retry it.
      */
-    private Game makeComputerMove(Game game) {
-        Move computerMove = computerPlayer.selectMove(game);
+    private void scheduleComputerReplyIfDue(Game game) {
+        if (!settings.deferComputerReplies() || !isComputerTurn(game)) {
+            return;
+        }
+        String gameId = game.getId();
+        long expectedVersion = game.getVersion();
+        gameLocks.withLockAsync(gameId, () -> asyncGameRepository.getGameAsync(gameId)
+            .thenCompose(current -> {
+                if (current == null || current.getVersion() != expectedVersion || !isComputerTurn(current)) {
+                    // The game moved on in the meantime, for example through a computer move request
+                    return CompletableFuture.completedFuture(current);
+                }
+                List<Move> played = new ArrayList<>();
+                return makeComputerMoveAsync(current, played)
+                    .thenCompose(replied -> {
+                        MoveOutcome outcome = new MoveOutcome(replied, played);
+                        return asyncGameRepository.saveGameAsync(outcome.game(), outcome.played())
+                            .thenApply(ignored -> {
+                                notifyUpdated(outcome);
+                                return outcome.game();
+                            });
+                    });
+            }))
+            .whenComplete((replied, error) -> {
+                if (error != null) {
+                    LOG.warn("[COMPUTER REPLY FAILED] gameId={}, version={}; a computer move request will retry it",
+                            gameId, expectedVersion, error);
+                }
+            });
+    }
+
+    /**
+     * Makes a move for the computer player. The move is chosen on the engine executor, as the search is CPU-bound,
+     * and falls back to the quick move if the request already waited too long for an engine thread.
+     */
+    private Game makeComputerMove(Game game, List<Move> played) {
+        Move computerMove = engineExecutor.call(() -> computerPlayer.selectMove(game), () -> computerPlayer.selectQuickMove(game));
+        return applyComputerMove(game, computerMove, played);
+    }
+
+    /**
+     * Like {@link #makeComputerMove}, but completes once an engine thread has chosen the move instead of waiting
+     * for it. Fails with an {@link EngineOverloadedException} if the engine queue is full.
+     */
+    private CompletableFuture<Game> makeComputerMoveAsync(Game game, List<Move> played) {
+        return engineExecutor.supplyAsync(() -> computerPlayer.selectMove(game), () -> computerPlayer.selectQuickMove(game))
+            .thenApply(computerMove -> applyComputerMove(game, computerMove, played));
+    }
+
+    /**
+     * Executes the move chosen for the computer player, or ends the game if it had none.
+     */
+    private Game applyComputerMove(Game game, Move computerMove, List<Move> played) {
         Player player = game.getCurrentPlayer();
         if (computerMove == null) {
             // No valid moves, computer loses
@@ -212,23 +735,14 @@ public class GameEngine {
                                 GameState.BLACK_WON : GameState.RED_WON;
             LOG.info("[COMPUTER MOVE] gameId={}, playerId={}, playerName={}, color={}, action=NO_VALID_MOVES -> resultState={}",
                     game.getId(), player.getId(), player.getName(), player.getColor(), newState);
-            
-            return Game.GameFactory.createGame(
-                game.getId(),
-                game.getBoard(),
-                game.getRedPlayer(),
-                game.getBlackPlayer(),
-                game.getCurrentTurn(),
-                newState,
-                game.getCreatedAt(),
-                Instant.now(),
-                game.getGameType()
-            );
+
+            // The game ends without a move, but still takes a new version so ETags and caches see the change
+            return withState(game, newState, game.getVersion() + 1);
         }
         
         LOG.info("[COMPUTER MOVE] gameId={}, playerId={}, playerName={}, color={}, move={}",
                 game.getId(), player.getId(), player.getName(), player.getColor(), computerMove);
-        Game updated = executeMove(game, computerMove);
+        Game updated = executeMove(game, computerMove, played);
         LOG.info("[STATE AFTER COMPUTER MOVE] gameId={}, state={}, nextTurn={}",
                 updated.getId(), updated.getState(), updated.getCurrentTurn());
         return updated;
@@ -270,4 +784,22 @@ public class GameEngine {
 
         return GameState.IN_PROGRESS;
     }
+
+    /**
+     * The game after a move request and the moves it played, ready to be persisted.
+     */
+    private record MoveOutcome(Game game, List<Move> played) {
+    }
+
+    /**
+     * Settings for the engine.
+     *
+     * @param deferComputerReplies if true, a human move is saved and returned at once and the computer's
+     *                             reply is played in the background; if false, the reply is played before returning
+     * @param legalMoveCacheSize number of games whose legal moves are cached
+     * @param maxDeltaMoves how many moves behind a client may be and still be sent only the moves it missed
+     */
+    public record Settings(boolean deferComputerReplies, int legalMoveCacheSize, int maxDeltaMoves) {
+        public static final Settings DEFAULT = new Settings(false, LegalMoveCache.Settings.DEFAULT.maxSize(), 50);
+    }
 }
@@ -0,0 +1,108 @@
+package com.shalako.checkers.engine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Serialises operations on the same game while leaving unrelated games independent.
+ * Operations on a game form a queue: each one waits for the completion of the one before it,
+ * which works both for threads that block and for asynchronous pipelines that must keep the
+ * game to themselves across several stages without holding a thread. Two different games never
+ * share a queue, and the table only contains games currently in use.
+ */
+public class GameLockManager {
+    private final ConcurrentHashMap<String, QueueEntry> queues = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the action on the calling thread once all earlier operations on the game are done.
+     */
+    public <T> T withLock(String gameId, Supplier<T> action) {
+        Turn turn = enqueue(gameId);
+        try {
+            turn.previous().join();
+            return action.get();
+        } finally {
+            release(gameId, turn);
+        }
+    }
+
+    /**
+     * Starts the asynchronous action once all earlier operations on the game are done, and keeps
+     * later operations waiting until the future it returns completes. No thread is blocked while
+     * waiting; the action starts on the thread that completes the previous operation.
+     */
+    public <T> CompletableFuture<T> withLockAsync(String gameId, Supplier<CompletableFuture<T>> action) {
+        Turn turn = enqueue(gameId);
+        CompletableFuture<T> result = turn.previous().thenCompose(ignored -> action.get());
+        result.whenComplete((value, error) -> release(gameId, turn));
+        return result;
+    }
+
+    /**
+     * Like {@link #withLockAsync} for several games at once: the action starts once all earlier
+     * operations on every one of the games are done, and later operations on any of them wait until
+     * its future completes. The games are joined in sorted order, each only once the previous one is
+     * held, so two multi-game operations sharing games can never wait for each other in a cycle.
+     */
+    public <T> CompletableFuture<T> withLocksAsync(Collection<String> gameIds, Supplier<CompletableFuture<T>> action) {
+        List<String> ordered = gameIds.stream().distinct().sorted().toList();
+        // Filled in order as each game is reached; every stage sees the previous ones' additions
+        List<Turn> turns = new ArrayList<>(ordered.size());
+        CompletableFuture<?> held = CompletableFuture.completedFuture(null);
+        for (String gameId : ordered) {
+            held = held.thenCompose(ignored -> {
+                Turn turn = enqueue(gameId);
+                turns.add(turn);
+                return turn.previous();
+            });
+        }
+        CompletableFuture<T> result = held.thenCompose(ignored -> action.get());
+        result.whenComplete((value, error) -> {
+            for (int i = 0; i < turns.size(); i++) {
+                release(ordered.get(i), turns.get(i));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns the number of games that currently have an operation running or waiting.
+     */
+    public int getActiveLockCount() {
+        return queues.size();
+    }
+
+    private Turn enqueue(String gameId) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        CompletableFuture<?>[] previous = new CompletableFuture<?>[1];
+        // compute runs atomically per key, which keeps the queue and the reference count consistent
+        queues.compute(gameId, (id, entry) -> {
+            QueueEntry queued = entry != null ? entry : new QueueEntry();
+            queued.users++;
+            previous[0] = queued.tail;
+            queued.tail = done;
+            return queued;
+        });
+        return new Turn(previous[0], done);
+    }
+
+    private void release(String gameId, Turn turn) {
+        turn.done().complete(null);
+        queues.computeIfPresent(gameId, (id, entry) -> --entry.users == 0 ? null : entry);
+    }
+
+    private static final class QueueEntry {
+        private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+        private int users;
+    }
+
+    /**
+     * An operation's place in a game's queue: the completion of the operation before it and its own.
+     */
+    private record Turn(CompletableFuture<?> previous, CompletableFuture<Void> done) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.shalako.checkers.engine;
+
+/**
+ * Thrown when a move or lookup names a game that does not exist. It is an
+ * {@link IllegalArgumentException} for callers that treat any bad input alike, but the API
+ * answers it with 404 rather than 400.
+ */
+public class GameNotFoundException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+
+    public GameNotFoundException(String gameId) {
+        super("Game not found: " + gameId);
+    }
+}
@@ -0,0 +1,21 @@
+package com.shalako.checkers.engine;
+
+import com.shalako.checkers.model.Game;
+import com.shalako.checkers.model.Move;
+import java.util.List;
+
+/**
+ * Receives every game update the engine has persisted.
+ */
+@FunctionalInterface
+public interface GameUpdateListener {
+    /**
+     * Called after a move request has been saved. Runs on the thread that handled the request
+     * while the game is still reserved for it, so updates to one game arrive in order; listeners
+     * should hand slow work off to another thread.
+     *
+     * @param game the game as saved
+     * @param moves the moves the request played, oldest first
+     */
+    void onGameUpdated(Game game, List<Move> moves);
+}
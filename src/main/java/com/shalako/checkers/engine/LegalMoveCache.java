@@ -0,0 +1,48 @@
+package com.shalako.checkers.engine;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least-recently-used cache of the legal moves of each game. An entry holds the moves of one game
+ * version and is only returned for that version, so a move never needs an explicit invalidation:
+ * the next lookup sees a newer version, misses, and replaces the entry.
+ */
+public class LegalMoveCache {
+    private final Map<String, LegalMoves> cache;
+
+    public LegalMoveCache(Settings settings) {
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LegalMoves> eldest) {
+                return size() > settings.maxSize();
+            }
+        });
+    }
+
+    /**
+     * Returns the cached legal moves of a game at the given version, or null if they are not cached.
+     */
+    public LegalMoves get(String gameId, long version) {
+        LegalMoves legalMoves = cache.get(gameId);
+        return legalMoves != null && legalMoves.version() == version ? legalMoves : null;
+    }
+
+    /**
+     * Caches a game's legal moves, unless moves for a newer version are already cached.
+     */
+    public void put(LegalMoves legalMoves) {
+        cache.merge(legalMoves.gameId(), legalMoves,
+            (cached, generated) -> generated.version() >= cached.version() ? generated : cached);
+    }
+
+    /**
+     * Settings for the legal move cache.
+     *
+     * @param maxSize number of games whose legal moves are kept
+     */
+    public record Settings(int maxSize) {
+        public static final Settings DEFAULT = new Settings(10_000);
+    }
+}
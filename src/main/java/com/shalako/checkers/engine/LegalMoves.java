@@ -0,0 +1,19 @@
+package com.shalako.checkers.engine;
+
+import com.shalako.checkers.enums.PlayerColor;
+import com.shalako.checkers.model.Move;
+import java.util.List;
+
+/**
+ * The legal moves of the side to move in one version of a game. Empty when the game is over.
+ *
+ * @param gameId the game
+ * @param version the game version the moves were generated for
+ * @param currentTurn the side the moves belong to
+ * @param moves every legal move, with mandatory captures applied
+ */
+public record LegalMoves(String gameId, long version, PlayerColor currentTurn, List<Move> moves) {
+    public LegalMoves {
+        moves = List.copyOf(moves);
+    }
+}
@@ -0,0 +1,88 @@
+package com.shalako.checkers.engine;
+
+import com.shalako.checkers.model.Game;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Plays computer-vs-computer games to completion in the background, for load generation, engine
+ * regression runs and training data. Games run on their own pool of platform threads, separate from
+ * the engine executor, so a large self-play run never delays the computer's replies to players.
+ */
+public class SelfPlayRunner implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(SelfPlayRunner.class);
+
+    private final GameEngine gameEngine;
+    private final Settings settings;
+    private final EngineExecutor executor;
+    private final AtomicLong finished = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public SelfPlayRunner(GameEngine gameEngine, Settings settings) {
+        this.gameEngine = gameEngine;
+        this.settings = settings;
+        this.executor = new EngineExecutor("self-play", new EngineExecutor.Settings(settings.threads(), settings.queueCapacity()));
+    }
+
+    /**
+     * Queues a game to be played to completion. The future completes with the finished game, or fails
+     * with a {@link EngineOverloadedException} if the queue is full.
+     */
+    public CompletableFuture<Game> playOut(String gameId) {
+        return executor.supplyAsync(() -> gameEngine.playToCompletion(gameId, settings.maxPlies()))
+            .whenComplete((game, error) -> {
+                if (error == null) {
+                    finished.incrementAndGet();
+                } else {
+                    failed.incrementAndGet();
+                    LOG.warn("[SELF-PLAY FAILED] gameId={}", gameId, error);
+                }
+            });
+    }
+
+    /**
+     * Returns the number of games that can still be queued.
+     */
+    public int getRemainingCapacity() {
+        return executor.getRemainingCapacity();
+    }
+
+    /**
+     * Returns roughly how long the queued games take to play, in whole seconds.
+     */
+    public long estimateDrainSeconds() {
+        return executor.estimateDrainSeconds();
+    }
+
+    /**
+     * Returns the number of games played to completion so far.
+     */
+    public long getFinishedGames() {
+        return finished.get();
+    }
+
+    /**
+     * Returns the number of games that could not be played, including those rejected because the queue was full.
+     */
+    public long getFailedGames() {
+        return failed.get();
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    /**
+     * Settings for self-play.
+     *
+     * @param threads number of games played at the same time
+     * @param queueCapacity number of games that may wait to be played before new ones are rejected
+     * @param maxPlies number of moves after which a game still running is adjudicated a draw
+     */
+    public record Settings(int threads, int queueCapacity, int maxPlies) {
+        public static final Settings DEFAULT = new Settings(Runtime.getRuntime().availableProcessors(), 10_000, 400);
+    }
+}
@@ -25,7 +25,8 @@ public class AmericanCheckersRules implements GameRules {
             moveRequest.getFrom(), moveRequest.getTo(), game.getCurrentTurn());
         Board board = game.getBoard();
         Position from = moveRequest.getFrom();
-        Position to = moveRequest.getTo();
+        // With a full path, the checks below apply to its first step; the rest is checked by matching the generated jumps
+        Position to = moveRequest.getFirstLanding();
 
         if (from == null || to == null) {
             log.warn("[VALIDATION FAILED] Missing positions: from={}, to={}", from, to);
@@ -69,9 +70,9 @@ public class AmericanCheckersRules implements GameRules {
             }
 
             for (Move move : jumpMovesForPiece) {
-                // For a human player, we are just validating one leg of a multi-jump at a time.
-                // The `to` position of the request must match the second position in the move's path.
-                if (move.getPath().size() > 1 && move.getPath().get(1).equals(to)) {
+                // A request with a full path must name a whole capture sequence; otherwise the
+                // `to` position of the request must match the second position in the move's path.
+                if (moveRequest.matches(move)) {
                     log.debug("[VALIDATION PASSED] Jump move selected: {}", move);
                     return move;
                 }
@@ -80,7 +81,7 @@ public class AmericanCheckersRules implements GameRules {
             throw new IllegalArgumentException("Invalid jump");
         } else {
             for (Move move : validMovesForPiece) {
-                if (move.getTo().equals(to)) {
+                if (moveRequest.matches(move)) {
                     log.debug("[VALIDATION PASSED] Simple move selected: {} -> {}", from, to);
                     return move;
                 }
@@ -216,7 +217,8 @@ public class AmericanCheckersRules implements GameRules {
         }
     }
 
-    private List<Move> getAllValidMoves(Board board, PlayerColor color) {
+    @Override
+    public List<Move> getAllValidMoves(Board board, PlayerColor color) {
         List<Move> allMoves = new ArrayList<>();
         for (Map.Entry<Position, Piece> entry : board.getPieces().entrySet()) {
             if (entry.getValue().getColor() == color) {
@@ -226,6 +228,28 @@ public class AmericanCheckersRules implements GameRules {
         return allMoves;
     }
 
+    @Override
+    public List<Move> getQuickMoves(Board board, PlayerColor color) {
+        // Any capture satisfies the capture rule, so the first piece that can capture will do
+        for (Map.Entry<Position, Piece> entry : board.getPieces().entrySet()) {
+            if (entry.getValue().getColor() == color) {
+                List<Move> jumps = findMaximumCaptureMoves(board, entry.getKey());
+                if (!jumps.isEmpty()) {
+                    return jumps;
+                }
+            }
+        }
+
+        // No piece can capture, so simple moves are legal without checking for jumps again per piece
+        List<Move> moves = new ArrayList<>();
+        for (Map.Entry<Position, Piece> entry : board.getPieces().entrySet()) {
+            if (entry.getValue().getColor() == color) {
+                moves.addAll(getValidSimpleMoves(board, entry.getKey(), entry.getValue()));
+            }
+        }
+        return moves;
+    }
+
     private boolean isValidJump(Board board, Position from, Position capturePos, Position landingPos,
                                 Piece piece, List<Position> capturedSoFar) {
         if (!landingPos.isValidForBoard(board.getSize()) || !board.isEmpty(landingPos)) {
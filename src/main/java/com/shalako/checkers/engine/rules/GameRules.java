@@ -14,5 +14,19 @@ public interface GameRules {
 
     List<Move> getValidMoves(Board board, Position position);
 
+    /**
+     * Returns every legal move for the given side, with the capture rules already applied.
+     */
+    List<Move> getAllValidMoves(Board board, PlayerColor color);
+
+    /**
+     * Returns some of the legal moves for the given side, found with as little search as the rules
+     * allow; empty only if the side has no legal moves. Rules that do not require the longest capture
+     * can stop at the first piece that can capture.
+     */
+    default List<Move> getQuickMoves(Board board, PlayerColor color) {
+        return getAllValidMoves(board, color);
+    }
+
     boolean hasValidMoves(Board board, PlayerColor color);
 }
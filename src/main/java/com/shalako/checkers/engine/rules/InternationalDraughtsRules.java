@@ -30,7 +30,6 @@ public class InternationalDraughtsRules implements GameRules {
             moveRequest.getFrom(), moveRequest.getTo(), game.getCurrentTurn());
 
         Position from = moveRequest.getFrom();
-        Position to = moveRequest.getTo();
         Board board = game.getBoard();
         PlayerColor currentTurn = game.getCurrentTurn();
         Piece piece = board.getPieceAt(from);
@@ -52,7 +51,7 @@ public class InternationalDraughtsRules implements GameRules {
                 .collect(Collectors.toList());
 
             for (Move jump : maxJumps) {
-                if (jump.getFrom().equals(from) && jump.getPath().size() > 1 && jump.getPath().get(1).equals(to)) {
+                if (moveRequest.matches(jump)) {
                     return jump;
                 }
             }
@@ -62,7 +61,7 @@ public class InternationalDraughtsRules implements GameRules {
 
         List<Move> simpleMoves = getValidSimpleMoves(board, from, piece);
         for (Move move : simpleMoves) {
-            if (move.getTo().equals(to)) {
+            if (moveRequest.matches(move)) {
                 return move;
             }
         }
@@ -105,6 +104,30 @@ public class InternationalDraughtsRules implements GameRules {
         return false;
     }
 
+    @Override
+    public List<Move> getAllValidMoves(Board board, PlayerColor color) {
+        // Captures are generated once for the whole side rather than once per piece
+        List<Move> allJumps = findAllJumps(board, color);
+        if (!allJumps.isEmpty()) {
+            int maxCaptures = allJumps.stream()
+                    .mapToInt(m -> m.getCapturedPieces().size())
+                    .max()
+                    .orElse(0);
+
+            return allJumps.stream()
+                    .filter(m -> m.getCapturedPieces().size() == maxCaptures)
+                    .collect(Collectors.toList());
+        }
+
+        List<Move> moves = new ArrayList<>();
+        for (Map.Entry<Position, Piece> entry : board.getPieces().entrySet()) {
+            if (entry.getValue().getColor() == color) {
+                moves.addAll(getValidSimpleMoves(board, entry.getKey(), entry.getValue()));
+            }
+        }
+        return moves;
+    }
+
     private List<Move> findAllJumps(Board board, PlayerColor color) {
         List<Move> allJumps = new ArrayList<>();
         for (Map.Entry<Position, Piece> entry : board.getPieces().entrySet()) {
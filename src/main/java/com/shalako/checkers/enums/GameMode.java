@@ -0,0 +1,9 @@
+package com.shalako.checkers.enums;
+
+/**
+ * Represents who plays the two sides of a game.
+ */
+public enum GameMode {
+    HUMAN_VS_COMPUTER,
+    COMPUTER_VS_COMPUTER
+}
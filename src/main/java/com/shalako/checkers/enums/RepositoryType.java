@@ -0,0 +1,32 @@
+package com.shalako.checkers.enums;
+
+/**
+ * Represents the storage backend used for games.
+ */
+public enum RepositoryType {
+    REDIS("redis"),
+    MEMORY("memory"),
+    MMAP("mmap");
+
+    private final String propertyValue;
+
+    RepositoryType(String propertyValue) {
+        this.propertyValue = propertyValue;
+    }
+
+    public String getPropertyValue() {
+        return propertyValue;
+    }
+
+    /**
+     * Returns the repository type configured by the given property value.
+     */
+    public static RepositoryType fromPropertyValue(String value) {
+        for (RepositoryType type : values()) {
+            if (type.propertyValue.equalsIgnoreCase(value.trim())) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown game repository type: " + value);
+    }
+}
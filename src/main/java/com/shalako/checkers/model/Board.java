@@ -1,8 +1,10 @@
 package com.shalako.checkers.model;
 
 import com.shalako.checkers.enums.BoardSize;
+import com.shalako.checkers.enums.PieceType;
 import com.shalako.checkers.enums.PlayerColor;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -12,6 +14,12 @@ import lombok.Getter;
  * Represents a checkers board.
  */
 public class Board {
+    private static final char EMPTY_SQUARE = '.';
+    private static final char RED_MAN = 'r';
+    private static final char RED_KING = 'R';
+    private static final char BLACK_MAN = 'b';
+    private static final char BLACK_KING = 'B';
+
     @Getter
     private final BoardSize size;
     private final Map<Position, Piece> pieces;
@@ -42,6 +50,49 @@ public class Board {
         return new HashMap<>(pieces);
     }
 
+    /**
+     * Returns a new board with the move applied: the piece travels to the end of the move's path,
+     * captured pieces are removed and the piece is promoted if the move promotes it.
+     */
+    public Board applyMove(Move move) {
+        Map<Position, Piece> next = new HashMap<>(pieces);
+        Piece piece = next.remove(move.getFrom());
+        if (piece == null) {
+            throw new IllegalStateException("No piece at position: " + move.getFrom());
+        }
+        if (move.isPromotion()) {
+            piece = piece.promote();
+        }
+        next.put(move.getTo(), piece);
+        for (Position capturedPos : move.getCapturedPieces()) {
+            next.remove(capturedPos);
+        }
+        return new Board(size, next);
+    }
+
+    /**
+     * Encodes the board compactly as one character per square, row by row from row 0, so the square
+     * at (row, column) is character {@code row * columns + column}: '.' for an empty square, 'r'/'b'
+     * for red and black men, 'R'/'B' for red and black kings. An 8x8 board is always 64 characters.
+     */
+    public String encode() {
+        char[] squares = new char[size.getRows() * size.getColumns()];
+        Arrays.fill(squares, EMPTY_SQUARE);
+        for (Map.Entry<Position, Piece> entry : pieces.entrySet()) {
+            Position position = entry.getKey();
+            squares[position.row() * size.getColumns() + position.column()] = encodePiece(entry.getValue());
+        }
+        return new String(squares);
+    }
+
+    private static char encodePiece(Piece piece) {
+        boolean king = piece.getType() == PieceType.KING;
+        if (piece.getColor() == PlayerColor.RED) {
+            return king ? RED_KING : RED_MAN;
+        }
+        return king ? BLACK_KING : BLACK_MAN;
+    }
+
     /**
      * Returns a string representation of the board for display.
      */
@@ -148,6 +199,32 @@ public class Board {
             return new Board(size, pieces);
         }
 
+        /**
+         * Creates a board from its compact form as produced by {@link Board#encode()}.
+         */
+        public static Board decode(BoardSize size, String encoded) {
+            if (encoded.length() != size.getRows() * size.getColumns()) {
+                throw new IllegalArgumentException("Encoded board must have " + size.getRows() * size.getColumns()
+                        + " squares for " + size + " but has " + encoded.length());
+            }
+            Map<Position, Piece> pieces = new HashMap<>();
+            for (int i = 0; i < encoded.length(); i++) {
+                char square = encoded.charAt(i);
+                if (square == EMPTY_SQUARE) {
+                    continue;
+                }
+                Piece piece = switch (square) {
+                    case RED_MAN -> Piece.PieceFactory.createMan(PlayerColor.RED);
+                    case RED_KING -> Piece.PieceFactory.createKing(PlayerColor.RED);
+                    case BLACK_MAN -> Piece.PieceFactory.createMan(PlayerColor.BLACK);
+                    case BLACK_KING -> Piece.PieceFactory.createKing(PlayerColor.BLACK);
+                    default -> throw new IllegalArgumentException("Invalid encoded square: '" + square + "'");
+                };
+                pieces.put(new Position(i / size.getColumns(), i % size.getColumns()), piece);
+            }
+            return new Board(size, pieces);
+        }
+
         /**
          * Helper method to place pieces in the initial setup.
          */
@@ -24,9 +24,15 @@ public class Game {
     private final Instant createdAt;
     private final Instant updatedAt;
     private final GameType gameType;
+    /**
+     * Number of moves played so far. Every executed move produces a game with the next version,
+     * which lets caches and clients tell two states of the same game apart cheaply.
+     */
+    private final long version;
 
     private Game(String id, Board board, Player redPlayer, Player blackPlayer,
-                 PlayerColor currentTurn, GameState state, Instant createdAt, Instant updatedAt, GameType gameType) {
+                 PlayerColor currentTurn, GameState state, Instant createdAt, Instant updatedAt, GameType gameType,
+                 long version) {
         this.id = id;
         this.board = board;
         this.redPlayer = redPlayer;
@@ -36,6 +42,7 @@ public class Game {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.gameType = gameType;
+        this.version = version;
     }
 
     /**
@@ -78,6 +85,7 @@ public class Game {
                 "id='" + id + '\'' +
                 ", state=" + state +
                 ", currentTurn=" + currentTurn +
+                ", version=" + version +
                 '}';
     }
 
@@ -91,7 +99,17 @@ public class Game {
         public static Game createGame(String id, Board board, Player redPlayer, Player blackPlayer,
                                      PlayerColor currentTurn, GameState state,
                                      Instant createdAt, Instant updatedAt, GameType gameType) {
-            return new Game(id, board, redPlayer, blackPlayer, currentTurn, state, createdAt, updatedAt, gameType);
+            return new Game(id, board, redPlayer, blackPlayer, currentTurn, state, createdAt, updatedAt, gameType, 0);
+        }
+
+        /**
+         * Creates a game with the specified parameters and version.
+         */
+        public static Game createGame(String id, Board board, Player redPlayer, Player blackPlayer,
+                                     PlayerColor currentTurn, GameState state,
+                                     Instant createdAt, Instant updatedAt, GameType gameType, long version) {
+            return new Game(id, board, redPlayer, blackPlayer, currentTurn, state, createdAt, updatedAt, gameType,
+                    version);
         }
 
         /**
@@ -103,7 +121,7 @@ public class Game {
             Instant now = Instant.now();
 
             return new Game(id, board, redPlayer, blackPlayer, PlayerColor.RED,
-                           GameState.IN_PROGRESS, now, now, gameType);
+                           GameState.IN_PROGRESS, now, now, gameType, 0);
         }
 
         /**
@@ -112,14 +130,27 @@ public class Game {
         public static Game createHumanVsComputerGame(BoardSize boardSize, String playerName, PlayerColor playerColor) {
             Player humanPlayer = Player.PlayerFactory.createHumanPlayer(playerName, playerColor);
             Player computerPlayer = Player.PlayerFactory.createComputerPlayer(playerColor.getOpposite());
-            GameType gameType = (boardSize == BoardSize.TEN_BY_TEN || boardSize == BoardSize.INTERNATIONAL)
-                    ? GameType.INTERNATIONAL
-                    : GameType.STANDARD_AMERICAN;
 
             return createNewGame(boardSize,
                                 playerColor == PlayerColor.RED ? humanPlayer : computerPlayer,
                                 playerColor == PlayerColor.BLACK ? humanPlayer : computerPlayer,
-                                gameType);
+                                gameTypeFor(boardSize));
+        }
+
+        /**
+         * Creates a new game with the computer playing both sides.
+         */
+        public static Game createComputerVsComputerGame(BoardSize boardSize) {
+            return createNewGame(boardSize,
+                                Player.PlayerFactory.createComputerPlayer(PlayerColor.RED),
+                                Player.PlayerFactory.createComputerPlayer(PlayerColor.BLACK),
+                                gameTypeFor(boardSize));
+        }
+
+        private static GameType gameTypeFor(BoardSize boardSize) {
+            return (boardSize == BoardSize.TEN_BY_TEN || boardSize == BoardSize.INTERNATIONAL)
+                    ? GameType.INTERNATIONAL
+                    : GameType.STANDARD_AMERICAN;
         }
     }
 }
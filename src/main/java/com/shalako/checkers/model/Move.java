@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.Getter;
 
@@ -16,6 +17,12 @@ import lombok.Getter;
 @Getter
 public class Move {
 
+  private static final char PATH_SEPARATOR = '-';
+  private static final char CAPTURE_MARKER = 'x';
+  private static final char CAPTURE_SEPARATOR = ',';
+  private static final char PROMOTION_MARKER = '+';
+  private static final int MAX_ENCODED_INDEX = 9;
+
   private final List<Position> path;
   private final List<Position> capturedPieces;
   private final boolean promotion;
@@ -43,6 +50,37 @@ public class Move {
     return !capturedPieces.isEmpty();
   }
 
+  /**
+   * Encodes this move compactly: the path squares as {@code <row><column>} digits joined by '-',
+   * then 'x' and the captured squares joined by ',' for jumps, and a trailing '+' for promotions.
+   * For example {@code 52-43}, {@code 52-34-16x43,25} or {@code 21-10+}.
+   */
+  public String encode() {
+    StringBuilder sb = new StringBuilder(path.size() * 3 + capturedPieces.size() * 3 + 1);
+    appendSquares(sb, path, PATH_SEPARATOR);
+    if (isJump()) {
+      sb.append(CAPTURE_MARKER);
+      appendSquares(sb, capturedPieces, CAPTURE_SEPARATOR);
+    }
+    if (promotion) {
+      sb.append(PROMOTION_MARKER);
+    }
+    return sb.toString();
+  }
+
+  private static void appendSquares(StringBuilder sb, List<Position> squares, char separator) {
+    for (int i = 0; i < squares.size(); i++) {
+      Position square = squares.get(i);
+      if (square.row() > MAX_ENCODED_INDEX || square.column() > MAX_ENCODED_INDEX) {
+        throw new IllegalArgumentException("Square out of range for move encoding: " + square);
+      }
+      if (i > 0) {
+        sb.append(separator);
+      }
+      sb.append(square.row()).append(square.column());
+    }
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -101,5 +139,33 @@ public class Move {
         List<Position> path, List<Position> captured) {
       return new Move(path, captured, true);
     }
+
+    /** Creates a move from its compact form as produced by {@link Move#encode()}. */
+    public static Move decode(String encoded) {
+      String text = encoded.trim();
+      boolean promotion = text.endsWith(String.valueOf(PROMOTION_MARKER));
+      if (promotion) {
+        text = text.substring(0, text.length() - 1);
+      }
+
+      int captureIndex = text.indexOf(CAPTURE_MARKER);
+      String pathText = captureIndex >= 0 ? text.substring(0, captureIndex) : text;
+      List<Position> captured = captureIndex >= 0
+          ? parseSquares(text.substring(captureIndex + 1), CAPTURE_SEPARATOR)
+          : Collections.emptyList();
+      return new Move(parseSquares(pathText, PATH_SEPARATOR), captured, promotion);
+    }
+
+    private static List<Position> parseSquares(String text, char separator) {
+      List<Position> squares = new ArrayList<>();
+      for (String square : text.split(Pattern.quote(String.valueOf(separator)))) {
+        if (square.length() != 2
+            || !Character.isDigit(square.charAt(0)) || !Character.isDigit(square.charAt(1))) {
+          throw new IllegalArgumentException("Invalid encoded square: '" + square + "'");
+        }
+        squares.add(new Position(square.charAt(0) - '0', square.charAt(1) - '0'));
+      }
+      return squares;
+    }
   }
 }
@@ -3,6 +3,8 @@ package com.shalako.checkers.model;
 import com.shalako.checkers.enums.PlayerType;
 import lombok.Getter;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -16,6 +18,8 @@ public class MoveRequest {
     private final Position from;
     private final Position to;
     private final PlayerType playerType;
+    /** The full path of squares the piece visits, or empty if only {@code from} and {@code to} were given. */
+    private final List<Position> path;
 
     /**
      * Backward-compatible constructor that infers player type from positions.
@@ -27,6 +31,7 @@ public class MoveRequest {
         this.from = from;
         this.to = to;
         this.playerType = (from == null || to == null) ? PlayerType.COMPUTER : PlayerType.HUMAN;
+        this.path = Collections.emptyList();
     }
 
     /**
@@ -38,6 +43,48 @@ public class MoveRequest {
         this.from = from;
         this.to = to;
         this.playerType = playerType;
+        this.path = Collections.emptyList();
+    }
+
+    /**
+     * Constructor for a human move given as its full path, such as every landing square of a multi-jump.
+     */
+    private MoveRequest(String gameId, String playerId, List<Position> path) {
+        if (path == null || path.size() < 2) {
+            throw new IllegalArgumentException("Move path must contain at least two positions");
+        }
+        this.gameId = gameId;
+        this.playerId = playerId;
+        this.from = path.get(0);
+        this.to = path.get(path.size() - 1);
+        this.playerType = PlayerType.HUMAN;
+        this.path = List.copyOf(path);
+    }
+
+    /**
+     * Returns true if the request gives the full path of the move rather than just its first step.
+     */
+    public boolean hasPath() {
+        return !path.isEmpty();
+    }
+
+    /**
+     * Returns the square the piece lands on first: the second square of the path, or {@code to}.
+     */
+    public Position getFirstLanding() {
+        return hasPath() ? path.get(1) : to;
+    }
+
+    /**
+     * Returns true if the given legal move is the one requested. A request with a path matches only
+     * the move with exactly that path, so a whole multi-jump is chosen at once; a request with just
+     * {@code from} and {@code to} matches the move whose first step lands on {@code to}.
+     */
+    public boolean matches(Move move) {
+        if (hasPath()) {
+            return move.getPath().equals(path);
+        }
+        return move.getFrom().equals(from) && move.getPath().get(1).equals(to);
     }
 
     @Override
@@ -49,12 +96,13 @@ public class MoveRequest {
                Objects.equals(playerId, that.playerId) &&
                Objects.equals(from, that.from) &&
                Objects.equals(to, that.to) &&
-               playerType == that.playerType;
+               playerType == that.playerType &&
+               path.equals(that.path);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(gameId, playerId, from, to, playerType);
+        return Objects.hash(gameId, playerId, from, to, playerType, path);
     }
 
     @Override
@@ -65,6 +113,7 @@ public class MoveRequest {
                 ", from=" + from +
                 ", to=" + to +
                 ", playerType=" + playerType +
+                (hasPath() ? ", path=" + path : "") +
                 '}';
     }
 
@@ -86,6 +135,13 @@ public class MoveRequest {
             return new MoveRequest(gameId, playerId, from, to, playerType);
         }
 
+        /**
+         * Creates a human move request from the full path of the move, so a multi-jump is played in one request.
+         */
+        public static MoveRequest createMoveRequest(String gameId, String playerId, List<Position> path) {
+            return new MoveRequest(gameId, playerId, path);
+        }
+
         /**
          * Creates a new move request from string coordinates.
          * Format: "row1,col1 row2,col2"
@@ -0,0 +1,140 @@
+package com.shalako.checkers.pdn;
+
+import com.shalako.checkers.enums.PlayerColor;
+import com.shalako.checkers.model.Board;
+import com.shalako.checkers.model.Game;
+import com.shalako.checkers.model.Move;
+import com.shalako.checkers.persistence.GameRepository;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Writes games from a repository to a channel as PDN, one game at a time, so exports need
+ * memory for a single game regardless of how many are written.
+ *
+ * A game whose move log reaches back to its first move is written as the standard starting
+ * position and its moves. Otherwise, for example after a snapshot restarted the log, only its
+ * current position is written.
+ */
+public class PdnExporter {
+    private static final DateTimeFormatter PDN_DATE = DateTimeFormatter.ofPattern("yyyy.MM.dd").withZone(ZoneOffset.UTC);
+    private static final int MAX_LINE_LENGTH = 80;
+
+    private final GameRepository gameRepository;
+
+    public PdnExporter(GameRepository gameRepository) {
+        this.gameRepository = gameRepository;
+    }
+
+    /**
+     * Writes every game in the repository and returns the number written.
+     */
+    public int exportGames(WritableByteChannel channel) throws IOException {
+        return exportGames(gameRepository.getGameIds(), channel);
+    }
+
+    /**
+     * Writes the given games and returns the number written; ids of games that no longer exist are skipped.
+     * The channel is flushed but not closed.
+     */
+    public int exportGames(List<String> gameIds, WritableByteChannel channel) throws IOException {
+        Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+        int exported = 0;
+        for (String gameId : gameIds) {
+            Game game = gameRepository.getGame(gameId);
+            if (game == null) {
+                continue;
+            }
+            writer.write(toPdn(game, gameRepository.getMoves(gameId, 0)));
+            writer.write('\n');
+            exported++;
+        }
+        writer.flush();
+        return exported;
+    }
+
+    /**
+     * Formats one game as PDN.
+     *
+     * @param game the game
+     * @param moves the game's moves from its first move, or fewer if its history is incomplete
+     */
+    public static String toPdn(Game game, List<Move> moves) {
+        Board start = Board.BoardFactory.createStandardBoard(game.getBoard().getSize());
+        boolean fullHistory = moves.size() == game.getVersion() && replaysTo(start, moves, game.getBoard());
+
+        StringBuilder sb = new StringBuilder();
+        appendTag(sb, "Event", "Checkers engine game");
+        appendTag(sb, "GameId", game.getId());
+        appendTag(sb, "Date", PDN_DATE.format(game.getCreatedAt()));
+        appendTag(sb, "White", game.getRedPlayer().getName());
+        appendTag(sb, "Black", game.getBlackPlayer().getName());
+        appendTag(sb, "WhiteType", game.getRedPlayer().getType().name());
+        appendTag(sb, "BlackType", game.getBlackPlayer().getType().name());
+        appendTag(sb, "WhiteId", game.getRedPlayer().getId());
+        appendTag(sb, "BlackId", game.getBlackPlayer().getId());
+        appendTag(sb, "CreatedAt", game.getCreatedAt().toString());
+        appendTag(sb, "Result", PdnNotation.formatResult(game.getState()));
+        appendTag(sb, "GameType", PdnNotation.formatGameType(game.getGameType()));
+        appendTag(sb, "BoardSize", game.getBoard().getSize().name());
+        appendTag(sb, "FEN", fullHistory
+            ? PdnNotation.formatFen(start, PlayerColor.RED)
+            : PdnNotation.formatFen(game.getBoard(), game.getCurrentTurn()));
+        sb.append('\n');
+
+        int lineStart = sb.length();
+        if (fullHistory) {
+            for (int i = 0; i < moves.size(); i++) {
+                String token = PdnNotation.formatMove(moves.get(i), game.getBoard().getSize());
+                if (i % 2 == 0) {
+                    token = (i / 2 + 1) + ". " + token;
+                }
+                lineStart = appendWrapped(sb, token, lineStart);
+            }
+        }
+        appendWrapped(sb, PdnNotation.formatResult(game.getState()), lineStart);
+        sb.append('\n');
+        return sb.toString();
+    }
+
+    private static boolean replaysTo(Board start, List<Move> moves, Board expected) {
+        Board board = start;
+        try {
+            for (Move move : moves) {
+                board = board.applyMove(move);
+            }
+        } catch (IllegalStateException e) {
+            return false;
+        }
+        return board.equals(expected);
+    }
+
+    /**
+     * Appends a movetext token, starting a new line when the current one would get too long.
+     * Returns the index where the current line starts.
+     */
+    private static int appendWrapped(StringBuilder sb, String token, int lineStart) {
+        if (sb.length() > lineStart) {
+            if (sb.length() - lineStart + 1 + token.length() > MAX_LINE_LENGTH) {
+                sb.append('\n');
+                lineStart = sb.length();
+            } else {
+                sb.append(' ');
+            }
+        }
+        sb.append(token);
+        return lineStart;
+    }
+
+    private static void appendTag(StringBuilder sb, String name, String value) {
+        String escaped = value == null ? "" : value.replace("\\", "\\\\").replace("\"", "\\\"");
+        sb.append('[').append(name).append(" \"").append(escaped).append("\"]\n");
+    }
+}
@@ -0,0 +1,74 @@
+package com.shalako.checkers.pdn;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One game as read from a PDN file: its tag pairs and its unparsed movetext.
+ *
+ * @param tags the tag pairs, such as {@code White} or {@code FEN}
+ * @param moveText the movetext with line breaks replaced by spaces
+ */
+public record PdnGameRecord(Map<String, String> tags, String moveText) {
+
+    /**
+     * Returns the move tokens of the movetext, leaving out move numbers, comments, variations and the result.
+     */
+    public List<String> moveTokens() {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int commentDepth = 0;
+        int variationDepth = 0;
+        for (int i = 0; i < moveText.length(); i++) {
+            char c = moveText.charAt(i);
+            if (c == '{') {
+                commentDepth++;
+            } else if (c == '}' && commentDepth > 0) {
+                commentDepth--;
+            } else if (commentDepth > 0) {
+                continue;
+            } else if (c == '(') {
+                variationDepth++;
+            } else if (c == ')' && variationDepth > 0) {
+                variationDepth--;
+            } else if (variationDepth == 0 && !Character.isWhitespace(c)) {
+                current.append(c);
+                continue;
+            }
+            addToken(tokens, current);
+        }
+        addToken(tokens, current);
+        return tokens;
+    }
+
+    /**
+     * Returns the game's result: the Result tag, or a result token ending the movetext.
+     */
+    public String result() {
+        String result = tags.get("Result");
+        if (result != null) {
+            return result;
+        }
+        String trimmed = moveText.trim();
+        int lastSpace = trimmed.lastIndexOf(' ');
+        String last = trimmed.substring(lastSpace + 1);
+        return PdnNotation.isResult(last) ? last : PdnNotation.RESULT_UNFINISHED;
+    }
+
+    private static void addToken(List<String> tokens, StringBuilder current) {
+        if (current.length() == 0) {
+            return;
+        }
+        String token = current.toString();
+        current.setLength(0);
+        // Move numbers are written as "12." or "12..." and may be glued to the move that follows
+        int dot = token.lastIndexOf('.');
+        if (dot >= 0) {
+            token = token.substring(dot + 1);
+        }
+        if (!token.isEmpty() && !PdnNotation.isResult(token)) {
+            tokens.add(token);
+        }
+    }
+}
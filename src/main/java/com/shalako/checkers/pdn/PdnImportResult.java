@@ -0,0 +1,13 @@
+package com.shalako.checkers.pdn;
+
+import java.util.List;
+
+/**
+ * Outcome of a PDN import.
+ *
+ * @param imported number of games saved
+ * @param rejected number of games that could not be replayed or saved
+ * @param errors descriptions of the first rejected games
+ */
+public record PdnImportResult(int imported, int rejected, List<String> errors) {
+}
@@ -0,0 +1,312 @@
+package com.shalako.checkers.pdn;
+
+import com.shalako.checkers.engine.GameEngine;
+import com.shalako.checkers.engine.GameRulesFactory;
+import com.shalako.checkers.engine.rules.GameRules;
+import com.shalako.checkers.enums.BoardSize;
+import com.shalako.checkers.enums.GameState;
+import com.shalako.checkers.enums.GameType;
+import com.shalako.checkers.enums.PlayerColor;
+import com.shalako.checkers.enums.PlayerType;
+import com.shalako.checkers.model.Board;
+import com.shalako.checkers.model.Game;
+import com.shalako.checkers.model.Move;
+import com.shalako.checkers.model.Piece;
+import com.shalako.checkers.model.Player;
+import com.shalako.checkers.model.Position;
+import com.shalako.checkers.persistence.GameUpdate;
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Imports PDN games from a channel through the game engine.
+ *
+ * Games are read one at a time and replayed in parallel on a worker pool, each move checked
+ * against the game's {@link GameRules}; games with an illegal or unreadable move are rejected.
+ * Valid games are saved in batches together with their moves, with {@link GameEngine#restoreGames}
+ * so a game replaces a stored one with the same id only if that one is at an older version. At most a few games per worker are
+ * in flight at any time, so memory use does not depend on the size of the input.
+ */
+public class PdnImporter {
+    private static final Logger LOG = LoggerFactory.getLogger(PdnImporter.class);
+    private static final int MAX_REPORTED_ERRORS = 20;
+    private static final int IN_FLIGHT_PER_THREAD = 4;
+    private static final DateTimeFormatter PDN_DATE = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+
+    private final GameEngine gameEngine;
+    private final GameRulesFactory gameRulesFactory;
+    private final Settings settings;
+
+    public PdnImporter(GameEngine gameEngine, GameRulesFactory gameRulesFactory, Settings settings) {
+        this.gameEngine = gameEngine;
+        this.gameRulesFactory = gameRulesFactory;
+        this.settings = settings;
+    }
+
+    /**
+     * Imports every game in the channel and reports how many were imported and rejected.
+     * Games that keep their GameId tag replace an existing game with the same id at an older version;
+     * games whose stored copy is at the same or a newer version are rejected.
+     */
+    public PdnImportResult importGames(ReadableByteChannel channel) throws IOException {
+        ImportRun run = new ImportRun(settings.threads() * IN_FLIGHT_PER_THREAD);
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(settings.threads(), runnable -> {
+            Thread thread = new Thread(runnable, "pdn-import-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try (PdnReader reader = new PdnReader(channel)) {
+            int gameNumber = 0;
+            PdnGameRecord record;
+            while ((record = reader.next()) != null) {
+                int number = ++gameNumber;
+                PdnGameRecord current = record;
+                run.inFlight.acquireUninterruptibly();
+                workers.execute(() -> {
+                    try {
+                        run.add(replay(current));
+                    } catch (RuntimeException e) {
+                        run.reject("Game " + number + ": " + e.getMessage());
+                    } finally {
+                        run.inFlight.release();
+                    }
+                });
+            }
+            // Wait for the workers to finish the remaining games
+            run.inFlight.acquireUninterruptibly(run.permits);
+        } finally {
+            workers.shutdown();
+        }
+        run.flush();
+
+        PdnImportResult result = run.result();
+        LOG.info("Imported {} PDN games, rejected {}", result.imported(), result.rejected());
+        return result;
+    }
+
+    /**
+     * Replays a PDN game from its starting position, validating every move, and returns the game as saved.
+     */
+    GameUpdate replay(PdnGameRecord record) {
+        GameType gameType = PdnNotation.parseGameType(record.tags().get("GameType"));
+        BoardSize size = boardSize(record, gameType);
+        GameRules rules = gameRulesFactory.getRules(gameType);
+
+        PdnNotation.FenPosition start = startPosition(record, gameType, size);
+        Board board = start.board();
+        PlayerColor toMove = start.toMove();
+        List<Move> moves = new ArrayList<>();
+        for (String token : record.moveTokens()) {
+            Move move = findMove(rules, board, toMove, PdnNotation.parseMove(token, size));
+            if (move == null) {
+                throw new IllegalArgumentException("Illegal move " + (moves.size() + 1) + ": " + token);
+            }
+            moves.add(move);
+            board = board.applyMove(move);
+            toMove = toMove.getOpposite();
+        }
+
+        GameState state = PdnNotation.parseResult(record.result());
+        if (state == null) {
+            state = rules.hasValidMoves(board, toMove)
+                ? GameState.IN_PROGRESS
+                : (toMove == PlayerColor.RED ? GameState.BLACK_WON : GameState.RED_WON);
+        }
+
+        Instant now = Instant.now();
+        String gameId = record.tags().getOrDefault("GameId", UUID.randomUUID().toString());
+        Game game = Game.GameFactory.createGame(
+            gameId,
+            board,
+            player(record, "White", PlayerColor.RED),
+            player(record, "Black", PlayerColor.BLACK),
+            toMove,
+            state,
+            createdAt(record, now),
+            now,
+            gameType,
+            moves.size()
+        );
+        return new GameUpdate(game, moves);
+    }
+
+    /**
+     * Returns the board size for a game. PDN only implies a size through the game type, so games
+     * exported from this engine also carry their exact size in a BoardSize tag.
+     */
+    private static BoardSize boardSize(PdnGameRecord record, GameType gameType) {
+        BoardSize size = PdnNotation.boardSizeFor(gameType);
+        String tag = record.tags().get("BoardSize");
+        if (tag == null) {
+            return size;
+        }
+        BoardSize tagged = BoardSize.valueOf(tag);
+        if (tagged.getRows() != size.getRows() || tagged.getColumns() != size.getColumns()) {
+            throw new IllegalArgumentException("Board size " + tag + " does not match game type " + gameType);
+        }
+        return tagged;
+    }
+
+    /**
+     * Returns the position a game starts from: its FEN tag, or the standard position with the side
+     * PDN lets move first (Black in English draughts, White in international draughts).
+     */
+    private static PdnNotation.FenPosition startPosition(PdnGameRecord record, GameType gameType, BoardSize size) {
+        String fen = record.tags().get("FEN");
+        if (fen != null && !fen.isBlank()) {
+            return PdnNotation.parseFen(fen, size);
+        }
+        PlayerColor first = gameType == GameType.INTERNATIONAL ? PlayerColor.RED : PlayerColor.BLACK;
+        return new PdnNotation.FenPosition(Board.BoardFactory.createStandardBoard(size), first);
+    }
+
+    /**
+     * Finds the legal move matching the squares of a PDN move. A capture may be written with only its
+     * start and end squares or with every landing square.
+     */
+    private static Move findMove(GameRules rules, Board board, PlayerColor toMove, List<Position> squares) {
+        Position from = squares.get(0);
+        Piece piece = board.getPieceAt(from);
+        if (piece == null || piece.getColor() != toMove) {
+            return null;
+        }
+        Position to = squares.get(squares.size() - 1);
+        for (Move candidate : rules.getValidMoves(board, from)) {
+            boolean sameEnd = candidate.getTo().equals(to);
+            boolean samePath = squares.size() == 2 || candidate.getPath().equals(squares);
+            if (sameEnd && samePath) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static Player player(PdnGameRecord record, String side, PlayerColor color) {
+        String name = record.tags().getOrDefault(side, side);
+        String type = record.tags().get(side + "Type");
+        PlayerType playerType = PlayerType.COMPUTER.name().equals(type) ? PlayerType.COMPUTER : PlayerType.HUMAN;
+        String id = record.tags().getOrDefault(side + "Id", UUID.randomUUID().toString());
+        return Player.PlayerFactory.createPlayer(id, name, playerType, color);
+    }
+
+    /**
+     * Returns when a game was created: the exact time from a CreatedAt tag written by this engine,
+     * else the start of the day in its Date tag, else {@code fallback}. PDN allows unknown parts of a
+     * date to be written as question marks, so an unreadable date is not an error.
+     */
+    private static Instant createdAt(PdnGameRecord record, Instant fallback) {
+        try {
+            String createdAt = record.tags().get("CreatedAt");
+            if (createdAt != null) {
+                return Instant.parse(createdAt);
+            }
+            String date = record.tags().get("Date");
+            if (date != null) {
+                return LocalDate.parse(date, PDN_DATE).atStartOfDay(ZoneOffset.UTC).toInstant();
+            }
+        } catch (DateTimeParseException e) {
+            LOG.debug("Unreadable PDN date, using the import time", e);
+        }
+        return fallback;
+    }
+
+    /**
+     * The state of one import: games waiting to be saved, counts and the first few errors.
+     */
+    private final class ImportRun {
+        private final int permits;
+        private final Semaphore inFlight;
+        private final List<GameUpdate> pending = new ArrayList<>();
+        private final List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger imported = new AtomicInteger();
+        private final AtomicInteger rejected = new AtomicInteger();
+
+        private ImportRun(int permits) {
+            this.permits = permits;
+            this.inFlight = new Semaphore(permits);
+        }
+
+        private void add(GameUpdate update) {
+            List<GameUpdate> batch = null;
+            synchronized (pending) {
+                pending.add(update);
+                if (pending.size() >= settings.batchSize()) {
+                    batch = new ArrayList<>(pending);
+                    pending.clear();
+                }
+            }
+            if (batch != null) {
+                save(batch);
+            }
+        }
+
+        private void flush() {
+            List<GameUpdate> batch;
+            synchronized (pending) {
+                batch = new ArrayList<>(pending);
+                pending.clear();
+            }
+            if (!batch.isEmpty()) {
+                save(batch);
+            }
+        }
+
+        private void save(List<GameUpdate> batch) {
+            try {
+                List<Game> skipped = gameEngine.restoreGames(batch);
+                imported.addAndGet(batch.size() - skipped.size());
+                for (Game game : skipped) {
+                    reject("Game " + game.getId() + ": a game with this id is already stored at the same or a newer version");
+                }
+            } catch (RuntimeException e) {
+                LOG.warn("Failed to save a batch of {} imported games", batch.size(), e);
+                rejected.addAndGet(batch.size());
+                recordError("Failed to save " + batch.size() + " games: " + e.getMessage());
+            }
+        }
+
+        private void reject(String error) {
+            rejected.incrementAndGet();
+            recordError(error);
+        }
+
+        private void recordError(String error) {
+            synchronized (errors) {
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(error);
+                }
+            }
+        }
+
+        private PdnImportResult result() {
+            return new PdnImportResult(imported.get(), rejected.get(), List.copyOf(errors));
+        }
+    }
+
+    /**
+     * Settings for PDN imports.
+     *
+     * @param threads number of games replayed in parallel
+     * @param batchSize number of games saved per repository call
+     */
+    public record Settings(int threads, int batchSize) {
+        public static final Settings DEFAULT = new Settings(Runtime.getRuntime().availableProcessors(), 100);
+    }
+}
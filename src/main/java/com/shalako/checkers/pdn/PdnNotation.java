@@ -0,0 +1,252 @@
+package com.shalako.checkers.pdn;
+
+import com.shalako.checkers.enums.BoardSize;
+import com.shalako.checkers.enums.GameState;
+import com.shalako.checkers.enums.GameType;
+import com.shalako.checkers.enums.PieceType;
+import com.shalako.checkers.enums.PlayerColor;
+import com.shalako.checkers.model.Board;
+import com.shalako.checkers.model.Move;
+import com.shalako.checkers.model.Piece;
+import com.shalako.checkers.model.Position;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Conversions between the engine's model and Portable Draughts Notation.
+ *
+ * Dark squares are numbered in reading order from row 0, so 1-32 on an 8x8 board and 1-50 on a
+ * 10x10 board. Red plays from the high-numbered side and is written as PDN "White", Black as
+ * "Black". Because red moves first in this engine, unlike standard PDN, every exported game
+ * carries a FEN tag naming the side to move.
+ */
+public final class PdnNotation {
+    public static final String RESULT_WHITE_WINS = "2-0";
+    public static final String RESULT_BLACK_WINS = "0-2";
+    public static final String RESULT_DRAW = "1-1";
+    public static final String RESULT_UNFINISHED = "*";
+
+    private static final String PDN_TYPE_ENGLISH = "21";
+    private static final String PDN_TYPE_INTERNATIONAL = "20";
+    private static final Set<String> RESULT_TOKENS =
+        Set.of(RESULT_WHITE_WINS, RESULT_BLACK_WINS, RESULT_DRAW, RESULT_UNFINISHED, "1-0", "0-1", "1/2-1/2");
+
+    private PdnNotation() {
+    }
+
+    /**
+     * Returns the PDN square number of a dark square.
+     */
+    public static int toSquare(Position position, BoardSize size) {
+        return position.row() * (size.getColumns() / 2) + position.column() / 2 + 1;
+    }
+
+    /**
+     * Returns the position of a PDN square number.
+     */
+    public static Position toPosition(int square, BoardSize size) {
+        int perRow = size.getColumns() / 2;
+        if (square < 1 || square > perRow * size.getRows()) {
+            throw new IllegalArgumentException("Square " + square + " is not on a " + size + " board");
+        }
+        int row = (square - 1) / perRow;
+        int column = 2 * ((square - 1) % perRow) + (row % 2 == 0 ? 1 : 0);
+        return new Position(row, column);
+    }
+
+    /**
+     * Formats a move as PDN movetext: squares joined by '-' for a simple move or by 'x' for a capture,
+     * listing every landing square of a multi-jump.
+     */
+    public static String formatMove(Move move, BoardSize size) {
+        StringBuilder sb = new StringBuilder();
+        char separator = move.isJump() ? 'x' : '-';
+        for (Position position : move.getPath()) {
+            if (sb.length() > 0) {
+                sb.append(separator);
+            }
+            sb.append(toSquare(position, size));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Parses PDN movetext for one move into its squares, ignoring trailing annotations such as '!' or '?'.
+     */
+    public static List<Position> parseMove(String token, BoardSize size) {
+        String text = token.replaceAll("[!?]+$", "");
+        List<Position> squares = new ArrayList<>();
+        for (String square : text.split("[-x:]")) {
+            if (square.isEmpty() || !square.chars().allMatch(Character::isDigit)) {
+                throw new IllegalArgumentException("Invalid PDN move: '" + token + "'");
+            }
+            squares.add(toPosition(Integer.parseInt(square), size));
+        }
+        if (squares.size() < 2) {
+            throw new IllegalArgumentException("Invalid PDN move: '" + token + "'");
+        }
+        return squares;
+    }
+
+    /**
+     * Returns whether a movetext token is a game result.
+     */
+    public static boolean isResult(String token) {
+        return RESULT_TOKENS.contains(token);
+    }
+
+    /**
+     * Formats the PDN result for a game state.
+     */
+    public static String formatResult(GameState state) {
+        switch (state) {
+            case RED_WON:
+                return RESULT_WHITE_WINS;
+            case BLACK_WON:
+                return RESULT_BLACK_WINS;
+            case DRAW:
+                return RESULT_DRAW;
+            default:
+                return RESULT_UNFINISHED;
+        }
+    }
+
+    /**
+     * Returns the game state for a PDN result, or null if the result does not end the game.
+     */
+    public static GameState parseResult(String result) {
+        if (result == null) {
+            return null;
+        }
+        switch (result) {
+            case RESULT_WHITE_WINS:
+            case "1-0":
+                return GameState.RED_WON;
+            case RESULT_BLACK_WINS:
+            case "0-1":
+                return GameState.BLACK_WON;
+            case RESULT_DRAW:
+            case "1/2-1/2":
+                return GameState.DRAW;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the value of the PDN GameType tag for a rule set.
+     */
+    public static String formatGameType(GameType gameType) {
+        return gameType == GameType.INTERNATIONAL ? PDN_TYPE_INTERNATIONAL : PDN_TYPE_ENGLISH;
+    }
+
+    /**
+     * Returns the rule set for a PDN GameType tag; the tag may carry extra comma-separated fields.
+     * Games without the tag are English draughts, as in the PDN standard.
+     */
+    public static GameType parseGameType(String tag) {
+        if (tag == null) {
+            return GameType.STANDARD_AMERICAN;
+        }
+        String type = tag.split(",")[0].trim();
+        if (PDN_TYPE_ENGLISH.equals(type)) {
+            return GameType.STANDARD_AMERICAN;
+        }
+        if (PDN_TYPE_INTERNATIONAL.equals(type)) {
+            return GameType.INTERNATIONAL;
+        }
+        throw new IllegalArgumentException("Unsupported PDN game type: " + tag);
+    }
+
+    /**
+     * Returns the board size used for a rule set.
+     */
+    public static BoardSize boardSizeFor(GameType gameType) {
+        return gameType == GameType.INTERNATIONAL ? BoardSize.TEN_BY_TEN : BoardSize.EIGHT_BY_EIGHT;
+    }
+
+    /**
+     * Formats a position as a PDN FEN tag value, for example {@code W:W21,22,K30:B1,2}.
+     */
+    public static String formatFen(Board board, PlayerColor toMove) {
+        Map<Integer, Piece> white = new TreeMap<>();
+        Map<Integer, Piece> black = new TreeMap<>();
+        board.getPieces().forEach((position, piece) ->
+            (piece.getColor() == PlayerColor.RED ? white : black).put(toSquare(position, board.getSize()), piece));
+
+        return (toMove == PlayerColor.RED ? "W" : "B")
+            + ":W" + formatFenPieces(white)
+            + ":B" + formatFenPieces(black);
+    }
+
+    /**
+     * Parses a PDN FEN tag value into a board of the given size.
+     */
+    public static FenPosition parseFen(String fen, BoardSize size) {
+        String[] fields = fen.trim().replace("\"", "").split(":");
+        if (fields.length < 1 || fields[0].isEmpty()) {
+            throw new IllegalArgumentException("Invalid FEN: " + fen);
+        }
+        PlayerColor toMove = parseFenColor(fields[0].charAt(0), fen);
+        Map<Position, Piece> pieces = new HashMap<>();
+        for (int i = 1; i < fields.length; i++) {
+            if (fields[i].isEmpty()) {
+                continue;
+            }
+            PlayerColor color = parseFenColor(fields[i].charAt(0), fen);
+            for (String entry : fields[i].substring(1).split(",")) {
+                addFenPieces(pieces, entry.trim(), color, size);
+            }
+        }
+        return new FenPosition(Board.BoardFactory.createCustomBoard(size, pieces), toMove);
+    }
+
+    private static String formatFenPieces(Map<Integer, Piece> pieces) {
+        StringBuilder sb = new StringBuilder();
+        pieces.forEach((square, piece) -> {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            if (piece.getType() == PieceType.KING) {
+                sb.append('K');
+            }
+            sb.append(square);
+        });
+        return sb.toString();
+    }
+
+    private static void addFenPieces(Map<Position, Piece> pieces, String entry, PlayerColor color, BoardSize size) {
+        if (entry.isEmpty()) {
+            return;
+        }
+        boolean king = entry.startsWith("K");
+        String squares = king ? entry.substring(1) : entry;
+        String[] range = squares.split("-");
+        int first = Integer.parseInt(range[0]);
+        int last = range.length > 1 ? Integer.parseInt(range[1]) : first;
+        for (int square = first; square <= last; square++) {
+            Piece piece = king ? Piece.PieceFactory.createKing(color) : Piece.PieceFactory.createMan(color);
+            pieces.put(toPosition(square, size), piece);
+        }
+    }
+
+    private static PlayerColor parseFenColor(char side, String fen) {
+        if (side == 'W') {
+            return PlayerColor.RED;
+        }
+        if (side == 'B') {
+            return PlayerColor.BLACK;
+        }
+        throw new IllegalArgumentException("Invalid FEN side '" + side + "': " + fen);
+    }
+
+    /**
+     * A position read from a FEN tag: the board and the side to move.
+     */
+    public record FenPosition(Board board, PlayerColor toMove) {
+    }
+}
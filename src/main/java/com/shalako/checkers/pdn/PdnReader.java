@@ -0,0 +1,91 @@
+package com.shalako.checkers.pdn;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads PDN games one at a time from a channel. Only the game being read is held in memory, so
+ * files of any size can be processed. A game is a block of tag lines followed by movetext; it ends
+ * at a blank line or where the next game's tags begin.
+ */
+public class PdnReader implements Closeable {
+    private static final Pattern TAG_PATTERN = Pattern.compile("^\\[\\s*(\\w+)\\s+\"(.*)\"\\s*]\\s*$");
+
+    private final BufferedReader reader;
+    private String pendingLine;
+
+    public PdnReader(ReadableByteChannel channel) {
+        this.reader = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads the next game, or returns null at the end of the input.
+     */
+    public PdnGameRecord next() throws IOException {
+        String line = nextNonBlankLine();
+        if (line == null) {
+            return null;
+        }
+
+        Map<String, String> tags = new LinkedHashMap<>();
+        while (line != null && line.startsWith("[")) {
+            Matcher matcher = TAG_PATTERN.matcher(line);
+            if (matcher.matches()) {
+                tags.put(matcher.group(1), matcher.group(2).replace("\\\"", "\"").replace("\\\\", "\\"));
+            }
+            line = readLine();
+        }
+
+        // Movetext may follow the tags after blank lines
+        while (line != null && line.isBlank()) {
+            line = readLine();
+        }
+
+        StringBuilder moveText = new StringBuilder();
+        while (line != null && !line.isBlank()) {
+            if (line.startsWith("[")) {
+                // The next game starts without a blank line in between
+                pendingLine = line;
+                break;
+            }
+            moveText.append(line.trim()).append(' ');
+            line = readLine();
+        }
+        return new PdnGameRecord(tags, moveText.toString().trim());
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String nextNonBlankLine() throws IOException {
+        String line = readLine();
+        while (line != null && line.isBlank()) {
+            line = readLine();
+        }
+        return line;
+    }
+
+    private String readLine() throws IOException {
+        if (pendingLine != null) {
+            String line = pendingLine;
+            pendingLine = null;
+            return line;
+        }
+        String line = reader.readLine();
+        // Drop a byte order mark at the start of the file
+        if (line != null && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+            line = line.substring(1);
+        }
+        return line;
+    }
+}
@@ -0,0 +1,94 @@
+package com.shalako.checkers.persistence;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Periodically resizes Redis connection pools to the concurrency they actually see.
+ * Each interval the peak number of callers that held or waited for a connection is taken from the
+ * pool, and the pool's maximum size is set to that peak plus a quarter of headroom, within the
+ * configured bounds. Pools grow to the target at once so queued borrows are released quickly, and
+ * shrink halfway towards it per interval so a short lull does not drop connections that will be
+ * needed again.
+ */
+public class AdaptiveJedisPoolSizer implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveJedisPoolSizer.class);
+    private static final double HEADROOM = 1.25;
+
+    private final List<InstrumentedJedisPool> pools;
+    private final Settings settings;
+    private final ScheduledExecutorService scheduler;
+
+    public AdaptiveJedisPoolSizer(List<InstrumentedJedisPool> pools, Settings settings) {
+        this.pools = List.copyOf(pools);
+        this.settings = settings;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "redis-pool-sizer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = settings.interval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::resizeSafely, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Resizes every pool once from the demand observed since the previous resize.
+     */
+    public void resize() {
+        for (InstrumentedJedisPool pool : pools) {
+            int current = pool.getMaxTotal();
+            int size = nextSize(current, targetSize(pool.takePeakDemand()));
+            if (size == current) {
+                continue;
+            }
+            LOG.info("Resizing Redis connection pool from {} to {} connections", current, size);
+            pool.setMaxTotal(size);
+            pool.setMaxIdle(Math.max(pool.getMinIdle(), size / 2));
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private int targetSize(int peakDemand) {
+        int target = (int) Math.ceil(peakDemand * HEADROOM);
+        return Math.max(settings.minTotal(), Math.min(settings.maxTotal(), target));
+    }
+
+    private static int nextSize(int current, int target) {
+        if (target >= current) {
+            return target;
+        }
+        return current - (current - target + 1) / 2;
+    }
+
+    private void resizeSafely() {
+        try {
+            resize();
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to resize Redis connection pools", e);
+        }
+    }
+
+    /**
+     * Bounds and frequency of pool resizing.
+     *
+     * @param minTotal the smallest pool size
+     * @param maxTotal the largest pool size
+     * @param interval how often pools are resized
+     */
+    public record Settings(int minTotal, int maxTotal, Duration interval) {
+        public Settings {
+            if (minTotal < 1 || maxTotal < minTotal) {
+                throw new IllegalArgumentException("Pool size bounds must satisfy 1 <= min <= max");
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.shalako.checkers.persistence;
+
+import com.shalako.checkers.model.Game;
+import com.shalako.checkers.model.Move;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Non-blocking view of a {@link GameRepository}. Every call runs on the given executor and
+ * returns a future, so callers such as request handlers never wait for Redis themselves.
+ * With a virtual-thread executor the blocking client calls underneath are cheap to park,
+ * and the number of calls in flight is bounded by the connection pool rather than by threads.
+ */
+public class AsyncGameRepository implements AutoCloseable {
+    private final GameRepository delegate;
+    private final ExecutorService executor;
+
+    public AsyncGameRepository(GameRepository delegate, ExecutorService executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    /**
+     * Loads a game; the future completes with null if the game does not exist.
+     */
+    public CompletableFuture<Game> getGameAsync(String gameId) {
+        return CompletableFuture.supplyAsync(() -> delegate.getGame(gameId), executor);
+    }
+
+    /**
+     * Loads several games in one batched read. The result lists the games in the order of the ids,
+     * leaving out games that do not exist.
+     */
+    public CompletableFuture<List<Game>> getGamesAsync(List<String> gameIds) {
+        return CompletableFuture.supplyAsync(() -> delegate.getGames(gameIds), executor);
+    }
+
+    /**
+     * Saves a game as a full snapshot.
+     */
+    public CompletableFuture<Game> saveGameAsync(Game game) {
+        return CompletableFuture.supplyAsync(() -> delegate.saveGame(game), executor);
+    }
+
+    /**
+     * Saves a game together with the moves played since its last save.
+     */
+    public CompletableFuture<Game> saveGameAsync(Game game, List<Move> moves) {
+        return CompletableFuture.supplyAsync(() -> delegate.saveGame(game, moves), executor);
+    }
+
+    /**
+     * Saves several games in one batch.
+     */
+    public CompletableFuture<Void> saveGamesAsync(List<GameUpdate> updates) {
+        return CompletableFuture.runAsync(() -> delegate.saveGames(updates), executor);
+    }
+
+    /**
+     * Deletes a game; the future completes with whether it existed.
+     */
+    public CompletableFuture<Boolean> deleteGameAsync(String gameId) {
+        return CompletableFuture.supplyAsync(() -> delegate.deleteGame(gameId), executor);
+    }
+
+    /**
+     * Stops the executor. Calls already submitted still complete.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,163 @@
+package com.shalako.checkers.persistence;
+
+import com.shalako.checkers.enums.GameState;
+import com.shalako.checkers.enums.GameType;
+import com.shalako.checkers.model.Game;
+import com.shalako.checkers.model.Move;
+import com.shalako.checkers.util.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Coalesces concurrent reads of the same game. When spectators and polling clients ask for a hot
+ * game at once, one load goes to the delegate and every caller waiting on it gets the same game,
+ * so a burst of reads costs one round trip. Version reads, used for ETag checks, are coalesced the
+ * same way. A save or delete detaches the loads in flight for its game, so a read that starts after
+ * the save returns never receives a game loaded before it. Shared and delegated reads are published
+ * as {@code game.repository.reads} metrics.
+ */
+public class CoalescingGameRepository implements GameRepository, MeterBinder, AutoCloseable {
+    private final GameRepository delegate;
+    private final SingleFlight<String, Game> gameLoads = new SingleFlight<>();
+    private final SingleFlight<String, Long> versionLoads = new SingleFlight<>();
+
+    public CoalescingGameRepository(GameRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Game saveGame(Game game) {
+        delegate.saveGame(game);
+        forget(game.getId());
+        return game;
+    }
+
+    @Override
+    public Game saveGame(Game game, List<Move> moves) {
+        delegate.saveGame(game, moves);
+        forget(game.getId());
+        return game;
+    }
+
+    @Override
+    public void saveGames(List<GameUpdate> updates) {
+        delegate.saveGames(updates);
+        updates.forEach(update -> forget(update.game().getId()));
+    }
+
+    @Override
+    public Game getGame(String gameId) {
+        return gameLoads.load(gameId, delegate::getGame);
+    }
+
+    @Override
+    public List<Game> getGames(List<String> gameIds) {
+        return delegate.getGames(gameIds);
+    }
+
+    @Override
+    public Long getGameVersion(String gameId) {
+        return versionLoads.load(gameId, delegate::getGameVersion);
+    }
+
+    @Override
+    public List<Move> getMoves(String gameId, long fromVersion) {
+        return delegate.getMoves(gameId, fromVersion);
+    }
+
+    @Override
+    public List<Game> getAllGames() {
+        return delegate.getAllGames();
+    }
+
+    @Override
+    public List<String> getGameIds() {
+        return delegate.getGameIds();
+    }
+
+    @Override
+    public List<Game> getActiveGamesForPlayer(String playerId, int offset, int limit) {
+        return delegate.getActiveGamesForPlayer(playerId, offset, limit);
+    }
+
+    @Override
+    public List<Game> getRecentlyFinishedGames(int offset, int limit) {
+        return delegate.getRecentlyFinishedGames(offset, limit);
+    }
+
+    @Override
+    public List<String> getGameIdsByState(GameState state) {
+        return delegate.getGameIdsByState(state);
+    }
+
+    @Override
+    public List<String> getGameIdsByType(GameType gameType) {
+        return delegate.getGameIdsByType(gameType);
+    }
+
+    @Override
+    public List<String> getGameIdsUpdatedBefore(Instant finishedBefore, Instant unfinishedBefore) {
+        return delegate.getGameIdsUpdatedBefore(finishedBefore, unfinishedBefore);
+    }
+
+    @Override
+    public boolean deleteGame(String gameId) {
+        boolean deleted = delegate.deleteGame(gameId);
+        forget(gameId);
+        return deleted;
+    }
+
+    @Override
+    public boolean deleteGame(String gameId, long expectedVersion) {
+        boolean deleted = delegate.deleteGame(gameId, expectedVersion);
+        forget(gameId);
+        return deleted;
+    }
+
+    /**
+     * Returns the number of game and version reads served by a load another caller started.
+     */
+    public long getSharedReads() {
+        return gameLoads.getSharedCount() + versionLoads.getSharedCount();
+    }
+
+    /**
+     * Returns the number of game and version reads passed on to the delegate.
+     */
+    public long getDelegatedReads() {
+        return gameLoads.getLoadCount() + versionLoads.getLoadCount();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("game.repository.reads", this, CoalescingGameRepository::getSharedReads)
+            .tag("result", "shared")
+            .description("Game reads served by a load already in flight")
+            .register(registry);
+        FunctionCounter.builder("game.repository.reads", this, CoalescingGameRepository::getDelegatedReads)
+            .tag("result", "loaded")
+            .description("Game reads passed on to storage")
+            .register(registry);
+    }
+
+    @Override
+    public void close() {
+        if (delegate instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to close the game repository", e);
+            }
+        }
+    }
+
+    private void forget(String gameId) {
+        gameLoads.forget(gameId);
+        versionLoads.forget(gameId);
+    }
+}
@@ -0,0 +1,288 @@
+package com.shalako.checkers.persistence;
+
+import com.shalako.checkers.model.Game;
+import com.shalako.checkers.model.Move;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only local archive for games that have been removed from the live repository.
+ *
+ * Each record holds the game id in plain text followed by a gzip-compressed, checksummed blob with
+ * the game and its move log. A separate index file maps game ids to record offsets so single games
+ * can be retrieved without scanning; it is only an accelerator, and records missing from it (for
+ * example after a crash between the two appends) are re-indexed from the archive on startup. A
+ * partially written record at the end of the archive is truncated away.
+ */
+public class GameArchive implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(GameArchive.class);
+    private static final String ARCHIVE_FILE = "games.archive";
+    private static final String INDEX_FILE = "games.archive.idx";
+    private static final int RECORD_MAGIC = 0x47415243; // "GARC"
+    // magic, id length, id bytes, blob length, blob crc
+    private static final int FIXED_HEADER_SIZE = Integer.BYTES + Short.BYTES + Integer.BYTES + Integer.BYTES;
+
+    private final Path directory;
+    private final FileChannel archive;
+    private final FileChannel index;
+    private final Map<String, Long> offsets = new HashMap<>();
+
+    public GameArchive(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+            this.archive = FileChannel.open(directory.resolve(ARCHIVE_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.index = FileChannel.open(directory.resolve(INDEX_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open game archive in " + directory, e);
+        }
+    }
+
+    /**
+     * Appends a game and its moves to the archive and forces both files to disk, so the caller
+     * can safely delete the live copy afterwards. Archiving a game again supersedes the old record.
+     */
+    public synchronized void archive(Game game, List<Move> moves) {
+        try {
+            byte[] record = encodeRecord(game, moves);
+            long offset = archive.size();
+            writeFully(archive, ByteBuffer.wrap(record), offset);
+            archive.force(false);
+
+            appendIndexEntry(game.getId(), offset);
+            index.force(false);
+            offsets.put(game.getId(), offset);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to archive game " + game.getId(), e);
+        }
+    }
+
+    /**
+     * Reads an archived game, or returns null if the game was never archived.
+     */
+    public synchronized ArchivedGame getGame(String gameId) {
+        Long offset = offsets.get(gameId);
+        if (offset == null) {
+            return null;
+        }
+        try {
+            RecordHeader header = readHeader(offset);
+            ByteBuffer blob = ByteBuffer.allocate(header.blobLength());
+            readFully(archive, blob, header.blobOffset());
+            return decodeBlob(blob.array());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read archived game " + gameId, e);
+        }
+    }
+
+    /**
+     * Returns the number of distinct games in the archive.
+     */
+    public synchronized int size() {
+        return offsets.size();
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            archive.close();
+            index.close();
+        } catch (IOException e) {
+            LOG.warn("Failed to close game archive in {}", directory, e);
+        }
+    }
+
+    private byte[] encodeRecord(Game game, List<Move> moves) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(compressed))) {
+            byte[] gameBytes = GameRecordCodec.encode(game);
+            out.writeInt(gameBytes.length);
+            out.write(gameBytes);
+            out.writeInt(moves.size());
+            for (Move move : moves) {
+                out.writeUTF(move.encode());
+            }
+        }
+        byte[] blob = compressed.toByteArray();
+        byte[] id = game.getId().getBytes(StandardCharsets.UTF_8);
+
+        ByteBuffer record = ByteBuffer.allocate(FIXED_HEADER_SIZE + id.length + blob.length);
+        record.putInt(RECORD_MAGIC);
+        record.putShort((short) id.length);
+        record.put(id);
+        record.putInt(blob.length);
+        record.putInt(crc(blob));
+        record.put(blob);
+        return record.array();
+    }
+
+    private ArchivedGame decodeBlob(byte[] blob) throws IOException {
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(blob)))) {
+            byte[] gameBytes = new byte[in.readInt()];
+            in.readFully(gameBytes);
+            int moveCount = in.readInt();
+            List<Move> moves = new ArrayList<>(moveCount);
+            for (int i = 0; i < moveCount; i++) {
+                moves.add(Move.MoveFactory.decode(in.readUTF()));
+            }
+            return new ArchivedGame(GameRecordCodec.decode(gameBytes), moves);
+        }
+    }
+
+    private void appendIndexEntry(String gameId, long offset) throws IOException {
+        byte[] id = gameId.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer entry = ByteBuffer.allocate(Short.BYTES + id.length + Long.BYTES);
+        entry.putShort((short) id.length);
+        entry.put(id);
+        entry.putLong(offset);
+        entry.flip();
+        writeFully(index, entry, index.size());
+    }
+
+    /**
+     * Loads the index, then indexes any archive records past the last indexed one and cuts off
+     * a torn record at the end of either file.
+     */
+    private void recover() throws IOException {
+        long indexEnd = loadIndex();
+        if (indexEnd < index.size()) {
+            index.truncate(indexEnd);
+        }
+
+        long position = offsets.values().stream().mapToLong(Long::longValue).max().orElse(-1L);
+        position = position < 0 ? 0 : readHeader(position).end();
+        int reindexed = 0;
+        while (position < archive.size()) {
+            RecordHeader header;
+            try {
+                header = readHeader(position);
+            } catch (IOException e) {
+                break;
+            }
+            if (header.end() > archive.size() || !hasValidBlob(header)) {
+                break;
+            }
+            appendIndexEntry(header.gameId(), position);
+            offsets.put(header.gameId(), position);
+            position = header.end();
+            reindexed++;
+        }
+        if (position < archive.size()) {
+            LOG.warn("Truncating {} bytes of incomplete records from {}", archive.size() - position, ARCHIVE_FILE);
+            archive.truncate(position);
+        }
+        if (reindexed > 0) {
+            index.force(false);
+        }
+        LOG.info("Opened game archive in {} with {} games ({} re-indexed)", directory, offsets.size(), reindexed);
+    }
+
+    /**
+     * Reads index entries and returns the position just past the last complete one.
+     */
+    private long loadIndex() throws IOException {
+        ByteBuffer content = ByteBuffer.allocate((int) index.size());
+        readFully(index, content, 0);
+        content.flip();
+
+        long end = 0;
+        while (content.remaining() >= Short.BYTES) {
+            int idLength = content.getShort();
+            if (content.remaining() < idLength + Long.BYTES) {
+                break;
+            }
+            byte[] id = new byte[idLength];
+            content.get(id);
+            long offset = content.getLong();
+            if (offset >= archive.size()) {
+                break;
+            }
+            offsets.put(new String(id, StandardCharsets.UTF_8), offset);
+            end = content.position();
+        }
+        return end;
+    }
+
+    private RecordHeader readHeader(long offset) throws IOException {
+        ByteBuffer prefix = ByteBuffer.allocate(Integer.BYTES + Short.BYTES);
+        readFully(archive, prefix, offset);
+        prefix.flip();
+        if (prefix.getInt() != RECORD_MAGIC) {
+            throw new IOException("No archive record at offset " + offset);
+        }
+        int idLength = prefix.getShort();
+
+        ByteBuffer rest = ByteBuffer.allocate(idLength + Integer.BYTES + Integer.BYTES);
+        readFully(archive, rest, offset + prefix.capacity());
+        rest.flip();
+        byte[] id = new byte[idLength];
+        rest.get(id);
+        int blobLength = rest.getInt();
+        int blobCrc = rest.getInt();
+        long blobOffset = offset + FIXED_HEADER_SIZE + idLength;
+        return new RecordHeader(new String(id, StandardCharsets.UTF_8), blobOffset, blobLength, blobCrc);
+    }
+
+    private boolean hasValidBlob(RecordHeader header) throws IOException {
+        ByteBuffer blob = ByteBuffer.allocate(header.blobLength());
+        readFully(archive, blob, header.blobOffset());
+        return crc(blob.array()) == header.blobCrc();
+    }
+
+    private static int crc(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return (int) crc.getValue();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of archive at " + position);
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * A game read back from the archive together with its move log.
+     */
+    public record ArchivedGame(Game game, List<Move> moves) {
+    }
+
+    private record RecordHeader(String gameId, long blobOffset, int blobLength, int blobCrc) {
+        long end() {
+            return blobOffset + blobLength;
+        }
+    }
+}
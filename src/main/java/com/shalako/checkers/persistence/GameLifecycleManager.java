@@ -0,0 +1,118 @@
+package com.shalako.checkers.persistence;
+
+import com.shalako.checkers.model.Game;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Background sweeper that moves finished and abandoned games out of the live repository.
+ * A finished game is archived once it has been over for {@code finishedRetention}, and a game
+ * still in progress once nobody has saved it for {@code idleRetention}; each is appended to
+ * the {@link GameArchive} and only then deleted. Candidates come from the repository's
+ * update-time index, so only games that are due are loaded. Ids left behind by games the store
+ * already dropped (for example through a Redis TTL) are cleaned up on the way.
+ *
+ * A game is only deleted if it is still at the version that was archived. If a move lands while
+ * it is being archived, the game stays live, and once it is due again a later sweep archives it,
+ * superseding the older record.
+ */
+public class GameLifecycleManager implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(GameLifecycleManager.class);
+
+    private final GameRepository repository;
+    private final GameArchive archive;
+    private final Settings settings;
+    private final ScheduledExecutorService scheduler;
+
+    public GameLifecycleManager(GameRepository repository, GameArchive archive, Settings settings) {
+        this.repository = repository;
+        this.archive = archive;
+        this.settings = settings;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-lifecycle");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = settings.sweepInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::runSweep, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Archives and deletes every game that is past its retention period.
+     *
+     * @return the number of games archived
+     */
+    public int sweep() {
+        Instant now = Instant.now();
+        int archived = 0;
+        int stale = 0;
+        int changed = 0;
+        List<String> candidates = repository.getGameIdsUpdatedBefore(
+                now.minus(settings.finishedRetention()), now.minus(settings.idleRetention()));
+        for (String gameId : candidates) {
+            Game game = repository.getGame(gameId);
+            if (game == null) {
+                // Expired from the store but still listed
+                repository.deleteGame(gameId);
+                stale++;
+                continue;
+            }
+            if (!isExpired(game, now)) {
+                continue;
+            }
+            archive.archive(game, repository.getMoves(gameId, 0));
+            if (repository.deleteGame(gameId, game.getVersion())) {
+                archived++;
+            } else {
+                changed++;
+            }
+        }
+        if (archived > 0 || stale > 0 || changed > 0) {
+            LOG.info("Archived {} games, kept {} that changed while being archived and removed {} stale ids",
+                    archived, changed, stale);
+        }
+        return archived;
+    }
+
+    /**
+     * Returns a game from the archive, or null if it was never archived.
+     */
+    public GameArchive.ArchivedGame getArchivedGame(String gameId) {
+        return archive.getGame(gameId);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        archive.close();
+    }
+
+    private boolean isExpired(Game game, Instant now) {
+        Duration retention = game.isGameOver() ? settings.finishedRetention() : settings.idleRetention();
+        return game.getUpdatedAt().plus(retention).isBefore(now);
+    }
+
+    private void runSweep() {
+        try {
+            sweep();
+        } catch (RuntimeException e) {
+            LOG.error("Game lifecycle sweep failed", e);
+        }
+    }
+
+    /**
+     * Tuning for the lifecycle manager.
+     *
+     * @param finishedRetention how long a finished game stays live after its last update
+     * @param idleRetention how long an unfinished game may go without a save before it is archived
+     * @param sweepInterval time between sweeps
+     */
+    public record Settings(Duration finishedRetention, Duration idleRetention, Duration sweepInterval) {
+    }
+}
@@ -0,0 +1,125 @@
+package com.shalako.checkers.persistence;
+
+import com.shalako.checkers.enums.BoardSize;
+import com.shalako.checkers.enums.GameState;
+import com.shalako.checkers.enums.GameType;
+import com.shalako.checkers.enums.PieceType;
+import com.shalako.checkers.enums.PlayerColor;
+import com.shalako.checkers.enums.PlayerType;
+import com.shalako.checkers.model.Board;
+import com.shalako.checkers.model.Game;
+import com.shalako.checkers.model.Piece;
+import com.shalako.checkers.model.Player;
+import com.shalako.checkers.model.Position;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Binary encoding of a complete game, used by the file based repositories.
+ * Enum constants are stored by name so that reordering an enum does not corrupt stored games.
+ */
+public final class GameRecordCodec {
+    private static final byte FORMAT_VERSION = 1;
+
+    private GameRecordCodec() {
+    }
+
+    /**
+     * Encodes a game, including its players and every piece on the board.
+     */
+    public static byte[] encode(Game game) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeUTF(game.getId());
+            out.writeLong(game.getVersion());
+            out.writeUTF(game.getState().name());
+            out.writeUTF(game.getCurrentTurn().name());
+            out.writeUTF(game.getGameType().name());
+            writeInstant(out, game.getCreatedAt());
+            writeInstant(out, game.getUpdatedAt());
+            writePlayer(out, game.getRedPlayer());
+            writePlayer(out, game.getBlackPlayer());
+
+            Board board = game.getBoard();
+            out.writeUTF(board.getSize().name());
+            Map<Position, Piece> pieces = board.getPieces();
+            out.writeShort(pieces.size());
+            for (Map.Entry<Position, Piece> entry : pieces.entrySet()) {
+                out.writeByte(entry.getKey().row());
+                out.writeByte(entry.getKey().column());
+                out.writeBoolean(entry.getValue().getColor() == PlayerColor.RED);
+                out.writeBoolean(entry.getValue().getType() == PieceType.KING);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a game written by {@link #encode(Game)}.
+     *
+     * @throws IllegalArgumentException if the bytes are not a game record of a known format
+     */
+    public static Game decode(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte format = in.readByte();
+            if (format != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported game record format: " + format);
+            }
+            String id = in.readUTF();
+            long version = in.readLong();
+            GameState state = GameState.valueOf(in.readUTF());
+            PlayerColor currentTurn = PlayerColor.valueOf(in.readUTF());
+            GameType gameType = GameType.valueOf(in.readUTF());
+            Instant createdAt = readInstant(in);
+            Instant updatedAt = readInstant(in);
+            Player redPlayer = readPlayer(in, PlayerColor.RED);
+            Player blackPlayer = readPlayer(in, PlayerColor.BLACK);
+
+            BoardSize boardSize = BoardSize.valueOf(in.readUTF());
+            int pieceCount = in.readShort();
+            Map<Position, Piece> pieces = new HashMap<>();
+            for (int i = 0; i < pieceCount; i++) {
+                Position position = new Position(in.readByte(), in.readByte());
+                PlayerColor color = in.readBoolean() ? PlayerColor.RED : PlayerColor.BLACK;
+                Piece piece = in.readBoolean()
+                    ? Piece.PieceFactory.createKing(color)
+                    : Piece.PieceFactory.createMan(color);
+                pieces.put(position, piece);
+            }
+
+            return Game.GameFactory.createGame(id, Board.BoardFactory.createCustomBoard(boardSize, pieces),
+                redPlayer, blackPlayer, currentTurn, state, createdAt, updatedAt, gameType, version);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Truncated game record", e);
+        }
+    }
+
+    private static void writePlayer(DataOutputStream out, Player player) throws IOException {
+        out.writeUTF(player.getId());
+        out.writeUTF(player.getName());
+        out.writeUTF(player.getType().name());
+    }
+
+    private static Player readPlayer(DataInputStream in, PlayerColor color) throws IOException {
+        return Player.PlayerFactory.createPlayer(in.readUTF(), in.readUTF(), PlayerType.valueOf(in.readUTF()), color);
+    }
+
+    private static void writeInstant(DataOutputStream out, Instant instant) throws IOException {
+        out.writeLong(instant.getEpochSecond());
+        out.writeInt(instant.getNano());
+    }
+
+    private static Instant readInstant(DataInputStream in) throws IOException {
+        return Instant.ofEpochSecond(in.readLong(), in.readInt());
+    }
+}
@@ -1,8 +1,16 @@
 package com.shalako.checkers.persistence;
 
+import com.shalako.checkers.enums.GameState;
+import com.shalako.checkers.enums.GameType;
 import com.shalako.checkers.model.Game;
+import com.shalako.checkers.model.Move;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Repository interface for game persistence.
@@ -16,6 +24,30 @@ public interface GameRepository {
      * @return The saved game
      */
     Game saveGame(Game game);
+
+    /**
+     * Saves a game together with the moves that produced it from the previously saved version.
+     * Repositories that keep a move log append the moves instead of rewriting the whole game.
+     *
+     * @param game The game to save
+     * @param moves The moves played since the last save, oldest first
+     * @return The saved game
+     */
+    default Game saveGame(Game game, List<Move> moves) {
+        return saveGame(game);
+    }
+
+    /**
+     * Saves several games at once. Implementations backed by a remote store
+     * should override this to write the whole batch in a single round trip.
+     *
+     * @param updates The games to save, each with the moves played since its last save
+     */
+    default void saveGames(List<GameUpdate> updates) {
+        for (GameUpdate update : updates) {
+            saveGame(update.game(), update.moves());
+        }
+    }
     
     /**
      * Gets a game by its ID.
@@ -24,6 +56,24 @@ public interface GameRepository {
      * @return The game, or null if not found
      */
     Game getGame(String gameId);
+
+    /**
+     * Gets several games at once. Repositories that can load them in fewer round trips than one
+     * per game override this.
+     *
+     * @param gameIds The IDs of the games to retrieve
+     * @return The games in the order of the IDs, leaving out games that do not exist
+     */
+    default List<Game> getGames(List<String> gameIds) {
+        List<Game> games = new ArrayList<>(gameIds.size());
+        for (String gameId : gameIds) {
+            Game game = getGame(gameId);
+            if (game != null) {
+                games.add(game);
+            }
+        }
+        return games;
+    }
     
     /**
      * Gets all games in the repository.
@@ -31,6 +81,15 @@ public interface GameRepository {
      * @return A list of all games
      */
     List<Game> getAllGames();
+
+    /**
+     * Gets the IDs of all games in the repository without loading the games.
+     *
+     * @return A list of all game IDs
+     */
+    default List<String> getGameIds() {
+        return getAllGames().stream().map(Game::getId).collect(Collectors.toList());
+    }
     
     /**
      * Deletes a game from the repository.
@@ -39,4 +98,119 @@ public interface GameRepository {
      * @return true if the game was deleted, false otherwise
      */
     boolean deleteGame(String gameId);
+
+    /**
+     * Deletes a game only if it is still at the given version, so a save that landed in the meantime is kept.
+     * The default implementation checks and deletes in two steps; repositories that can do both at once override it.
+     *
+     * @param gameId The ID of the game to delete
+     * @param expectedVersion The version the game must still have
+     * @return true if the game was deleted, false if it changed or does not exist
+     */
+    default boolean deleteGame(String gameId, long expectedVersion) {
+        Long version = getGameVersion(gameId);
+        return version != null && version == expectedVersion && deleteGame(gameId);
+    }
+
+    /**
+     * Gets the current version of a game without loading it, so callers can tell whether it changed.
+     * The default implementation loads the game; repositories that can read the version alone override it.
+     *
+     * @param gameId The ID of the game
+     * @return The game's version, or null if it does not exist
+     */
+    default Long getGameVersion(String gameId) {
+        Game game = getGame(gameId);
+        return game != null ? game.getVersion() : null;
+    }
+
+    /**
+     * Gets the moves played in a game after the given version, oldest first.
+     * Repositories without a move log return an empty list, and a log may not reach back
+     * to the requested version, so callers should check the number of moves returned.
+     *
+     * @param gameId The ID of the game
+     * @param fromVersion The version after which moves are returned; 0 for the whole game
+     * @return The moves played after {@code fromVersion}
+     */
+    default List<Move> getMoves(String gameId, long fromVersion) {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Gets a page of a player's games that are not over yet, most recently updated first.
+     * The default implementation scans all games; indexed repositories override it.
+     *
+     * @param playerId The ID of the player
+     * @param offset The number of games to skip
+     * @param limit The maximum number of games to return
+     * @return The games on the requested page
+     */
+    default List<Game> getActiveGamesForPlayer(String playerId, int offset, int limit) {
+        return getAllGames().stream()
+                .filter(game -> !game.isGameOver())
+                .filter(game -> game.getRedPlayer().getId().equals(playerId) || game.getBlackPlayer().getId().equals(playerId))
+                .sorted(Comparator.comparing(Game::getUpdatedAt).reversed())
+                .skip(offset)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets a page of finished games, most recently updated first.
+     * The default implementation scans all games; indexed repositories override it.
+     *
+     * @param offset The number of games to skip
+     * @param limit The maximum number of games to return
+     * @return The games on the requested page
+     */
+    default List<Game> getRecentlyFinishedGames(int offset, int limit) {
+        return getAllGames().stream()
+                .filter(Game::isGameOver)
+                .sorted(Comparator.comparing(Game::getUpdatedAt).reversed())
+                .skip(offset)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the IDs of all games in the given state.
+     *
+     * @param state The game state
+     * @return The IDs of the games in that state
+     */
+    default List<String> getGameIdsByState(GameState state) {
+        return getAllGames().stream()
+                .filter(game -> game.getState() == state)
+                .map(Game::getId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the IDs of the games last updated before a cut-off, with separate cut-offs for finished and unfinished games.
+     * The default implementation scans all games; indexed repositories override it.
+     *
+     * @param finishedBefore The cut-off for finished games
+     * @param unfinishedBefore The cut-off for games still in progress
+     * @return The IDs of the games updated before their cut-off
+     */
+    default List<String> getGameIdsUpdatedBefore(Instant finishedBefore, Instant unfinishedBefore) {
+        return getAllGames().stream()
+                .filter(game -> game.getUpdatedAt().isBefore(game.isGameOver() ? finishedBefore : unfinishedBefore))
+                .map(Game::getId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the IDs of all games with the given rule set.
+     *
+     * @param gameType The game type
+     * @return The IDs of the games of that type
+     */
+    default List<String> getGameIdsByType(GameType gameType) {
+        return getAllGames().stream()
+                .filter(game -> game.getGameType() == gameType)
+                .map(Game::getId)
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,34 @@
+package com.shalako.checkers.persistence;
+
+import com.shalako.checkers.model.Game;
+import com.shalako.checkers.model.Move;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A game state to persist together with the moves that led to it from the previously saved version.
+ * An update without moves asks the repository to store a full snapshot of the game.
+ *
+ * @param game The game state to save
+ * @param moves The moves played since the last saved version, oldest first
+ */
+public record GameUpdate(Game game, List<Move> moves) {
+
+    public GameUpdate {
+        moves = moves != null ? List.copyOf(moves) : Collections.emptyList();
+    }
+
+    /**
+     * Creates an update that stores the game as a full snapshot.
+     */
+    public static GameUpdate snapshot(Game game) {
+        return new GameUpdate(game, Collections.emptyList());
+    }
+
+    /**
+     * Returns the version the game had before the moves in this update were played.
+     */
+    public long baseVersion() {
+        return game.getVersion() - moves.size();
+    }
+}
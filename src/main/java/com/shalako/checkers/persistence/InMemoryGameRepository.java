@@ -0,0 +1,184 @@
+package com.shalako.checkers.persistence;
+
+import com.shalako.checkers.model.Game;
+import com.shalako.checkers.model.Move;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Game repository that keeps everything in the JVM heap, for single-node deployments and tests
+ * that should not need Redis. Games are spread over a fixed number of stripes, each guarded by
+ * its own read/write lock, so readers never block each other and writers only contend when their
+ * games hash to the same stripe. Like the Redis repository, it keeps each game's move log.
+ */
+public class InMemoryGameRepository implements GameRepository {
+    private static final int DEFAULT_STRIPES = 64;
+
+    private final Stripe[] stripes;
+
+    public InMemoryGameRepository() {
+        this(DEFAULT_STRIPES);
+    }
+
+    public InMemoryGameRepository(int stripeCount) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("Stripe count must be at least 1");
+        }
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    @Override
+    public Game saveGame(Game game) {
+        return saveGame(game, Collections.emptyList());
+    }
+
+    @Override
+    public Game saveGame(Game game, List<Move> moves) {
+        GameUpdate update = new GameUpdate(game, moves);
+        Stripe stripe = stripeFor(game.getId());
+        stripe.lock.writeLock().lock();
+        try {
+            stripe.games.merge(game.getId(), StoredGame.start(update), (stored, ignored) -> stored.apply(update));
+            return game;
+        } finally {
+            stripe.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Game getGame(String gameId) {
+        Stripe stripe = stripeFor(gameId);
+        stripe.lock.readLock().lock();
+        try {
+            StoredGame stored = stripe.games.get(gameId);
+            return stored != null ? stored.game : null;
+        } finally {
+            stripe.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Game> getAllGames() {
+        List<Game> games = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            stripe.lock.readLock().lock();
+            try {
+                stripe.games.values().forEach(stored -> games.add(stored.game));
+            } finally {
+                stripe.lock.readLock().unlock();
+            }
+        }
+        return games;
+    }
+
+    @Override
+    public List<String> getGameIds() {
+        List<String> gameIds = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            stripe.lock.readLock().lock();
+            try {
+                gameIds.addAll(stripe.games.keySet());
+            } finally {
+                stripe.lock.readLock().unlock();
+            }
+        }
+        return gameIds;
+    }
+
+    @Override
+    public boolean deleteGame(String gameId) {
+        Stripe stripe = stripeFor(gameId);
+        stripe.lock.writeLock().lock();
+        try {
+            return stripe.games.remove(gameId) != null;
+        } finally {
+            stripe.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean deleteGame(String gameId, long expectedVersion) {
+        Stripe stripe = stripeFor(gameId);
+        stripe.lock.writeLock().lock();
+        try {
+            StoredGame stored = stripe.games.get(gameId);
+            if (stored == null || stored.game.getVersion() != expectedVersion) {
+                return false;
+            }
+            stripe.games.remove(gameId);
+            return true;
+        } finally {
+            stripe.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Move> getMoves(String gameId, long fromVersion) {
+        Stripe stripe = stripeFor(gameId);
+        stripe.lock.readLock().lock();
+        try {
+            StoredGame stored = stripe.games.get(gameId);
+            if (stored == null) {
+                return Collections.emptyList();
+            }
+            int from = (int) Math.max(0, fromVersion - stored.logBase);
+            if (from >= stored.moves.size()) {
+                return Collections.emptyList();
+            }
+            return new ArrayList<>(stored.moves.subList(from, stored.moves.size()));
+        } finally {
+            stripe.lock.readLock().unlock();
+        }
+    }
+
+    private Stripe stripeFor(String gameId) {
+        return stripes[Math.floorMod(gameId.hashCode(), stripes.length)];
+    }
+
+    private static final class Stripe {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<String, StoredGame> games = new HashMap<>();
+    }
+
+    /**
+     * A game and its move log; {@code moves.get(i)} produced version {@code logBase + i + 1}.
+     * Only mutated while holding the stripe's write lock.
+     */
+    private static final class StoredGame {
+        private Game game;
+        private long logBase;
+        private final List<Move> moves = new ArrayList<>();
+
+        private static StoredGame start(GameUpdate update) {
+            StoredGame stored = new StoredGame();
+            stored.game = update.game();
+            stored.logBase = update.baseVersion();
+            stored.moves.addAll(update.moves());
+            return stored;
+        }
+
+        /**
+         * Stores the update, keeping the log if it reaches the update's base version and
+         * restarting it at that version otherwise.
+         */
+        private StoredGame apply(GameUpdate update) {
+            long baseVersion = update.baseVersion();
+            if (baseVersion < logBase || baseVersion > logBase + moves.size()) {
+                moves.clear();
+                logBase = baseVersion;
+            } else {
+                moves.subList((int) (baseVersion - logBase), moves.size()).clear();
+            }
+            moves.addAll(update.moves());
+            game = update.game();
+            return this;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.shalako.checkers.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.exceptions.JedisException;
+
+/**
+ * A {@link JedisPool} that publishes its behaviour as metrics, tagged with the server it connects to:
+ * <ul>
+ *   <li>{@code redis.pool.borrow} - time spent waiting for a connection, as a histogram</li>
+ *   <li>{@code redis.pool.exhausted} - borrows that gave up after the pool's maximum wait</li>
+ *   <li>{@code redis.pool.active}, {@code redis.pool.idle}, {@code redis.pool.waiting} and {@code redis.pool.max} -
+ *   current connection counts and pool size</li>
+ * </ul>
+ * It also tracks the peak number of callers that held or waited for a connection, which
+ * {@link AdaptiveJedisPoolSizer} uses to size the pool.
+ */
+public class InstrumentedJedisPool extends JedisPool {
+    private final Timer borrowTimer;
+    private final Counter exhaustedCounter;
+    private final AtomicInteger demand = new AtomicInteger();
+    private final AtomicInteger peakDemand = new AtomicInteger();
+
+    public InstrumentedJedisPool(JedisPoolConfig config, HostAndPort endpoint, MeterRegistry registry) {
+        super(config, endpoint.getHost(), endpoint.getPort());
+        String pool = endpoint.toString();
+        this.borrowTimer = Timer.builder("redis.pool.borrow")
+            .description("Time spent waiting to borrow a Redis connection")
+            .tag("pool", pool)
+            .publishPercentileHistogram()
+            .register(registry);
+        this.exhaustedCounter = Counter.builder("redis.pool.exhausted")
+            .description("Connection borrows that timed out because the pool was exhausted")
+            .tag("pool", pool)
+            .register(registry);
+        Gauge.builder("redis.pool.active", this, InstrumentedJedisPool::getNumActive).tag("pool", pool).register(registry);
+        Gauge.builder("redis.pool.idle", this, InstrumentedJedisPool::getNumIdle).tag("pool", pool).register(registry);
+        Gauge.builder("redis.pool.waiting", this, InstrumentedJedisPool::getNumWaiters).tag("pool", pool).register(registry);
+        Gauge.builder("redis.pool.max", this, InstrumentedJedisPool::getMaxTotal).tag("pool", pool).register(registry);
+    }
+
+    @Override
+    public Jedis getResource() {
+        int current = demand.incrementAndGet();
+        peakDemand.accumulateAndGet(current, Math::max);
+        long start = System.nanoTime();
+        try {
+            return super.getResource();
+        } catch (JedisException e) {
+            demand.decrementAndGet();
+            if (e.getCause() instanceof NoSuchElementException) {
+                exhaustedCounter.increment();
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            demand.decrementAndGet();
+            throw e;
+        } finally {
+            borrowTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void returnResource(Jedis resource) {
+        demand.decrementAndGet();
+        super.returnResource(resource);
+    }
+
+    @Override
+    public void returnBrokenResource(Jedis resource) {
+        demand.decrementAndGet();
+        super.returnBrokenResource(resource);
+    }
+
+    /**
+     * Returns the highest number of callers that held or waited for a connection at the same time
+     * since the previous call, and starts a new observation window.
+     */
+    public int takePeakDemand() {
+        return peakDemand.getAndSet(demand.get());
+    }
+}
@@ -0,0 +1,342 @@
+package com.shalako.checkers.persistence;
+
+import com.shalako.checkers.model.Game;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Durable game repository that stores fixed-size binary records in a memory-mapped file.
+ *
+ * Every game owns a pair of {@value #SLOT_SIZE}-byte slots. A save writes the new record into the
+ * slot that does not hold the current one, stamped with a global sequence number and a CRC, and
+ * only then points the in-memory index at it. A crash in the middle of a write therefore leaves
+ * at worst a torn record with a bad CRC next to the previous intact one. On startup the file is
+ * scanned and each pair resolves to its newest valid record, which rebuilds the id index.
+ * Deleting a game writes a tombstone the same way and frees the pair for reuse.
+ *
+ * The file grows in {@value #SEGMENT_SIZE}-byte mapped segments. Writes reach the page cache
+ * immediately and survive a process crash; enable {@code syncOnWrite} to also force each record
+ * to disk before the save returns.
+ */
+public class MappedFileGameRepository implements GameRepository, AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(MappedFileGameRepository.class);
+
+    static final int SLOT_SIZE = 1024;
+    static final int SEGMENT_SIZE = 16 * 1024 * 1024;
+    private static final int SLOTS_PER_SEGMENT = SEGMENT_SIZE / SLOT_SIZE;
+
+    private static final int MAGIC = 0x43484B52; // "CHKR"
+    private static final int MAGIC_OFFSET = 0;
+    private static final int CRC_OFFSET = 4;
+    private static final int SEQUENCE_OFFSET = 8;
+    private static final int KIND_OFFSET = 16;
+    private static final int LENGTH_OFFSET = 17;
+    private static final int PAYLOAD_OFFSET = 19;
+    private static final int MAX_PAYLOAD = SLOT_SIZE - PAYLOAD_OFFSET;
+    private static final byte KIND_GAME = 1;
+    private static final byte KIND_TOMBSTONE = 2;
+
+    private final Settings settings;
+    private final FileChannel channel;
+    private final List<MappedByteBuffer> segments = new CopyOnWriteArrayList<>();
+    private final Map<String, SlotRef> index = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Object allocationLock = new Object();
+    // Pairs below nextUnusedPair that hold no game; guarded by allocationLock
+    private final Deque<SlotRef> freePairs = new ArrayDeque<>();
+    private int nextUnusedPair;
+
+    public MappedFileGameRepository(Settings settings) {
+        this.settings = settings;
+        try {
+            Path parent = settings.file().toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            this.channel = FileChannel.open(settings.file(),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long segmentCount = Math.max(1, (channel.size() + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+            for (int i = 0; i < segmentCount; i++) {
+                mapSegment(i);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open game file " + settings.file(), e);
+        }
+        recover();
+    }
+
+    @Override
+    public Game saveGame(Game game) {
+        byte[] payload = GameRecordCodec.encode(game);
+        if (payload.length > MAX_PAYLOAD) {
+            throw new IllegalArgumentException("Game " + game.getId() + " needs " + payload.length
+                + " bytes, but records hold at most " + MAX_PAYLOAD);
+        }
+        // compute serialises writers of the same game and publishes the new slot atomically
+        index.compute(game.getId(), (gameId, current) -> {
+            SlotRef pair = current != null ? current : allocatePair();
+            return writeRecord(pair, KIND_GAME, payload);
+        });
+        return game;
+    }
+
+    @Override
+    public Game getGame(String gameId) {
+        while (true) {
+            SlotRef ref = index.get(gameId);
+            if (ref == null) {
+                return null;
+            }
+            byte[] payload = readRecord(ref);
+            if (payload != null) {
+                return GameRecordCodec.decode(payload);
+            }
+            // The slot was reused by a later write while we read it; look the game up again
+        }
+    }
+
+    @Override
+    public List<Game> getAllGames() {
+        List<Game> games = new ArrayList<>();
+        for (String gameId : index.keySet()) {
+            Game game = getGame(gameId);
+            if (game != null) {
+                games.add(game);
+            }
+        }
+        return games;
+    }
+
+    @Override
+    public List<String> getGameIds() {
+        return new ArrayList<>(index.keySet());
+    }
+
+    @Override
+    public boolean deleteGame(String gameId) {
+        boolean[] deleted = new boolean[1];
+        index.computeIfPresent(gameId, (id, current) -> {
+            tombstone(current);
+            deleted[0] = true;
+            return null;
+        });
+        return deleted[0];
+    }
+
+    @Override
+    public boolean deleteGame(String gameId, long expectedVersion) {
+        boolean[] deleted = new boolean[1];
+        index.computeIfPresent(gameId, (id, current) -> {
+            // Writes to the game wait for this computation, so its record cannot change while it is checked
+            byte[] payload = readRecord(current);
+            if (payload == null || GameRecordCodec.decode(payload).getVersion() != expectedVersion) {
+                return current;
+            }
+            tombstone(current);
+            deleted[0] = true;
+            return null;
+        });
+        return deleted[0];
+    }
+
+    /**
+     * Marks a game's record deleted and returns its slot pair for reuse.
+     */
+    private void tombstone(SlotRef current) {
+        SlotRef tombstone = writeRecord(current, KIND_TOMBSTONE, new byte[0]);
+        synchronized (allocationLock) {
+            freePairs.push(tombstone);
+        }
+    }
+
+    /**
+     * Returns the number of games currently stored.
+     */
+    public int getGameCount() {
+        return index.size();
+    }
+
+    /**
+     * Forces all mapped segments to disk and closes the file.
+     */
+    @Override
+    public void close() {
+        segments.forEach(MappedByteBuffer::force);
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOG.warn("Failed to close game file {}", settings.file(), e);
+        }
+    }
+
+    /**
+     * Writes a record into the slot of the pair that does not hold the current record.
+     */
+    private SlotRef writeRecord(SlotRef current, byte kind, byte[] payload) {
+        long recordSequence = sequence.incrementAndGet();
+        int slot = current.pair() * 2 + (1 - current.activeSlot());
+
+        ByteBuffer record = ByteBuffer.allocate(PAYLOAD_OFFSET + payload.length);
+        record.putInt(MAGIC_OFFSET, MAGIC);
+        record.putLong(SEQUENCE_OFFSET, recordSequence);
+        record.put(KIND_OFFSET, kind);
+        record.putShort(LENGTH_OFFSET, (short) payload.length);
+        record.put(PAYLOAD_OFFSET, payload);
+        record.putInt(CRC_OFFSET, checksum(record.array(), payload.length));
+
+        MappedByteBuffer segment = segments.get(slot / SLOTS_PER_SEGMENT);
+        int offset = (slot % SLOTS_PER_SEGMENT) * SLOT_SIZE;
+        segment.put(offset, record.array());
+        if (settings.syncOnWrite()) {
+            segment.force(offset, record.capacity());
+        }
+        return new SlotRef(current.pair(), 1 - current.activeSlot(), recordSequence);
+    }
+
+    /**
+     * Reads the payload of a game record, or returns null if the slot no longer holds the
+     * record the reference was taken for.
+     */
+    private byte[] readRecord(SlotRef ref) {
+        byte[] record = readSlot(ref.pair() * 2 + ref.activeSlot());
+        if (record == null || ByteBuffer.wrap(record).getLong(SEQUENCE_OFFSET) != ref.sequence()) {
+            return null;
+        }
+        byte[] payload = new byte[record.length - PAYLOAD_OFFSET];
+        System.arraycopy(record, PAYLOAD_OFFSET, payload, 0, payload.length);
+        return payload;
+    }
+
+    /**
+     * Returns the header and payload of a slot, or null if it does not hold an intact record.
+     */
+    private byte[] readSlot(int slot) {
+        MappedByteBuffer segment = segments.get(slot / SLOTS_PER_SEGMENT);
+        int offset = (slot % SLOTS_PER_SEGMENT) * SLOT_SIZE;
+        if (segment.getInt(offset + MAGIC_OFFSET) != MAGIC) {
+            return null;
+        }
+        int length = Short.toUnsignedInt(segment.getShort(offset + LENGTH_OFFSET));
+        if (length > MAX_PAYLOAD) {
+            return null;
+        }
+        byte[] record = new byte[PAYLOAD_OFFSET + length];
+        segment.get(offset, record);
+        if (ByteBuffer.wrap(record).getInt(CRC_OFFSET) != checksum(record, length)) {
+            return null;
+        }
+        return record;
+    }
+
+    private static int checksum(byte[] record, int payloadLength) {
+        CRC32 crc = new CRC32();
+        crc.update(record, SEQUENCE_OFFSET, PAYLOAD_OFFSET - SEQUENCE_OFFSET + payloadLength);
+        return (int) crc.getValue();
+    }
+
+    private SlotRef allocatePair() {
+        synchronized (allocationLock) {
+            if (!freePairs.isEmpty()) {
+                return freePairs.pop();
+            }
+            int pair = nextUnusedPair++;
+            if (pair * 2 >= segments.size() * SLOTS_PER_SEGMENT) {
+                try {
+                    mapSegment(segments.size());
+                } catch (IOException e) {
+                    nextUnusedPair--;
+                    throw new UncheckedIOException("Failed to grow game file " + settings.file(), e);
+                }
+            }
+            // Neither slot holds anything yet; report slot 1 as current so slot 0 is written first
+            return new SlotRef(pair, 1, 0);
+        }
+    }
+
+    private void mapSegment(int segmentIndex) throws IOException {
+        segments.add(channel.map(FileChannel.MapMode.READ_WRITE, (long) segmentIndex * SEGMENT_SIZE, SEGMENT_SIZE));
+    }
+
+    /**
+     * Rebuilds the index and free list by resolving every slot pair to its newest intact record.
+     */
+    private void recover() {
+        int pairs = segments.size() * SLOTS_PER_SEGMENT / 2;
+        List<SlotRef> free = new ArrayList<>();
+        long maxSequence = 0;
+        int tornRecords = 0;
+
+        for (int pair = 0; pair < pairs; pair++) {
+            byte[] first = readSlot(pair * 2);
+            byte[] second = readSlot(pair * 2 + 1);
+            if (first == null && second == null) {
+                tornRecords += hasMagic(pair * 2) + hasMagic(pair * 2 + 1);
+                free.add(new SlotRef(pair, 1, 0));
+                continue;
+            }
+
+            long firstSequence = first != null ? ByteBuffer.wrap(first).getLong(SEQUENCE_OFFSET) : -1;
+            long secondSequence = second != null ? ByteBuffer.wrap(second).getLong(SEQUENCE_OFFSET) : -1;
+            int activeSlot = firstSequence > secondSequence ? 0 : 1;
+            byte[] newest = activeSlot == 0 ? first : second;
+            long newestSequence = Math.max(firstSequence, secondSequence);
+            SlotRef ref = new SlotRef(pair, activeSlot, newestSequence);
+            maxSequence = Math.max(maxSequence, newestSequence);
+            nextUnusedPair = pair + 1;
+            if (first == null || second == null) {
+                tornRecords += hasMagic(pair * 2 + (1 - activeSlot));
+            }
+
+            if (newest[KIND_OFFSET] == KIND_TOMBSTONE) {
+                free.add(ref);
+                continue;
+            }
+            byte[] payload = new byte[newest.length - PAYLOAD_OFFSET];
+            System.arraycopy(newest, PAYLOAD_OFFSET, payload, 0, payload.length);
+            index.put(GameRecordCodec.decode(payload).getId(), ref);
+        }
+
+        sequence.set(maxSequence);
+        // Reuse holes before growing the file; free pairs past the last used one are handed out in order
+        free.stream().filter(ref -> ref.pair() < nextUnusedPair).forEach(freePairs::add);
+        LOG.info("Loaded {} games from {} ({} torn records ignored)", index.size(), settings.file(), tornRecords);
+    }
+
+    private int hasMagic(int slot) {
+        MappedByteBuffer segment = segments.get(slot / SLOTS_PER_SEGMENT);
+        return segment.getInt((slot % SLOTS_PER_SEGMENT) * SLOT_SIZE + MAGIC_OFFSET) == MAGIC ? 1 : 0;
+    }
+
+    /**
+     * Location of a game's current record: the slot pair it owns, which slot of the pair holds
+     * the current record, and that record's sequence number.
+     */
+    private record SlotRef(int pair, int activeSlot, long sequence) {
+    }
+
+    /**
+     * Settings for the memory-mapped repository.
+     *
+     * @param file path of the data file, created if missing
+     * @param syncOnWrite whether every save forces its record to disk before returning
+     */
+    public record Settings(Path file, boolean syncOnWrite) {
+    }
+}
@@ -0,0 +1,282 @@
+package com.shalako.checkers.persistence;
+
+import com.shalako.checkers.enums.GameState;
+import com.shalako.checkers.enums.GameType;
+import com.shalako.checkers.model.Game;
+import com.shalako.checkers.model.Move;
+import com.shalako.checkers.util.RedisSubscription;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+
+/**
+ * Read-through near cache in front of the shared Redis repository for multi-node deployments.
+ * Every save publishes the game id and version on an invalidation channel, and every node evicts
+ * its local copy when another node announces a change, so repeated reads of a game hit local
+ * memory while staying coherent with writes made elsewhere.
+ */
+public class NearCacheGameRepository implements GameRepository, AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(NearCacheGameRepository.class);
+    private static final String MESSAGE_SEPARATOR = "|";
+    private static final long DELETED_VERSION = Long.MAX_VALUE;
+
+    private final GameRepository delegate;
+    private final JedisPool jedisPool;
+    private final Settings settings;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Game> cache;
+    // Bumped on every invalidation so a load racing with one is not cached
+    private final AtomicLong invalidations = new AtomicLong();
+    private final RedisSubscription subscription;
+
+    public NearCacheGameRepository(GameRepository delegate, JedisPool jedisPool, Settings settings) {
+        this.delegate = delegate;
+        this.jedisPool = jedisPool;
+        this.settings = settings;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Game> eldest) {
+                return size() > settings.maxSize();
+            }
+        });
+        this.subscription = new RedisSubscription(settings.endpoint(), settings.channel(), new InvalidationListener());
+    }
+
+    @Override
+    public Game saveGame(Game game) {
+        delegate.saveGame(game);
+        cache.put(game.getId(), game);
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.publish(settings.channel(), toMessage(game.getId(), game.getVersion()));
+        }
+        return game;
+    }
+
+    @Override
+    public Game saveGame(Game game, List<Move> moves) {
+        delegate.saveGame(game, moves);
+        cache.put(game.getId(), game);
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.publish(settings.channel(), toMessage(game.getId(), game.getVersion()));
+        }
+        return game;
+    }
+
+    @Override
+    public void saveGames(List<GameUpdate> updates) {
+        delegate.saveGames(updates);
+        try (Jedis jedis = jedisPool.getResource()) {
+            Pipeline pipeline = jedis.pipelined();
+            for (GameUpdate update : updates) {
+                Game game = update.game();
+                cache.put(game.getId(), game);
+                pipeline.publish(settings.channel(), toMessage(game.getId(), game.getVersion()));
+            }
+            pipeline.sync();
+        }
+    }
+
+    @Override
+    public Long getGameVersion(String gameId) {
+        Game cached = cache.get(gameId);
+        return cached != null ? cached.getVersion() : delegate.getGameVersion(gameId);
+    }
+
+    @Override
+    public List<Move> getMoves(String gameId, long fromVersion) {
+        return delegate.getMoves(gameId, fromVersion);
+    }
+
+    @Override
+    public Game getGame(String gameId) {
+        Game cached = cache.get(gameId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long invalidationsBeforeLoad = invalidations.get();
+        Game loaded = delegate.getGame(gameId);
+        if (loaded != null && invalidations.get() == invalidationsBeforeLoad) {
+            cache.putIfAbsent(gameId, loaded);
+        }
+        return loaded;
+    }
+
+    @Override
+    public List<Game> getGames(List<String> gameIds) {
+        Map<String, Game> found = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String gameId : gameIds) {
+            Game cached = cache.get(gameId);
+            if (cached != null) {
+                found.put(gameId, cached);
+            } else {
+                missing.add(gameId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            long invalidationsBeforeLoad = invalidations.get();
+            List<Game> loaded = delegate.getGames(missing);
+            boolean unchanged = invalidations.get() == invalidationsBeforeLoad;
+            for (Game game : loaded) {
+                found.put(game.getId(), game);
+                if (unchanged) {
+                    cache.putIfAbsent(game.getId(), game);
+                }
+            }
+        }
+
+        List<Game> games = new ArrayList<>(found.size());
+        for (String gameId : gameIds) {
+            Game game = found.get(gameId);
+            if (game != null) {
+                games.add(game);
+            }
+        }
+        return games;
+    }
+
+    @Override
+    public List<Game> getAllGames() {
+        return delegate.getAllGames();
+    }
+
+    @Override
+    public List<String> getGameIds() {
+        return delegate.getGameIds();
+    }
+
+    @Override
+    public List<Game> getActiveGamesForPlayer(String playerId, int offset, int limit) {
+        return delegate.getActiveGamesForPlayer(playerId, offset, limit);
+    }
+
+    @Override
+    public List<Game> getRecentlyFinishedGames(int offset, int limit) {
+        return delegate.getRecentlyFinishedGames(offset, limit);
+    }
+
+    @Override
+    public List<String> getGameIdsByState(GameState state) {
+        return delegate.getGameIdsByState(state);
+    }
+
+    @Override
+    public List<String> getGameIdsByType(GameType gameType) {
+        return delegate.getGameIdsByType(gameType);
+    }
+
+    @Override
+    public List<String> getGameIdsUpdatedBefore(Instant finishedBefore, Instant unfinishedBefore) {
+        return delegate.getGameIdsUpdatedBefore(finishedBefore, unfinishedBefore);
+    }
+
+    @Override
+    public boolean deleteGame(String gameId) {
+        boolean deleted = delegate.deleteGame(gameId);
+        invalidateDeleted(gameId);
+        return deleted;
+    }
+
+    @Override
+    public boolean deleteGame(String gameId, long expectedVersion) {
+        boolean deleted = delegate.deleteGame(gameId, expectedVersion);
+        if (deleted) {
+            invalidateDeleted(gameId);
+        }
+        return deleted;
+    }
+
+    /**
+     * Returns the number of games currently held in the near cache.
+     */
+    public int getCachedCount() {
+        return cache.size();
+    }
+
+    /**
+     * Waits until this node is subscribed to the invalidation channel.
+     */
+    public boolean awaitSubscribed(Duration timeout) throws InterruptedException {
+        return subscription.awaitSubscribed(timeout);
+    }
+
+    @Override
+    public void close() {
+        subscription.close();
+    }
+
+    /**
+     * Drops a deleted game from this node's cache and tells the other nodes to do the same.
+     */
+    private void invalidateDeleted(String gameId) {
+        cache.remove(gameId);
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.publish(settings.channel(), toMessage(gameId, DELETED_VERSION));
+        }
+    }
+
+    private String toMessage(String gameId, long version) {
+        return nodeId + MESSAGE_SEPARATOR + gameId + MESSAGE_SEPARATOR + version;
+    }
+
+    /**
+     * Applies an invalidation message of the form {@code nodeId|gameId|version}.
+     */
+    private void onInvalidation(String message) {
+        String[] parts = message.split("\\|");
+        if (parts.length != 3) {
+            LOG.warn("Ignoring malformed invalidation message: {}", message);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            // Our own save; the cache already holds what we wrote
+            return;
+        }
+
+        String gameId = parts[1];
+        long version = Long.parseLong(parts[2]);
+        invalidations.incrementAndGet();
+        // Keep our copy only if it is strictly newer than the announced one
+        cache.computeIfPresent(gameId, (id, cached) -> cached.getVersion() > version ? cached : null);
+    }
+
+    private class InvalidationListener implements RedisSubscription.Listener {
+        @Override
+        public void onMessage(String message) {
+            onInvalidation(message);
+        }
+
+        @Override
+        public void onSubscribed() {
+            // Anything may have changed while we were not listening
+            invalidations.incrementAndGet();
+            cache.clear();
+        }
+    }
+
+    /**
+     * Settings for the near cache.
+     *
+     * @param endpoint Redis server used for the invalidation subscription
+     * @param channel pub/sub channel carrying invalidation messages
+     * @param maxSize maximum number of games cached per node
+     */
+    public record Settings(HostAndPort endpoint, String channel, int maxSize) {
+        public static final String DEFAULT_CHANNEL = "games:invalidations";
+    }
+}
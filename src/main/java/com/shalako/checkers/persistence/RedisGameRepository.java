@@ -8,204 +8,665 @@ import com.shalako.checkers.enums.PlayerColor;
 import com.shalako.checkers.enums.PlayerType;
 import com.shalako.checkers.model.Board;
 import com.shalako.checkers.model.Game;
+import com.shalako.checkers.model.Move;
 import com.shalako.checkers.model.Piece;
 import com.shalako.checkers.model.Player;
 import com.shalako.checkers.model.Position;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.Transaction;
+import redis.clients.jedis.commands.PipelineCommands;
 
 /**
  * Redis implementation of the GameRepository interface.
+ *
+ * Each game is stored as an append-only move log plus a periodic snapshot. The game hash holds the
+ * metadata and current version, the board hash holds the board as of {@code snapshotVersion}, and
+ * the move list holds encoded moves, entry {@code i} producing version {@code logBase + i + 1}.
+ * Saving after a move only appends to the log and updates a few hash fields; a full snapshot is
+ * written every {@code snapshotInterval} plies, and loading replays the log tail onto the snapshot.
+ *
+ * Optionally every save also sets a TTL on the game's keys: {@code finishedTtl} once the game is
+ * over, {@code idleTtl} while it is in progress, so games nobody touches eventually leave Redis.
+ *
+ * Every save also maintains secondary indexes, so listings read a page of ids instead of scanning
+ * all games: a sorted set of each player's unfinished games, one of all finished games and one of
+ * all unfinished games, each scored by update time, and plain sets of game ids per {@link GameState} and {@link GameType}.
+ * Index entries of games whose keys expired are removed when a listing comes across them.
  */
 public class RedisGameRepository implements GameRepository {
     private static final String GAME_KEY_PREFIX = "game:";
     private static final String GAMES_SET_KEY = "games";
-    
+    private static final String BOARD_KEY_SUFFIX = ":board";
+    private static final String MOVES_KEY_SUFFIX = ":moves";
+    private static final String PLAYER_ACTIVE_KEY_PREFIX = "games:player:";
+    private static final String PLAYER_ACTIVE_KEY_SUFFIX = ":active";
+    private static final String FINISHED_KEY = "games:finished";
+    private static final String UNFINISHED_KEY = "games:unfinished";
+    private static final String STATE_KEY_PREFIX = "games:state:";
+    private static final String TYPE_KEY_PREFIX = "games:type:";
+    private static final int DEFAULT_SNAPSHOT_INTERVAL = 20;
+
+    private static final String VERSION_FIELD = "version";
+    private static final String SNAPSHOT_VERSION_FIELD = "snapshotVersion";
+    private static final String LOG_BASE_FIELD = "logBase";
+
+    /**
+     * Appends moves to the log if the stored game is exactly at the version the moves start from
+     * and its log is complete up to that version; returns 0 otherwise so the caller can fall back
+     * to a full snapshot.
+     * KEYS: game hash, move list, board hash. ARGV: base version, new version, state, current turn,
+     * updatedAt, TTL seconds (0 for none), moves...
+     */
+    private static final String APPEND_SCRIPT =
+        "local version = redis.call('HGET', KEYS[1], 'version')\n"
+            + "local logBase = redis.call('HGET', KEYS[1], 'logBase')\n"
+            + "if version ~= ARGV[1] or not logBase"
+            + " or tonumber(logBase) + redis.call('LLEN', KEYS[2]) ~= tonumber(ARGV[1]) then\n"
+            + "  return 0\n"
+            + "end\n"
+            + "redis.call('HSET', KEYS[1], 'version', ARGV[2], 'state', ARGV[3], 'currentTurn', ARGV[4], 'updatedAt', ARGV[5])\n"
+            + "for i = 7, #ARGV do\n"
+            + "  redis.call('RPUSH', KEYS[2], ARGV[i])\n"
+            + "end\n"
+            + "if tonumber(ARGV[6]) > 0 then\n"
+            + "  for _, key in ipairs(KEYS) do\n"
+            + "    redis.call('EXPIRE', key, ARGV[6])\n"
+            + "  end\n"
+            + "end\n"
+            + "return 1\n";
+
+    /**
+     * Reads a game's metadata, snapshot board and the moves played since the snapshot in one atomic
+     * step, so a concurrent append or snapshot can never be seen half-applied. Returns an empty reply
+     * for a missing game, otherwise the game hash, the board hash and the log tail.
+     * KEYS: game hash, board hash, move list.
+     */
+    private static final String READ_SCRIPT =
+        "local game = redis.call('HGETALL', KEYS[1])\n"
+            + "if #game == 0 then\n"
+            + "  return {}\n"
+            + "end\n"
+            + "local version = tonumber(redis.call('HGET', KEYS[1], 'version') or 0)\n"
+            + "local snapshotVersion = tonumber(redis.call('HGET', KEYS[1], 'snapshotVersion') or version)\n"
+            + "local logBase = tonumber(redis.call('HGET', KEYS[1], 'logBase') or version)\n"
+            + "local tail = {}\n"
+            + "if version > snapshotVersion then\n"
+            + "  local from = snapshotVersion - logBase\n"
+            + "  tail = redis.call('LRANGE', KEYS[3], from, from + version - snapshotVersion - 1)\n"
+            + "end\n"
+            + "return {game, redis.call('HGETALL', KEYS[2]), tail}\n";
+
     private final JedisPool jedisPool;
-    
+    private final Settings settings;
+    private final int snapshotInterval;
+
     public RedisGameRepository(JedisPool jedisPool) {
+        this(jedisPool, Settings.DEFAULT);
+    }
+
+    public RedisGameRepository(JedisPool jedisPool, Settings settings) {
+        if (settings.snapshotInterval() < 1) {
+            throw new IllegalArgumentException("Snapshot interval must be at least 1");
+        }
         this.jedisPool = jedisPool;
+        this.settings = settings;
+        this.snapshotInterval = settings.snapshotInterval();
     }
-    
+
     @Override
     public Game saveGame(Game game) {
+        saveGames(List.of(GameUpdate.snapshot(game)));
+        return game;
+    }
+
+    @Override
+    public Game saveGame(Game game, List<Move> moves) {
+        saveGames(List.of(new GameUpdate(game, moves)));
+        return game;
+    }
+
+    @Override
+    public void saveGames(List<GameUpdate> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
         try (Jedis jedis = jedisPool.getResource()) {
-            String gameKey = GAME_KEY_PREFIX + game.getId();
-            
-            // Store game metadata
-            Map<String, String> gameData = new HashMap<>();
-            gameData.put("id", game.getId());
-            gameData.put("state", game.getState().name());
-            gameData.put("currentTurn", game.getCurrentTurn().name());
-            gameData.put("boardSize", game.getBoard().getSize().name());
-            gameData.put("createdAt", game.getCreatedAt().toString());
-            gameData.put("updatedAt", Instant.now().toString());
-            gameData.put("gameType", game.getGameType().name());
-            
-            // Store player data
-            gameData.put("redPlayer:id", game.getRedPlayer().getId());
-            gameData.put("redPlayer:name", game.getRedPlayer().getName());
-            gameData.put("redPlayer:type", game.getRedPlayer().getType().name());
-            
-            gameData.put("blackPlayer:id", game.getBlackPlayer().getId());
-            gameData.put("blackPlayer:name", game.getBlackPlayer().getName());
-            gameData.put("blackPlayer:type", game.getBlackPlayer().getType().name());
-            
-            // Store the game data in a Redis hash
-            jedis.hset(gameKey, gameData);
-            
-            // Store the board state
-            saveBoardState(jedis, gameKey, game.getBoard());
-            
-            // Add the game ID to the set of all games
-            jedis.sadd(GAMES_SET_KEY, game.getId());
-            
-            return game;
-        }
-    }
-    
+            List<GameUpdate> snapshots = appendMoves(jedis, updates);
+            writeSnapshots(jedis, snapshots);
+        }
+    }
+
     @Override
     public Game getGame(String gameId) {
         try (Jedis jedis = jedisPool.getResource()) {
             String gameKey = GAME_KEY_PREFIX + gameId;
-            
-            // Check if the game exists
-            if (!jedis.exists(gameKey)) {
-                return null;
-            }
-            
-            // Get game metadata
-            Map<String, String> gameData = jedis.hgetAll(gameKey);
-            
-            // Parse board size
-            BoardSize boardSize = BoardSize.valueOf(gameData.get("boardSize"));
-            
-            // Create players
-            Player redPlayer = Player.PlayerFactory.createPlayer(
-                gameData.get("redPlayer:id"),
-                gameData.get("redPlayer:name"),
-                PlayerType.valueOf(gameData.get("redPlayer:type")),
-                PlayerColor.RED
-            );
-            
-            Player blackPlayer = Player.PlayerFactory.createPlayer(
-                gameData.get("blackPlayer:id"),
-                gameData.get("blackPlayer:name"),
-                PlayerType.valueOf(gameData.get("blackPlayer:type")),
-                PlayerColor.BLACK
-            );
-            
-            // Load the board state
-            Board board = loadBoardState(jedis, gameKey, boardSize);
-            
-            // Create and return the game
-            return Game.GameFactory.createGame(
-                gameId,
-                board,
-                redPlayer,
-                blackPlayer,
-                PlayerColor.valueOf(gameData.get("currentTurn")),
-                GameState.valueOf(gameData.get("state")),
-                Instant.parse(gameData.get("createdAt")),
-                Instant.parse(gameData.get("updatedAt")),
-                GameType.valueOf(gameData.getOrDefault("gameType", GameType.STANDARD_AMERICAN.name()))
-            );
-        }
-    }
-    
+            List<String> keys = List.of(gameKey, gameKey + BOARD_KEY_SUFFIX, gameKey + MOVES_KEY_SUFFIX);
+            return readGame(gameId, jedis.eval(READ_SCRIPT, keys, Collections.emptyList()));
+        }
+    }
+
     @Override
-    public List<Game> getAllGames() {
+    public List<Game> getGames(List<String> gameIds) {
+        if (gameIds.isEmpty()) {
+            return Collections.emptyList();
+        }
         try (Jedis jedis = jedisPool.getResource()) {
-            Set<String> gameIds = jedis.smembers(GAMES_SET_KEY);
-            List<Game> games = new ArrayList<>();
-            
+            // One atomic read per game, all sent in a single round trip
+            List<Response<Object>> replies = new ArrayList<>(gameIds.size());
+            Pipeline pipeline = jedis.pipelined();
             for (String gameId : gameIds) {
-                Game game = getGame(gameId);
+                String gameKey = GAME_KEY_PREFIX + gameId;
+                List<String> keys = List.of(gameKey, gameKey + BOARD_KEY_SUFFIX, gameKey + MOVES_KEY_SUFFIX);
+                replies.add(pipeline.eval(READ_SCRIPT, keys, Collections.emptyList()));
+            }
+            pipeline.sync();
+
+            List<Game> games = new ArrayList<>(gameIds.size());
+            for (int i = 0; i < gameIds.size(); i++) {
+                Game game = readGame(gameIds.get(i), replies.get(i).get());
                 if (game != null) {
                     games.add(game);
                 }
             }
-            
             return games;
         }
     }
-    
+
+    @Override
+    public Long getGameVersion(String gameId) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            String version = jedis.hget(GAME_KEY_PREFIX + gameId, VERSION_FIELD);
+            return version != null ? Long.parseLong(version) : null;
+        }
+    }
+
+    @Override
+    public List<Move> getMoves(String gameId, long fromVersion) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            String gameKey = GAME_KEY_PREFIX + gameId;
+            String logBaseValue = jedis.hget(gameKey, LOG_BASE_FIELD);
+            if (logBaseValue == null) {
+                return Collections.emptyList();
+            }
+
+            long start = Math.max(0, fromVersion - Long.parseLong(logBaseValue));
+            List<Move> moves = new ArrayList<>();
+            for (String encodedMove : jedis.lrange(gameKey + MOVES_KEY_SUFFIX, start, -1)) {
+                moves.add(Move.MoveFactory.decode(encodedMove));
+            }
+            return moves;
+        }
+    }
+
+    @Override
+    public List<Game> getAllGames() {
+        return getGames(getGameIds());
+    }
+
+    @Override
+    public List<String> getGameIds() {
+        try (Jedis jedis = jedisPool.getResource()) {
+            return new ArrayList<>(jedis.smembers(GAMES_SET_KEY));
+        }
+    }
+
     @Override
     public boolean deleteGame(String gameId) {
         try (Jedis jedis = jedisPool.getResource()) {
             String gameKey = GAME_KEY_PREFIX + gameId;
-            String boardKey = gameKey + ":board";
-            
-            // Check if the game exists
-            if (!jedis.exists(gameKey)) {
+            List<String> playerIds = jedis.hmget(gameKey, "redPlayer:id", "blackPlayer:id");
+
+            // Remove the game ID from the set of all games and the indexes, even if its keys have already expired
+            Pipeline pipeline = jedis.pipelined();
+            pipeline.srem(GAMES_SET_KEY, gameId);
+            unindexGame(pipeline, gameId, playerIds);
+
+            // Delete the game data, board snapshot and move log
+            Response<Long> deleted = pipeline.del(gameKey, gameKey + BOARD_KEY_SUFFIX, gameKey + MOVES_KEY_SUFFIX);
+            pipeline.sync();
+            return deleted.get() > 0;
+        }
+    }
+
+    @Override
+    public boolean deleteGame(String gameId, long expectedVersion) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            String gameKey = GAME_KEY_PREFIX + gameId;
+            // Any save in between writes the game hash and aborts the transaction
+            jedis.watch(gameKey);
+            List<String> fields = jedis.hmget(gameKey, VERSION_FIELD, "redPlayer:id", "blackPlayer:id");
+            if (fields.get(0) == null || Long.parseLong(fields.get(0)) != expectedVersion) {
+                jedis.unwatch();
                 return false;
             }
-            
-            // Delete the game data and board state
-            jedis.del(gameKey, boardKey);
-            
-            // Remove the game ID from the set of all games
-            jedis.srem(GAMES_SET_KEY, gameId);
-            
+
+            Transaction transaction = jedis.multi();
+            transaction.srem(GAMES_SET_KEY, gameId);
+            unindexGame(transaction, gameId, fields.subList(1, 3));
+            transaction.del(gameKey, gameKey + BOARD_KEY_SUFFIX, gameKey + MOVES_KEY_SUFFIX);
+            return transaction.exec() != null;
+        }
+    }
+
+    @Override
+    public List<Game> getActiveGamesForPlayer(String playerId, int offset, int limit) {
+        return getIndexedPage(PLAYER_ACTIVE_KEY_PREFIX + playerId + PLAYER_ACTIVE_KEY_SUFFIX, offset, limit);
+    }
+
+    @Override
+    public List<Game> getRecentlyFinishedGames(int offset, int limit) {
+        return getIndexedPage(FINISHED_KEY, offset, limit);
+    }
+
+    @Override
+    public List<String> getGameIdsByState(GameState state) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            return new ArrayList<>(jedis.smembers(STATE_KEY_PREFIX + state.name()));
+        }
+    }
+
+    @Override
+    public List<String> getGameIdsByType(GameType gameType) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            return new ArrayList<>(jedis.smembers(TYPE_KEY_PREFIX + gameType.name()));
+        }
+    }
+
+    @Override
+    public List<String> getGameIdsUpdatedBefore(Instant finishedBefore, Instant unfinishedBefore) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            Pipeline pipeline = jedis.pipelined();
+            Response<List<String>> finished = pipeline.zrangeByScore(FINISHED_KEY, "-inf", "(" + finishedBefore.toEpochMilli());
+            Response<List<String>> unfinished = pipeline.zrangeByScore(UNFINISHED_KEY, "-inf", "(" + unfinishedBefore.toEpochMilli());
+            pipeline.sync();
+            List<String> gameIds = new ArrayList<>(finished.get());
+            gameIds.addAll(unfinished.get());
+            return gameIds;
+        }
+    }
+
+    /**
+     * Reads a page of ids from a sorted-set index, newest first, and loads the games. Ids whose game
+     * no longer exists are dropped from the index, so such a page can be shorter than the limit.
+     */
+    private List<Game> getIndexedPage(String indexKey, int offset, int limit) {
+        List<String> gameIds;
+        try (Jedis jedis = jedisPool.getResource()) {
+            gameIds = jedis.zrevrange(indexKey, offset, (long) offset + limit - 1);
+        }
+
+        List<Game> games = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        for (String gameId : gameIds) {
+            Game game = getGame(gameId);
+            if (game != null) {
+                games.add(game);
+            } else {
+                missing.add(gameId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            try (Jedis jedis = jedisPool.getResource()) {
+                jedis.zrem(indexKey, missing.toArray(new String[0]));
+            }
+        }
+        return games;
+    }
+
+    /**
+     * Queues the commands that bring a game's secondary index entries in line with its current state.
+     */
+    private void indexGame(PipelineCommands commands, Game game) {
+        String gameId = game.getId();
+        double score = System.currentTimeMillis();
+
+        for (GameState state : GameState.values()) {
+            if (state != game.getState()) {
+                commands.srem(STATE_KEY_PREFIX + state.name(), gameId);
+            }
+        }
+        commands.sadd(STATE_KEY_PREFIX + game.getState().name(), gameId);
+        commands.sadd(TYPE_KEY_PREFIX + game.getGameType().name(), gameId);
+
+        for (Player player : List.of(game.getRedPlayer(), game.getBlackPlayer())) {
+            String playerKey = PLAYER_ACTIVE_KEY_PREFIX + player.getId() + PLAYER_ACTIVE_KEY_SUFFIX;
+            if (game.isGameOver()) {
+                commands.zrem(playerKey, gameId);
+            } else {
+                commands.zadd(playerKey, score, gameId);
+            }
+        }
+        // A rollback can return a game to an unfinished state
+        if (game.isGameOver()) {
+            commands.zadd(FINISHED_KEY, score, gameId);
+            commands.zrem(UNFINISHED_KEY, gameId);
+        } else {
+            commands.zrem(FINISHED_KEY, gameId);
+            commands.zadd(UNFINISHED_KEY, score, gameId);
+        }
+    }
+
+    /**
+     * Queues the commands that remove a game from every secondary index.
+     */
+    private void unindexGame(PipelineCommands commands, String gameId, List<String> playerIds) {
+        for (GameState state : GameState.values()) {
+            commands.srem(STATE_KEY_PREFIX + state.name(), gameId);
+        }
+        for (GameType gameType : GameType.values()) {
+            commands.srem(TYPE_KEY_PREFIX + gameType.name(), gameId);
+        }
+        for (String playerId : playerIds) {
+            if (playerId != null) {
+                commands.zrem(PLAYER_ACTIVE_KEY_PREFIX + playerId + PLAYER_ACTIVE_KEY_SUFFIX, gameId);
+            }
+        }
+        commands.zrem(FINISHED_KEY, gameId);
+        commands.zrem(UNFINISHED_KEY, gameId);
+    }
+
+    /**
+     * Tries to store each update as a log append in one pipelined round trip and returns the updates
+     * that need a full snapshot instead: those without moves, those crossing a snapshot boundary and
+     * those whose stored state did not line up with the moves.
+     */
+    private List<GameUpdate> appendMoves(Jedis jedis, List<GameUpdate> updates) {
+        List<GameUpdate> snapshots = new ArrayList<>();
+        List<GameUpdate> appended = new ArrayList<>();
+        List<Response<Object>> results = new ArrayList<>();
+
+        Pipeline pipeline = jedis.pipelined();
+        for (GameUpdate update : updates) {
+            // Index updates are idempotent, so they are queued here even for games saved as snapshots below
+            indexGame(pipeline, update.game());
+            if (needsSnapshot(update)) {
+                snapshots.add(update);
+                continue;
+            }
+            Game game = update.game();
+            String gameKey = GAME_KEY_PREFIX + game.getId();
+            List<String> args = new ArrayList<>();
+            args.add(Long.toString(update.baseVersion()));
+            args.add(Long.toString(game.getVersion()));
+            args.add(game.getState().name());
+            args.add(game.getCurrentTurn().name());
+            args.add(Instant.now().toString());
+            args.add(Long.toString(ttlSeconds(game)));
+            update.moves().forEach(move -> args.add(move.encode()));
+
+            appended.add(update);
+            List<String> keys = List.of(gameKey, gameKey + MOVES_KEY_SUFFIX, gameKey + BOARD_KEY_SUFFIX);
+            results.add(pipeline.eval(APPEND_SCRIPT, keys, args));
+        }
+        pipeline.sync();
+
+        for (int i = 0; i < appended.size(); i++) {
+            if (!Long.valueOf(1L).equals(results.get(i).get())) {
+                snapshots.add(appended.get(i));
+            }
+        }
+        return snapshots;
+    }
+
+    private boolean needsSnapshot(GameUpdate update) {
+        if (update.moves().isEmpty()) {
             return true;
         }
+        // Snapshot whenever the moves cross a multiple of the snapshot interval
+        return update.game().getVersion() / snapshotInterval != update.baseVersion() / snapshotInterval;
+    }
+
+    /**
+     * Writes full snapshots for the given updates: one pipelined read of each game's log position,
+     * then one MULTI/EXEC writing every game so readers never see a half-written board.
+     */
+    private void writeSnapshots(Jedis jedis, List<GameUpdate> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        List<Response<List<String>>> storedPositions = new ArrayList<>();
+        List<Response<Long>> logLengths = new ArrayList<>();
+        Pipeline pipeline = jedis.pipelined();
+        for (GameUpdate update : updates) {
+            String gameKey = GAME_KEY_PREFIX + update.game().getId();
+            storedPositions.add(pipeline.hmget(gameKey, VERSION_FIELD, LOG_BASE_FIELD));
+            logLengths.add(pipeline.llen(gameKey + MOVES_KEY_SUFFIX));
+        }
+        pipeline.sync();
+
+        Transaction transaction = jedis.multi();
+        for (int i = 0; i < updates.size(); i++) {
+            String storedLogBase = storedPositions.get(i).get().get(1);
+            Long storedLogBaseValue = storedLogBase != null ? Long.valueOf(storedLogBase) : null;
+            writeSnapshot(transaction, updates.get(i), storedLogBaseValue, logLengths.get(i).get());
+        }
+        transaction.exec();
+    }
+
+    /**
+     * Queues the commands that store a full snapshot of a game and bring its move log in line with it.
+     * If the stored log covers the update's base version it is trimmed to that version and extended
+     * with the update's moves, keeping the history; otherwise it is restarted at the base version.
+     */
+    private void writeSnapshot(PipelineCommands commands, GameUpdate update, Long storedLogBase, long logLength) {
+        Game game = update.game();
+        String gameKey = GAME_KEY_PREFIX + game.getId();
+        String boardKey = gameKey + BOARD_KEY_SUFFIX;
+        String movesKey = gameKey + MOVES_KEY_SUFFIX;
+
+        long baseVersion = update.baseVersion();
+        boolean logCoversBase = storedLogBase != null
+            && storedLogBase <= baseVersion
+            && storedLogBase + logLength >= baseVersion;
+        long logBase = logCoversBase ? storedLogBase : baseVersion;
+
+        long keep = baseVersion - logBase;
+        if (keep == 0) {
+            commands.del(movesKey);
+        } else {
+            commands.ltrim(movesKey, 0, keep - 1);
+        }
+        if (!update.moves().isEmpty()) {
+            commands.rpush(movesKey, update.moves().stream().map(Move::encode).toArray(String[]::new));
+        }
+
+        Map<String, String> gameData = toGameData(game);
+        gameData.put(SNAPSHOT_VERSION_FIELD, Long.toString(game.getVersion()));
+        gameData.put(LOG_BASE_FIELD, Long.toString(logBase));
+        commands.hset(gameKey, gameData);
+
+        // Replace the board state with a single HSET instead of one command per piece
+        commands.del(boardKey);
+        Map<String, String> boardData = toBoardData(game.getBoard());
+        if (!boardData.isEmpty()) {
+            commands.hset(boardKey, boardData);
+        }
+
+        // Add the game ID to the set of all games
+        commands.sadd(GAMES_SET_KEY, game.getId());
+
+        long ttlSeconds = ttlSeconds(game);
+        if (ttlSeconds > 0) {
+            commands.expire(gameKey, ttlSeconds);
+            commands.expire(boardKey, ttlSeconds);
+            commands.expire(movesKey, ttlSeconds);
+        }
+    }
+
+    /**
+     * Returns the TTL to set on a game's keys after saving it, or 0 for none.
+     */
+    private long ttlSeconds(Game game) {
+        Duration ttl = game.isGameOver() ? settings.finishedTtl() : settings.idleTtl();
+        return ttl.getSeconds();
+    }
+
+    /**
+     * Rebuilds a game from the reply of {@link #READ_SCRIPT}: the snapshot board with the logged moves
+     * since the snapshot replayed on top. Returns null if the game does not exist.
+     */
+    private Game readGame(String gameId, Object reply) {
+        List<?> parts = asList(reply);
+        if (parts.isEmpty()) {
+            return null;
+        }
+
+        Map<String, String> gameData = toMap(asList(parts.get(0)));
+        List<?> tail = asList(parts.get(2));
+        long version = Long.parseLong(gameData.getOrDefault(VERSION_FIELD, "0"));
+        String snapshotVersion = gameData.getOrDefault(SNAPSHOT_VERSION_FIELD, Long.toString(version));
+        if (tail.size() != version - Long.parseLong(snapshotVersion)) {
+            throw new IllegalStateException("Move log for " + GAME_KEY_PREFIX + gameId
+                + " is missing moves after version " + snapshotVersion);
+        }
+
+        Board board = parseBoard(toMap(asList(parts.get(1))), BoardSize.valueOf(gameData.get("boardSize")));
+        for (Object encodedMove : tail) {
+            board = board.applyMove(Move.MoveFactory.decode(encodedMove.toString()));
+        }
+        return toGame(gameId, gameData, board);
+    }
+
+    /**
+     * Returns a script reply as a list. Jedis decodes an empty array in a script reply as an empty map.
+     */
+    private List<?> asList(Object reply) {
+        return reply instanceof List<?> list ? list : Collections.emptyList();
+    }
+
+    /**
+     * Converts a flat field/value reply, as returned by HGETALL inside a script, to a map.
+     */
+    private Map<String, String> toMap(List<?> fieldsAndValues) {
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i + 1 < fieldsAndValues.size(); i += 2) {
+            map.put(fieldsAndValues.get(i).toString(), fieldsAndValues.get(i + 1).toString());
+        }
+        return map;
     }
-    
+
+    /**
+     * Converts the game metadata to the Redis hash layout.
+     */
+    private Map<String, String> toGameData(Game game) {
+        Map<String, String> gameData = new HashMap<>();
+        gameData.put("id", game.getId());
+        gameData.put("state", game.getState().name());
+        gameData.put("currentTurn", game.getCurrentTurn().name());
+        gameData.put("boardSize", game.getBoard().getSize().name());
+        gameData.put("createdAt", game.getCreatedAt().toString());
+        gameData.put("updatedAt", Instant.now().toString());
+        gameData.put("gameType", game.getGameType().name());
+        gameData.put(VERSION_FIELD, Long.toString(game.getVersion()));
+
+        // Store player data
+        gameData.put("redPlayer:id", game.getRedPlayer().getId());
+        gameData.put("redPlayer:name", game.getRedPlayer().getName());
+        gameData.put("redPlayer:type", game.getRedPlayer().getType().name());
+
+        gameData.put("blackPlayer:id", game.getBlackPlayer().getId());
+        gameData.put("blackPlayer:name", game.getBlackPlayer().getName());
+        gameData.put("blackPlayer:type", game.getBlackPlayer().getType().name());
+        return gameData;
+    }
+
+    /**
+     * Creates a game from its Redis hash and the reconstructed board.
+     */
+    private Game toGame(String gameId, Map<String, String> gameData, Board board) {
+        Player redPlayer = Player.PlayerFactory.createPlayer(
+            gameData.get("redPlayer:id"),
+            gameData.get("redPlayer:name"),
+            PlayerType.valueOf(gameData.get("redPlayer:type")),
+            PlayerColor.RED
+        );
+
+        Player blackPlayer = Player.PlayerFactory.createPlayer(
+            gameData.get("blackPlayer:id"),
+            gameData.get("blackPlayer:name"),
+            PlayerType.valueOf(gameData.get("blackPlayer:type")),
+            PlayerColor.BLACK
+        );
+
+        return Game.GameFactory.createGame(
+            gameId,
+            board,
+            redPlayer,
+            blackPlayer,
+            PlayerColor.valueOf(gameData.get("currentTurn")),
+            GameState.valueOf(gameData.get("state")),
+            Instant.parse(gameData.get("createdAt")),
+            Instant.parse(gameData.get("updatedAt")),
+            GameType.valueOf(gameData.getOrDefault("gameType", GameType.STANDARD_AMERICAN.name())),
+            Long.parseLong(gameData.getOrDefault(VERSION_FIELD, "0"))
+        );
+    }
+
     /**
-     * Saves the board state to Redis.
+     * Converts the board state to the Redis hash layout.
      */
-    private void saveBoardState(Jedis jedis, String gameKey, Board board) {
-        String boardKey = gameKey + ":board";
-        
-        // Clear any existing board data
-        jedis.del(boardKey);
-        
-        // Store each piece on the board
+    private Map<String, String> toBoardData(Board board) {
+        Map<String, String> boardData = new HashMap<>();
         for (Map.Entry<Position, Piece> entry : board.getPieces().entrySet()) {
             Position pos = entry.getKey();
             Piece piece = entry.getValue();
-            
+
             String posKey = pos.row() + ":" + pos.column();
             String pieceValue = piece.getColor().name() + ":" + piece.getType().name();
-            
-            jedis.hset(boardKey, posKey, pieceValue);
+
+            boardData.put(posKey, pieceValue);
         }
+        return boardData;
     }
-    
+
     /**
-     * Loads the board state from Redis.
+     * Parses a board stored in the Redis hash layout.
      */
-    private Board loadBoardState(Jedis jedis, String gameKey, BoardSize boardSize) {
-        String boardKey = gameKey + ":board";
-        Map<String, String> boardData = jedis.hgetAll(boardKey);
+    private Board parseBoard(Map<String, String> boardData, BoardSize boardSize) {
         Map<Position, Piece> pieces = new HashMap<>();
-        
+
         for (Map.Entry<String, String> entry : boardData.entrySet()) {
             // Parse position
             String[] positionParts = entry.getKey().split(":");
             int row = Integer.parseInt(positionParts[0]);
             int col = Integer.parseInt(positionParts[1]);
             Position position = new Position(row, col);
-            
+
             // Parse piece
             String[] pieceParts = entry.getValue().split(":");
             PlayerColor color = PlayerColor.valueOf(pieceParts[0]);
             PieceType type = PieceType.valueOf(pieceParts[1]);
-            
+
             // Create piece based on type
-            Piece piece = (type == PieceType.MAN) 
+            Piece piece = (type == PieceType.MAN)
                 ? Piece.PieceFactory.createMan(color)
                 : Piece.PieceFactory.createKing(color);
-            
+
             pieces.put(position, piece);
         }
-        
+
         return Board.BoardFactory.createCustomBoard(boardSize, pieces);
     }
+
+    /**
+     * Settings for the Redis repository.
+     *
+     * @param snapshotInterval number of moves appended to the log between full snapshots
+     * @param finishedTtl TTL set on a finished game's keys on every save; zero for none
+     * @param idleTtl TTL set on an unfinished game's keys on every save; zero for none
+     */
+    public record Settings(int snapshotInterval, Duration finishedTtl, Duration idleTtl) {
+        public static final Settings DEFAULT = new Settings(DEFAULT_SNAPSHOT_INTERVAL, Duration.ZERO, Duration.ZERO);
+    }
 }
@@ -0,0 +1,227 @@
+package com.shalako.checkers.persistence;
+
+import com.shalako.checkers.enums.GameState;
+import com.shalako.checkers.enums.GameType;
+import com.shalako.checkers.model.Game;
+import com.shalako.checkers.model.Move;
+import com.shalako.checkers.util.ConsistentHashRing;
+import com.shalako.checkers.util.TaskExecutors;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Spreads games across several repositories, typically one Redis instance each, using a
+ * consistent-hash ring over game ids. Every operation on a single game goes to the shard that
+ * owns its id, batches are split per shard, and listing operations query all shards in parallel
+ * and merge the results. The calling thread queries one of the shards itself and the others run on
+ * the blocking-task executor, so concurrent listings do not queue behind each other.
+ *
+ * Shard names determine the ring layout, so they must stay the same across restarts; a game
+ * whose owner changes because shards were added or removed is not found until it is migrated.
+ */
+public class ShardedGameRepository implements GameRepository, AutoCloseable {
+    public static final int DEFAULT_VIRTUAL_NODES = 320;
+    // Platform threads per shard for fan-out queries when virtual threads are not available
+    private static final int FALLBACK_THREADS_PER_SHARD = 4;
+
+    private final ConsistentHashRing<Shard> ring;
+    private final ExecutorService fanOutExecutor;
+
+    /**
+     * Creates a sharded repository.
+     *
+     * @param shards the shard repositories keyed by their stable name
+     * @param virtualNodes the number of ring points per shard
+     */
+    public ShardedGameRepository(Map<String, GameRepository> shards, int virtualNodes) {
+        List<Shard> shardList = new ArrayList<>();
+        shards.forEach((name, repository) -> shardList.add(new Shard(name, repository)));
+        this.ring = new ConsistentHashRing<>(shardList, virtualNodes, Shard::name);
+
+        this.fanOutExecutor = TaskExecutors.newBlockingTaskExecutor("game-shard-fan-out",
+            shardList.size() * FALLBACK_THREADS_PER_SHARD);
+    }
+
+    @Override
+    public Game saveGame(Game game) {
+        return shardFor(game.getId()).saveGame(game);
+    }
+
+    @Override
+    public Game saveGame(Game game, List<Move> moves) {
+        return shardFor(game.getId()).saveGame(game, moves);
+    }
+
+    @Override
+    public void saveGames(List<GameUpdate> updates) {
+        Map<Shard, List<GameUpdate>> byShard = new LinkedHashMap<>();
+        for (GameUpdate update : updates) {
+            byShard.computeIfAbsent(ring.nodeFor(update.game().getId()), shard -> new ArrayList<>()).add(update);
+        }
+        parallel(new ArrayList<>(byShard.keySet()), shard -> {
+            shard.repository().saveGames(byShard.get(shard));
+            return null;
+        });
+    }
+
+    @Override
+    public Game getGame(String gameId) {
+        return shardFor(gameId).getGame(gameId);
+    }
+
+    @Override
+    public List<Game> getGames(List<String> gameIds) {
+        Map<Shard, List<String>> byShard = new LinkedHashMap<>();
+        for (String gameId : gameIds) {
+            byShard.computeIfAbsent(ring.nodeFor(gameId), shard -> new ArrayList<>()).add(gameId);
+        }
+        Map<String, Game> loaded = new HashMap<>();
+        for (List<Game> games : parallel(new ArrayList<>(byShard.keySet()), shard -> shard.repository().getGames(byShard.get(shard)))) {
+            games.forEach(game -> loaded.put(game.getId(), game));
+        }
+        return gameIds.stream().map(loaded::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Game> getAllGames() {
+        return fanOut(GameRepository::getAllGames);
+    }
+
+    @Override
+    public List<String> getGameIds() {
+        return fanOut(GameRepository::getGameIds);
+    }
+
+    @Override
+    public boolean deleteGame(String gameId) {
+        return shardFor(gameId).deleteGame(gameId);
+    }
+
+    @Override
+    public boolean deleteGame(String gameId, long expectedVersion) {
+        return shardFor(gameId).deleteGame(gameId, expectedVersion);
+    }
+
+    @Override
+    public Long getGameVersion(String gameId) {
+        return shardFor(gameId).getGameVersion(gameId);
+    }
+
+    @Override
+    public List<Move> getMoves(String gameId, long fromVersion) {
+        return shardFor(gameId).getMoves(gameId, fromVersion);
+    }
+
+    @Override
+    public List<Game> getActiveGamesForPlayer(String playerId, int offset, int limit) {
+        return mergePages(repository -> repository.getActiveGamesForPlayer(playerId, 0, offset + limit), offset, limit);
+    }
+
+    @Override
+    public List<Game> getRecentlyFinishedGames(int offset, int limit) {
+        return mergePages(repository -> repository.getRecentlyFinishedGames(0, offset + limit), offset, limit);
+    }
+
+    @Override
+    public List<String> getGameIdsByState(GameState state) {
+        return fanOut(repository -> repository.getGameIdsByState(state));
+    }
+
+    @Override
+    public List<String> getGameIdsByType(GameType gameType) {
+        return fanOut(repository -> repository.getGameIdsByType(gameType));
+    }
+
+    @Override
+    public List<String> getGameIdsUpdatedBefore(Instant finishedBefore, Instant unfinishedBefore) {
+        return fanOut(repository -> repository.getGameIdsUpdatedBefore(finishedBefore, unfinishedBefore));
+    }
+
+    /**
+     * Returns the name of the shard that owns the given game.
+     */
+    public String getShardName(String gameId) {
+        return ring.nodeFor(gameId).name();
+    }
+
+    @Override
+    public void close() {
+        fanOutExecutor.shutdownNow();
+    }
+
+    private GameRepository shardFor(String gameId) {
+        return ring.nodeFor(gameId).repository();
+    }
+
+    /**
+     * Runs a listing query on every shard in parallel and concatenates the results.
+     */
+    private <T> List<T> fanOut(Function<GameRepository, List<T>> query) {
+        List<T> merged = new ArrayList<>();
+        for (List<T> result : parallel(ring.getNodes(), shard -> query.apply(shard.repository()))) {
+            merged.addAll(result);
+        }
+        return merged;
+    }
+
+    /**
+     * Runs a task for each shard, the last one on the calling thread and the others on the fan-out executor,
+     * and returns the results in shard order once all are done.
+     */
+    private <T> List<T> parallel(List<Shard> shards, Function<Shard, T> task) {
+        if (shards.isEmpty()) {
+            return List.of();
+        }
+        List<CompletableFuture<T>> others = new ArrayList<>(shards.size() - 1);
+        for (Shard shard : shards.subList(0, shards.size() - 1)) {
+            others.add(CompletableFuture.supplyAsync(() -> task.apply(shard), fanOutExecutor));
+        }
+        T last = task.apply(shards.get(shards.size() - 1));
+        List<T> results = new ArrayList<>(shards.size());
+        for (CompletableFuture<T> other : others) {
+            results.add(join(other));
+        }
+        results.add(last);
+        return results;
+    }
+
+    /**
+     * Builds a page of a most-recently-updated listing: each shard returns its first {@code offset + limit}
+     * games, and the merged list is sorted and cut to the requested page.
+     */
+    private List<Game> mergePages(Function<GameRepository, List<Game>> firstGames, int offset, int limit) {
+        return fanOut(firstGames).stream()
+            .sorted(Comparator.comparing(Game::getUpdatedAt).reversed())
+            .skip(offset)
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Waits for a fan-out result, rethrowing a shard's runtime exception as it was thrown.
+     */
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Shard(String name, GameRepository repository) {
+    }
+}
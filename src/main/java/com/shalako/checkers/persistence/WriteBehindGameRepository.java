@@ -0,0 +1,506 @@
+package com.shalako.checkers.persistence;
+
+import com.shalako.checkers.enums.GameState;
+import com.shalako.checkers.enums.GameType;
+import com.shalako.checkers.model.Game;
+import com.shalako.checkers.model.Move;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-process write-behind cache in front of another {@link GameRepository}.
+ * Reads are served from memory and saves only mark the game dirty; a background
+ * thread flushes dirty games to the delegate in batches, so repeated saves of the
+ * same game within one flush interval collapse into a single write. Moves saved
+ * in between are collected so the delegate can append them to its move log.
+ *
+ * Intended for deployments where a game is only ever written by one node. The
+ * flush interval bounds how stale the delegate can be, and {@link #close()}
+ * flushes everything that is still pending. Listings see this node's pending
+ * games: paged listings first write just the pending games they could include,
+ * and id listings overlay them on the delegate's indexes.
+ */
+public class WriteBehindGameRepository implements GameRepository, AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(WriteBehindGameRepository.class);
+
+    private final GameRepository delegate;
+    private final Settings settings;
+    private final Map<String, CachedGame> cache = new ConcurrentHashMap<>();
+    private final Set<String> dirtyIds = ConcurrentHashMap.newKeySet();
+    private final Object flushLock = new Object();
+    private final AtomicBoolean evictionScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler;
+
+    public WriteBehindGameRepository(GameRepository delegate, Settings settings) {
+        this.delegate = delegate;
+        this.settings = settings;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = settings.flushInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::runMaintenance, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Game saveGame(Game game) {
+        return saveGame(game, Collections.emptyList());
+    }
+
+    @Override
+    public Game saveGame(Game game, List<Move> moves) {
+        cache.compute(game.getId(), (gameId, existing) -> CachedGame.dirty(game, pendingMoves(existing, game, moves)));
+        dirtyIds.add(game.getId());
+        scheduleEvictionIfOversized();
+        return game;
+    }
+
+    @Override
+    public void saveGames(List<GameUpdate> updates) {
+        for (GameUpdate update : updates) {
+            saveGame(update.game(), update.moves());
+        }
+    }
+
+    @Override
+    public Game getGame(String gameId) {
+        CachedGame cached = cache.get(gameId);
+        if (cached != null) {
+            cached.touch();
+            return cached.game;
+        }
+
+        Game loaded = delegate.getGame(gameId);
+        if (loaded == null) {
+            return null;
+        }
+
+        // A concurrent save may have populated the entry while we were loading; it wins
+        CachedGame existing = cache.putIfAbsent(gameId, CachedGame.clean(loaded));
+        scheduleEvictionIfOversized();
+        return existing != null ? existing.game : loaded;
+    }
+
+    @Override
+    public List<Game> getGames(List<String> gameIds) {
+        Map<String, Game> found = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String gameId : gameIds) {
+            CachedGame cached = cache.get(gameId);
+            if (cached != null) {
+                cached.touch();
+                found.put(gameId, cached.game);
+            } else {
+                missing.add(gameId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (Game loaded : delegate.getGames(missing)) {
+                // A concurrent save may have populated the entry while we were loading; it wins
+                CachedGame existing = cache.putIfAbsent(loaded.getId(), CachedGame.clean(loaded));
+                found.put(loaded.getId(), existing != null ? existing.game : loaded);
+            }
+            scheduleEvictionIfOversized();
+        }
+
+        List<Game> games = new ArrayList<>(found.size());
+        for (String gameId : gameIds) {
+            Game game = found.get(gameId);
+            if (game != null) {
+                games.add(game);
+            }
+        }
+        return games;
+    }
+
+    @Override
+    public List<Game> getAllGames() {
+        Map<String, Game> games = new LinkedHashMap<>();
+        for (Game game : delegate.getAllGames()) {
+            games.put(game.getId(), game);
+        }
+        // Overlay cached games, which may be newer than the delegate or not flushed yet
+        for (CachedGame cached : cache.values()) {
+            games.put(cached.game.getId(), cached.game);
+        }
+        return new ArrayList<>(games.values());
+    }
+
+    @Override
+    public List<String> getGameIds() {
+        Set<String> gameIds = new LinkedHashSet<>(delegate.getGameIds());
+        gameIds.addAll(cache.keySet());
+        return new ArrayList<>(gameIds);
+    }
+
+    @Override
+    public Long getGameVersion(String gameId) {
+        CachedGame cached = cache.get(gameId);
+        return cached != null ? cached.game.getVersion() : delegate.getGameVersion(gameId);
+    }
+
+    @Override
+    public List<Move> getMoves(String gameId, long fromVersion) {
+        // Make sure moves still waiting in the cache are in the delegate's log
+        if (dirtyIds.contains(gameId)) {
+            flush(List.of(gameId));
+        }
+        return delegate.getMoves(gameId, fromVersion);
+    }
+
+    @Override
+    public List<Game> getActiveGamesForPlayer(String playerId, int offset, int limit) {
+        // Listings come from the delegate's indexes, which only reflect flushed games, so write the player's pending games first
+        flushDirtyMatching(game -> !game.isGameOver()
+                && (game.getRedPlayer().getId().equals(playerId) || game.getBlackPlayer().getId().equals(playerId)));
+        return delegate.getActiveGamesForPlayer(playerId, offset, limit);
+    }
+
+    @Override
+    public List<Game> getRecentlyFinishedGames(int offset, int limit) {
+        flushDirtyMatching(Game::isGameOver);
+        return delegate.getRecentlyFinishedGames(offset, limit);
+    }
+
+    @Override
+    public List<String> getGameIdsByState(GameState state) {
+        // Pending games are overlaid on the delegate's index rather than written first
+        Set<String> gameIds = new LinkedHashSet<>(delegate.getGameIdsByState(state));
+        for (Game game : dirtyGames()) {
+            if (game.getState() == state) {
+                gameIds.add(game.getId());
+            } else {
+                gameIds.remove(game.getId());
+            }
+        }
+        return new ArrayList<>(gameIds);
+    }
+
+    @Override
+    public List<String> getGameIdsByType(GameType gameType) {
+        Set<String> gameIds = new LinkedHashSet<>(delegate.getGameIdsByType(gameType));
+        for (Game game : dirtyGames()) {
+            if (game.getGameType() == gameType) {
+                gameIds.add(game.getId());
+            }
+        }
+        return new ArrayList<>(gameIds);
+    }
+
+    @Override
+    public List<String> getGameIdsUpdatedBefore(Instant finishedBefore, Instant unfinishedBefore) {
+        // No flush: games still waiting to be written were saved recently, so they are not due anyway
+        return delegate.getGameIdsUpdatedBefore(finishedBefore, unfinishedBefore);
+    }
+
+    @Override
+    public boolean deleteGame(String gameId) {
+        // Hold the flush lock so an in-flight flush cannot resurrect the game after deletion
+        synchronized (flushLock) {
+            dirtyIds.remove(gameId);
+            CachedGame removed = cache.remove(gameId);
+            boolean deleted = delegate.deleteGame(gameId);
+            return deleted || removed != null;
+        }
+    }
+
+    @Override
+    public boolean deleteGame(String gameId, long expectedVersion) {
+        synchronized (flushLock) {
+            CachedGame cached = cache.get(gameId);
+            if (cached == null) {
+                return delegate.deleteGame(gameId, expectedVersion);
+            }
+            // The entry is only removed if no save replaced it since it was checked
+            if (cached.game.getVersion() != expectedVersion || !cache.remove(gameId, cached)) {
+                return false;
+            }
+            dirtyIds.remove(gameId);
+            delegate.deleteGame(gameId);
+            return true;
+        }
+    }
+
+    /**
+     * Writes all dirty games to the delegate, batch by batch.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            // Bound the work to what was dirty on entry so a steady stream of saves cannot keep us here
+            int pending = dirtyIds.size();
+            while (pending > 0 && !dirtyIds.isEmpty()) {
+                pending -= settings.batchSize();
+                write(takeDirtyBatch());
+            }
+        }
+    }
+
+    /**
+     * Writes the given games to the delegate if they are dirty, leaving other dirty games for the next flush.
+     */
+    public void flush(Collection<String> gameIds) {
+        synchronized (flushLock) {
+            List<GameUpdate> batch = new ArrayList<>(settings.batchSize());
+            for (String gameId : gameIds) {
+                if (dirtyIds.remove(gameId)) {
+                    takeDirty(gameId, batch);
+                }
+                if (batch.size() == settings.batchSize()) {
+                    write(batch);
+                    batch = new ArrayList<>(settings.batchSize());
+                }
+            }
+            write(batch);
+        }
+    }
+
+    /**
+     * Returns the number of games that have been saved but not yet flushed.
+     */
+    public int getDirtyCount() {
+        return dirtyIds.size();
+    }
+
+    /**
+     * Returns the number of games currently held in memory.
+     */
+    public int getCachedCount() {
+        return cache.size();
+    }
+
+    /**
+     * Stops the background flusher and writes any remaining dirty games.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(settings.flushInterval().toMillis() * 2, TimeUnit.MILLISECONDS)) {
+                LOG.warn("Write-behind flusher did not stop in time, flushing on the closing thread");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        LOG.info("Flushing {} pending games before shutdown", dirtyIds.size());
+        flush();
+    }
+
+    /**
+     * Removes up to one batch of ids from the dirty set and swaps their entries to clean,
+     * collecting the state and pending moves to write. The swap is atomic per entry, so a
+     * save racing with the flush either lands in this batch or starts a new set of pending
+     * moves on the clean entry and re-marks the game dirty for the next batch.
+     */
+    private List<GameUpdate> takeDirtyBatch() {
+        List<GameUpdate> batch = new ArrayList<>(settings.batchSize());
+        Iterator<String> iterator = dirtyIds.iterator();
+        while (iterator.hasNext() && batch.size() < settings.batchSize()) {
+            String gameId = iterator.next();
+            iterator.remove();
+            takeDirty(gameId, batch);
+        }
+        return batch;
+    }
+
+    /**
+     * Swaps a game's entry to clean and adds its state and pending moves to the batch, if it is still dirty.
+     * The caller has already removed the id from the dirty set.
+     */
+    private void takeDirty(String gameId, List<GameUpdate> batch) {
+        cache.computeIfPresent(gameId, (id, cached) -> {
+            if (!cached.dirty) {
+                return cached;
+            }
+            batch.add(new GameUpdate(cached.game, cached.pendingMoves));
+            return cached.cleaned();
+        });
+    }
+
+    /**
+     * Writes a batch taken from the dirty set. Must be called while holding the flush lock.
+     */
+    private void write(List<GameUpdate> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            delegate.saveGames(batch);
+        } catch (RuntimeException e) {
+            // The moves may be partly written, so retry the batch as full snapshots
+            batch.forEach(update -> markSnapshotRequired(update.game().getId()));
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the dirty games matching the filter, so a listing read from the delegate's indexes includes them.
+     */
+    private void flushDirtyMatching(Predicate<Game> filter) {
+        List<String> matching = dirtyGames().stream().filter(filter).map(Game::getId).toList();
+        if (!matching.isEmpty()) {
+            flush(matching);
+        }
+    }
+
+    /**
+     * Returns the games saved but not yet written to the delegate.
+     */
+    private List<Game> dirtyGames() {
+        List<Game> games = new ArrayList<>();
+        for (String gameId : dirtyIds) {
+            CachedGame cached = cache.get(gameId);
+            if (cached != null && cached.dirty) {
+                games.add(cached.game);
+            }
+        }
+        return games;
+    }
+
+    private void markSnapshotRequired(String gameId) {
+        cache.computeIfPresent(gameId, (id, cached) -> CachedGame.dirty(cached.game, Collections.emptyList()));
+        dirtyIds.add(gameId);
+    }
+
+    /**
+     * Works out the moves to write for a game being saved. Moves can only be appended to the
+     * pending ones when they continue from the cached version; otherwise, or when the cached
+     * entry already needs a snapshot, the game is written as a full snapshot.
+     */
+    private static List<Move> pendingMoves(CachedGame existing, Game game, List<Move> moves) {
+        if (existing == null || moves.isEmpty()) {
+            return moves;
+        }
+        long baseVersion = game.getVersion() - moves.size();
+        if (existing.game.getVersion() != baseVersion || existing.needsSnapshot()) {
+            return Collections.emptyList();
+        }
+        if (!existing.dirty) {
+            return moves;
+        }
+        List<Move> combined = new ArrayList<>(existing.pendingMoves);
+        combined.addAll(moves);
+        return combined;
+    }
+
+    private void runMaintenance() {
+        evictionScheduled.set(false);
+        try {
+            flush();
+            evict();
+        } catch (RuntimeException e) {
+            LOG.error("Write-behind flush failed, {} games remain dirty", dirtyIds.size(), e);
+        }
+    }
+
+    private void scheduleEvictionIfOversized() {
+        if (cache.size() > settings.maxSize() && !scheduler.isShutdown()
+                && evictionScheduled.compareAndSet(false, true)) {
+            scheduler.execute(this::runMaintenance);
+        }
+    }
+
+    /**
+     * Drops clean entries that have been idle longer than the TTL, then the least recently
+     * used clean entries until the cache is back within its size bound. Dirty entries are
+     * never evicted; they become clean once flushed.
+     */
+    private void evict() {
+        // Entries are swapped to clean before their write lands, so never evict during a flush
+        synchronized (flushLock) {
+            long expiredBefore = System.nanoTime() - settings.ttl().toNanos();
+            cache.values().removeIf(cached -> cached.lastAccessNanos < expiredBefore && !cached.dirty);
+
+            int excess = cache.size() - settings.maxSize();
+            if (excess <= 0) {
+                return;
+            }
+            // Snapshot access times first; sorting on live values could see them change mid-sort
+            List<EvictionCandidate> candidates = new ArrayList<>();
+            cache.forEach((gameId, cached) -> {
+                if (!cached.dirty) {
+                    candidates.add(new EvictionCandidate(gameId, cached, cached.lastAccessNanos));
+                }
+            });
+            candidates.sort(Comparator.comparingLong(EvictionCandidate::lastAccessNanos));
+            candidates.stream()
+                    .limit(excess)
+                    .forEach(candidate -> cache.remove(candidate.gameId(), candidate.cached()));
+        }
+    }
+
+    /**
+     * Cache entry holding an immutable game, whether it still has to be written, the moves
+     * played since it was last written and its last access time. A dirty entry without
+     * pending moves is written as a full snapshot.
+     */
+    private static final class CachedGame {
+        private final Game game;
+        private final boolean dirty;
+        private final List<Move> pendingMoves;
+        private volatile long lastAccessNanos;
+
+        private CachedGame(Game game, boolean dirty, List<Move> pendingMoves) {
+            this.game = game;
+            this.dirty = dirty;
+            this.pendingMoves = pendingMoves;
+            this.lastAccessNanos = System.nanoTime();
+        }
+
+        private static CachedGame clean(Game game) {
+            return new CachedGame(game, false, Collections.emptyList());
+        }
+
+        private static CachedGame dirty(Game game, List<Move> pendingMoves) {
+            return new CachedGame(game, true, pendingMoves);
+        }
+
+        private CachedGame cleaned() {
+            CachedGame cleaned = clean(game);
+            cleaned.lastAccessNanos = lastAccessNanos;
+            return cleaned;
+        }
+
+        private boolean needsSnapshot() {
+            return dirty && pendingMoves.isEmpty();
+        }
+
+        private void touch() {
+            lastAccessNanos = System.nanoTime();
+        }
+    }
+
+    private record EvictionCandidate(String gameId, CachedGame cached, long lastAccessNanos) {
+    }
+
+    /**
+     * Tuning for the write-behind cache.
+     *
+     * @param maxSize maximum number of games kept in memory
+     * @param ttl how long an unused clean game stays cached
+     * @param flushInterval upper bound on how long a save waits before reaching the delegate
+     * @param batchSize maximum number of games written to the delegate per call
+     */
+    public record Settings(int maxSize, Duration ttl, Duration flushInterval, int batchSize) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.shalako.checkers.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Consistent-hash ring that maps keys to nodes. Every node is placed on the ring at
+ * {@code virtualNodes} points, which evens out the share of keys each node receives, and a key
+ * belongs to the first node point at or after its own hash. Adding or removing a node only moves
+ * the keys on the arcs next to that node's points, roughly {@code 1/n} of all keys.
+ *
+ * @param <T> the node type
+ */
+public final class ConsistentHashRing<T> {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final NavigableMap<Long, T> ring = new TreeMap<>();
+    private final List<T> nodes;
+
+    /**
+     * Creates a ring.
+     *
+     * @param nodes the nodes to place on the ring
+     * @param virtualNodes the number of points per node
+     * @param nodeName a stable, unique name per node; node placement depends only on it
+     */
+    public ConsistentHashRing(Collection<T> nodes, int virtualNodes, Function<T, String> nodeName) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("A hash ring needs at least one node");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("Virtual nodes per node must be at least 1");
+        }
+        this.nodes = List.copyOf(nodes);
+        for (T node : nodes) {
+            String name = nodeName.apply(node);
+            for (int i = 0; i < virtualNodes; i++) {
+                T previous = ring.put(hash(name + "#" + i), node);
+                if (previous != null && previous != node) {
+                    throw new IllegalStateException("Hash collision between ring nodes " + previous + " and " + node);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the node that owns the given key.
+     */
+    public T nodeFor(String key) {
+        Map.Entry<Long, T> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * Returns all nodes on the ring.
+     */
+    public List<T> getNodes() {
+        return new ArrayList<>(nodes);
+    }
+
+    /**
+     * 64-bit FNV-1a followed by the MurmurHash3 finalizer, which spreads similar keys such as
+     * {@code node#1} and {@code node#2} across the whole ring.
+     */
+    static long hash(String key) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
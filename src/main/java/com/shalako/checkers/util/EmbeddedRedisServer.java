@@ -6,8 +6,11 @@ import redis.embedded.RedisServer;
 
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Utility class for managing an embedded Redis server.
@@ -20,6 +23,14 @@ public class EmbeddedRedisServer {
     private static final List<Integer> FALLBACK_PORTS = Arrays.asList(6380, 6381, 6382, 6383);
     private static int currentPort = DEFAULT_PORT;
     private static final String DEFAULT_MAXMEMORY = "128M";
+    private static final List<RedisServer> shardServers = new ArrayList<>();
+    // One short-lived daemon thread per probe, so a port that is slow to answer does not hold up the others
+    private static final Executor PROBE_EXECUTOR = runnable -> {
+        Thread thread = new Thread(runnable, "redis-probe");
+        thread.setDaemon(true);
+        thread.start();
+    };
+    private static CompletableFuture<List<Integer>> discovery;
 
     /**
      * Checks if a port is available.
@@ -42,20 +53,13 @@ public class EmbeddedRedisServer {
     public static void start() {
         logger.info("Starting embedded Redis server");
 
-        if (checkExternalRedisServer(DEFAULT_PORT)) {
-            currentPort = DEFAULT_PORT;
-            logger.info("Detected external Redis on port {}. Skipping embedded startup.", DEFAULT_PORT);
+        List<Integer> runningPorts = takeDiscovery().join();
+        if (!runningPorts.isEmpty()) {
+            currentPort = runningPorts.get(0);
+            logger.info("Detected external Redis on port {}. Skipping embedded startup.", currentPort);
             return;
         }
 
-        for (int port : FALLBACK_PORTS) {
-            if (checkExternalRedisServer(port)) {
-                currentPort = port;
-                logger.info("Detected external Redis on port {}. Skipping embedded startup.", port);
-                return;
-            }
-        }
-
         if (startOnPort(DEFAULT_PORT)) {
             return;
         }
@@ -69,6 +73,68 @@ public class EmbeddedRedisServer {
         logger.error("Failed to start embedded Redis server on any of the specified ports. You may set 'redis.embedded.enabled=false' and 'redis.external.enabled=true' to use an external Redis.");
     }
 
+    /**
+     * Starts looking for Redis servers already running on the default and fallback ports, probing every
+     * port at once. Called early in startup so the probes overlap with the application context starting;
+     * the next {@link #start()} uses the result instead of probing the ports one after another.
+     */
+    public static synchronized void discoverAsync() {
+        if (discovery == null) {
+            discovery = probePorts();
+        }
+    }
+
+    /**
+     * Checks whether a Redis server is running on a port, using the discovery started by
+     * {@link #discoverAsync()} when it covers the port.
+     *
+     * @param port The port to check
+     * @return true if a Redis server answers on the port
+     */
+    public static boolean isRedisRunning(int port) {
+        CompletableFuture<List<Integer>> pending;
+        synchronized (EmbeddedRedisServer.class) {
+            pending = discovery;
+        }
+        if (pending != null && (port == DEFAULT_PORT || FALLBACK_PORTS.contains(port))) {
+            return pending.join().contains(port);
+        }
+        return checkExternalRedisServer(port);
+    }
+
+    /**
+     * Returns the discovery started earlier, or starts one, and clears it so later calls probe afresh.
+     */
+    private static synchronized CompletableFuture<List<Integer>> takeDiscovery() {
+        CompletableFuture<List<Integer>> taken = discovery != null ? discovery : probePorts();
+        discovery = null;
+        return taken;
+    }
+
+    /**
+     * Probes the default and fallback ports in parallel.
+     *
+     * @return completes with the ports that have a running Redis server, in order of preference
+     */
+    private static CompletableFuture<List<Integer>> probePorts() {
+        List<Integer> ports = new ArrayList<>();
+        ports.add(DEFAULT_PORT);
+        ports.addAll(FALLBACK_PORTS);
+        List<CompletableFuture<Boolean>> probes = new ArrayList<>(ports.size());
+        for (int port : ports) {
+            probes.add(CompletableFuture.supplyAsync(() -> checkExternalRedisServer(port), PROBE_EXECUTOR));
+        }
+        return CompletableFuture.allOf(probes.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            List<Integer> running = new ArrayList<>();
+            for (int i = 0; i < ports.size(); i++) {
+                if (probes.get(i).join()) {
+                    running.add(ports.get(i));
+                }
+            }
+            return running;
+        });
+    }
+
     /**
      * Attempts to start the embedded Redis server on the specified port.
      *
@@ -112,6 +178,61 @@ public class EmbeddedRedisServer {
         }
     }
 
+    /**
+     * Makes additional Redis servers available on the fallback ports for running a sharded setup locally.
+     * Ports that already have a Redis server are used as they are; otherwise an embedded server is started.
+     * The port of the main server is never used as a shard.
+     *
+     * @param count The number of additional servers wanted
+     * @return the ports of the servers made available, which may be fewer than requested
+     */
+    public static synchronized List<Integer> startShards(int count) {
+        List<Integer> ports = new ArrayList<>();
+        for (int port : FALLBACK_PORTS) {
+            if (ports.size() == count) {
+                break;
+            }
+            if (port == currentPort && (isActive() || checkExternalRedisServer(port))) {
+                continue;
+            }
+            if (checkExternalRedisServer(port)) {
+                logger.info("Using existing Redis on port {} as a shard", port);
+                ports.add(port);
+                continue;
+            }
+            if (!isPortAvailable(port)) {
+                continue;
+            }
+            try {
+                RedisServer shard = new RedisServer(port);
+                shard.start();
+                shardServers.add(shard);
+                ports.add(port);
+                logger.info("Embedded Redis shard started on port {}", port);
+            } catch (Exception e) {
+                logger.error("Failed to start embedded Redis shard on port {}: {}", port, e.getMessage());
+            }
+        }
+        if (ports.size() < count) {
+            logger.warn("Only {} of {} Redis shards could be started on ports {}", ports.size(), count, FALLBACK_PORTS);
+        }
+        return ports;
+    }
+
+    /**
+     * Stops the embedded Redis shard servers started by {@link #startShards(int)}.
+     */
+    public static synchronized void stopShards() {
+        for (RedisServer shard : shardServers) {
+            try {
+                shard.stop();
+            } catch (IOException e) {
+                logger.warn("Failed to stop embedded Redis shard: {}", e.getMessage());
+            }
+        }
+        shardServers.clear();
+    }
+
     /**
      * Checks if the embedded Redis server is active.
      *
@@ -0,0 +1,118 @@
+package com.shalako.checkers.util;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPubSub;
+
+/**
+ * Keeps a Redis pub/sub subscription to a single channel open on a dedicated daemon thread.
+ * The subscription uses its own connection rather than one borrowed from the application pool,
+ * and reconnects after connection failures until it is closed.
+ */
+public class RedisSubscription implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(RedisSubscription.class);
+    private static final long RECONNECT_DELAY_MS = 1000;
+
+    private final HostAndPort endpoint;
+    private final String channel;
+    private final Listener listener;
+    private final CountDownLatch subscribed = new CountDownLatch(1);
+    private final Thread thread;
+    private volatile JedisPubSub pubSub;
+    private volatile boolean running = true;
+
+    public RedisSubscription(HostAndPort endpoint, String channel, Listener listener) {
+        this.endpoint = endpoint;
+        this.channel = channel;
+        this.listener = listener;
+        this.thread = new Thread(this::run, "redis-subscription-" + channel);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Waits until the first subscription has been confirmed by Redis.
+     *
+     * @param timeout How long to wait
+     * @return true if the subscription is established
+     */
+    public boolean awaitSubscribed(Duration timeout) throws InterruptedException {
+        return subscribed.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        JedisPubSub current = pubSub;
+        if (current != null && current.isSubscribed()) {
+            current.unsubscribe();
+        }
+        thread.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            try (Jedis jedis = new Jedis(endpoint)) {
+                pubSub = new ChannelPubSub();
+                // Blocks until unsubscribed or the connection drops
+                jedis.subscribe(pubSub, channel);
+            } catch (Exception e) {
+                if (running) {
+                    logger.warn("Subscription to channel {} lost: {}. Reconnecting.", channel, e.getMessage());
+                }
+            }
+            if (running) {
+                sleepBeforeReconnect();
+            }
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(RECONNECT_DELAY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private class ChannelPubSub extends JedisPubSub {
+        @Override
+        public void onSubscribe(String subscribedChannel, int subscribedChannels) {
+            logger.info("Subscribed to Redis channel {}", subscribedChannel);
+            listener.onSubscribed();
+            subscribed.countDown();
+        }
+
+        @Override
+        public void onMessage(String messageChannel, String message) {
+            try {
+                listener.onMessage(message);
+            } catch (RuntimeException e) {
+                logger.error("Failed to handle message on channel {}: {}", messageChannel, message, e);
+            }
+        }
+    }
+
+    /**
+     * Receives messages published on the subscribed channel.
+     */
+    public interface Listener {
+        /**
+         * Called for every message published on the channel.
+         */
+        void onMessage(String message);
+
+        /**
+         * Called each time the subscription is (re)established. Messages published while the
+         * subscription was down are lost, so listeners holding derived state should reset it here.
+         */
+        default void onSubscribed() {
+        }
+    }
+}
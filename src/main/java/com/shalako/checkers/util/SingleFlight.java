@@ -0,0 +1,83 @@
+package com.shalako.checkers.util;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Collapses concurrent loads of the same key into one. The first caller runs the loader; callers
+ * arriving while it runs wait for and share its result, or its exception. Nothing is cached: once
+ * the load finishes, the next caller starts a new one.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class SingleFlight<K, V> {
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong shared = new AtomicLong();
+
+    /**
+     * Returns the value for a key, joining a load already in flight for it or else running {@code loader}.
+     * Exceptions thrown by the loader are rethrown unchanged to every caller sharing the load.
+     */
+    public V load(K key, Function<K, V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            shared.incrementAndGet();
+            return await(existing);
+        }
+        loads.incrementAndGet();
+        try {
+            V value = loader.apply(key);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Detaches the load in flight for a key, if any, so later callers start a fresh one. Call it after
+     * the value changed, so no caller arriving after the change gets a value read before it.
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    /**
+     * Returns the number of loads that ran the loader.
+     */
+    public long getLoadCount() {
+        return loads.get();
+    }
+
+    /**
+     * Returns the number of calls that shared a load already in flight instead of running their own.
+     */
+    public long getSharedCount() {
+        return shared.get();
+    }
+
+    private static <V> V await(CompletableFuture<V> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.shalako.checkers.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates executors for blocking I/O work such as Redis calls.
+ * On Java 21 and later these run every task on its own virtual thread, so a blocked call does
+ * not tie up a platform thread; on older runtimes they fall back to a fixed pool of daemon threads.
+ */
+public final class TaskExecutors {
+    private static final Logger LOG = LoggerFactory.getLogger(TaskExecutors.class);
+
+    private TaskExecutors() {
+    }
+
+    /**
+     * Creates an executor for blocking tasks, backed by virtual threads when the runtime has them.
+     *
+     * @param name prefix for the names of fallback platform threads
+     * @param fallbackThreads number of platform threads used when virtual threads are not available
+     */
+    public static ExecutorService newBlockingTaskExecutor(String name, int fallbackThreads) {
+        try {
+            // Looked up reflectively so the code still compiles and runs on Java 17
+            ExecutorService executor = (ExecutorService) Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+            LOG.info("Running {} tasks on virtual threads", name);
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            LOG.info("Virtual threads are not available, running {} tasks on {} platform threads", name, fallbackThreads);
+            AtomicInteger threadCount = new AtomicInteger();
+            return Executors.newFixedThreadPool(fallbackThreads, runnable -> {
+                Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.shalako.checkers;
+
+import com.shalako.checkers.persistence.AdaptiveJedisPoolSizer;
+import com.shalako.checkers.persistence.GameRepository;
+import com.shalako.checkers.persistence.InMemoryGameRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import redis.clients.jedis.JedisPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"game.repository.type=memory", "game.repository.coalesce-reads=false"})
+class CheckersRestApplicationTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    void testNoRedisConnectionPoolIsCreatedWithoutTheRedisRepository() {
+        System.out.println("[DEBUG_LOG] Repository: " + context.getBean(GameRepository.class).getClass().getSimpleName());
+        assertInstanceOf(InMemoryGameRepository.class, context.getBean(GameRepository.class));
+        assertTrue(context.getBeansOfType(JedisPool.class).isEmpty());
+        assertTrue(context.getBeansOfType(AdaptiveJedisPoolSizer.class).isEmpty());
+    }
+}
@@ -3,21 +3,50 @@ package com.shalako.checkers.api.controller;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.shalako.checkers.api.dto.BatchMoveRequestDto;
+import com.shalako.checkers.api.dto.BatchMoveResultDto;
 import com.shalako.checkers.api.dto.BoardDisplayDto;
+import com.shalako.checkers.api.dto.BulkNewGameRequest;
+import com.shalako.checkers.api.dto.GameDeltaDto;
 import com.shalako.checkers.api.dto.GameResponseDto;
+import com.shalako.checkers.api.dto.LegalMovesDto;
 import com.shalako.checkers.api.dto.MoveRequestDto;
 import com.shalako.checkers.api.dto.NewGameRequest;
+import com.shalako.checkers.engine.BatchMoveResult;
+import com.shalako.checkers.engine.EngineOverloadedException;
 import com.shalako.checkers.engine.GameEngine;
+import com.shalako.checkers.engine.LegalMoves;
 import com.shalako.checkers.enums.BoardSize;
+import com.shalako.checkers.enums.GameMode;
 import com.shalako.checkers.enums.PlayerColor;
+import com.shalako.checkers.enums.PlayerType;
 import com.shalako.checkers.model.Game;
+import com.shalako.checkers.model.MoveRequest;
+import com.shalako.checkers.model.Position;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -165,4 +194,249 @@ public class GameControllerTest {
         // Verify the response
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
+
+    @Test
+    public void testConditionalGetReturnsNotModifiedUntilTheGameChanges() {
+        Game game = gameEngine.createGame(
+                BoardSize.EIGHT_BY_EIGHT,
+                "TestPlayer",
+                PlayerColor.RED
+        );
+        String gameUrl = getBaseUrl() + "/" + game.getId();
+
+        ResponseEntity<GameResponseDto> first = restTemplate.getForEntity(gameUrl, GameResponseDto.class);
+        String eTag = first.getHeaders().getETag();
+        System.out.println("[DEBUG_LOG] ETag: " + eTag);
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertEquals("\"0\"", eTag);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+        HttpEntity<Void> conditional = new HttpEntity<>(headers);
+        ResponseEntity<String> unchanged = restTemplate.exchange(gameUrl, HttpMethod.GET, conditional, String.class);
+        assertEquals(HttpStatus.NOT_MODIFIED, unchanged.getStatusCode());
+        assertNull(unchanged.getBody());
+        ResponseEntity<String> unchangedBoard = restTemplate.exchange(gameUrl + "/board", HttpMethod.GET, conditional, String.class);
+        assertEquals(HttpStatus.NOT_MODIFIED, unchangedBoard.getStatusCode());
+
+        // The human move and the computer's reply each advance the version
+        gameEngine.makeMove(MoveRequest.MoveRequestFactory.createMoveRequest(
+                game.getId(), game.getRedPlayer().getId(), new Position(5, 0), new Position(4, 1)));
+
+        ResponseEntity<GameResponseDto> changed = restTemplate.exchange(gameUrl, HttpMethod.GET, conditional, GameResponseDto.class);
+        System.out.println("[DEBUG_LOG] ETag after move: " + changed.getHeaders().getETag());
+        assertEquals(HttpStatus.OK, changed.getStatusCode());
+        assertEquals("\"2\"", changed.getHeaders().getETag());
+        assertNotNull(changed.getBody());
+    }
+
+    @Test
+    public void testLegalMovesAreGeneratedOncePerVersion() {
+        Game game = gameEngine.createGame(
+                BoardSize.EIGHT_BY_EIGHT,
+                "TestPlayer",
+                PlayerColor.RED
+        );
+
+        ResponseEntity<LegalMovesDto> response = restTemplate.getForEntity(
+                getBaseUrl() + "/" + game.getId() + "/legal-moves", LegalMovesDto.class);
+        System.out.println("[DEBUG_LOG] Legal moves: " + response.getBody());
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"0\"", response.getHeaders().getETag());
+        assertNotNull(response.getBody());
+        assertEquals(PlayerColor.RED, response.getBody().getCurrentTurn());
+        // Each of red's four front men can step left or right, except the one on the edge
+        assertEquals(7, response.getBody().getMoves().size());
+        assertTrue(response.getBody().getMoves().contains("50-41"));
+
+        // Served from the cache until the game changes
+        LegalMoves cached = gameEngine.getLegalMoves(game.getId());
+        assertSame(cached, gameEngine.getLegalMoves(game.getId()));
+
+        gameEngine.makeMove(MoveRequest.MoveRequestFactory.createMoveRequest(
+                game.getId(), game.getRedPlayer().getId(), new Position(5, 0), new Position(4, 1)));
+        LegalMoves afterMove = gameEngine.getLegalMoves(game.getId());
+        assertNotSame(cached, afterMove);
+        assertEquals(2, afterMove.version());
+    }
+
+    @Test
+    public void testSinceReturnsOnlyTheMovesTheClientMissed() {
+        Game game = gameEngine.createGame(
+                BoardSize.EIGHT_BY_EIGHT,
+                "TestPlayer",
+                PlayerColor.RED
+        );
+        String gameUrl = getBaseUrl() + "/" + game.getId();
+
+        // The move response carries the human move and the computer's reply, but no board
+        MoveRequestDto move = new MoveRequestDto(game.getId(), game.getRedPlayer().getId(), new Position(5, 0), new Position(4, 1));
+        ResponseEntity<GameDeltaDto> moved = restTemplate.postForEntity(gameUrl + "/moves?since=0", move, GameDeltaDto.class);
+        System.out.println("[DEBUG_LOG] Delta after move: " + moved.getBody());
+        assertEquals(HttpStatus.OK, moved.getStatusCode());
+        assertNotNull(moved.getBody());
+        assertEquals(2, moved.getBody().getVersion());
+        assertEquals(2, moved.getBody().getMoves().size());
+        assertEquals("50-41", moved.getBody().getMoves().get(0));
+        assertEquals(PlayerColor.RED, moved.getBody().getCurrentTurn());
+        assertNull(moved.getBody().getGame());
+
+        // A poll from version 1 gets just the computer's reply
+        GameDeltaDto polled = restTemplate.getForObject(gameUrl + "?since=1", GameDeltaDto.class);
+        assertEquals(List.of(moved.getBody().getMoves().get(1)), polled.getMoves());
+
+        // A version the game never had gets the whole game
+        GameDeltaDto unknown = restTemplate.getForObject(gameUrl + "?since=7", GameDeltaDto.class);
+        assertNull(unknown.getMoves());
+        assertNotNull(unknown.getGame());
+        assertEquals(game.getId(), unknown.getGame().getId());
+    }
+
+    @Test
+    public void testBatchPlaysEachGamesMovesInOrderAndReportsEachResult() {
+        Game first = gameEngine.createGame(BoardSize.EIGHT_BY_EIGHT, "BotA", PlayerColor.RED);
+        Game second = gameEngine.createGame(BoardSize.EIGHT_BY_EIGHT, "BotB", PlayerColor.RED);
+        String firstRed = first.getRedPlayer().getId();
+
+        BatchMoveRequestDto batch = new BatchMoveRequestDto(List.of(
+                new MoveRequestDto(first.getId(), firstRed, new Position(5, 0), new Position(4, 1)),
+                // (5,0) was emptied by the move before, so this one is refused
+                new MoveRequestDto(first.getId(), firstRed, new Position(5, 0), new Position(4, 1)),
+                new MoveRequestDto(second.getId(), second.getRedPlayer().getId(), new Position(5, 2), new Position(4, 3)),
+                new MoveRequestDto("no-such-game", "nobody", new Position(5, 0), new Position(4, 1)),
+                // A path needs at least two squares; only this move is refused for it
+                new MoveRequestDto(second.getId(), second.getRedPlayer().getId(), null, null, List.of(new Position(5, 2)))
+        ));
+
+        ResponseEntity<BatchMoveResultDto[]> response = restTemplate.postForEntity(
+                getBaseUrl() + "/moves", batch, BatchMoveResultDto[].class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        BatchMoveResultDto[] results = response.getBody();
+        assertNotNull(results);
+        for (BatchMoveResultDto result : results) {
+            System.out.println("[DEBUG_LOG] Batch result: " + result.getGameId() + " " + result.getStatus() + " " + result.getError());
+        }
+
+        assertEquals(5, results.length);
+        assertEquals(200, results[0].getStatus());
+        assertEquals(400, results[1].getStatus());
+        assertNotNull(results[1].getError());
+        assertEquals(200, results[2].getStatus());
+        // As for a single move
+        assertEquals(404, results[3].getStatus());
+        assertEquals(400, results[4].getStatus());
+        assertEquals(second.getId(), results[4].getGameId());
+
+        // Each played move and the computer's reply to it were saved
+        assertEquals(2, gameEngine.getGame(first.getId()).getVersion());
+        assertEquals(2, gameEngine.getGame(second.getId()).getVersion());
+    }
+
+    @Test
+    public void testBatchMoveRefusedByABusyEngineGets503WithRetryAfter() {
+        BatchMoveResultDto result = GameController.toBatchResult(
+                new BatchMoveResult("game-1", null, List.of(), new EngineOverloadedException("Engine is busy", 3)),
+                GameResponseDto.BoardFormat.PIECES);
+        assertEquals(503, result.getStatus());
+        assertEquals(3L, result.getRetryAfterSeconds());
+    }
+
+    @Test
+    public void testBulkComputerGamesArePlayedToCompletion() throws Exception {
+        BulkNewGameRequest request = new BulkNewGameRequest(3, BoardSize.EIGHT_BY_EIGHT, GameMode.COMPUTER_VS_COMPUTER, null, null);
+
+        ResponseEntity<GameResponseDto[]> response = restTemplate.postForEntity(
+                getBaseUrl() + "/bulk", request, GameResponseDto[].class);
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        GameResponseDto[] games = response.getBody();
+        assertNotNull(games);
+        assertEquals(3, games.length);
+
+        for (GameResponseDto created : games) {
+            assertEquals(PlayerType.COMPUTER, created.getRedPlayer().getType());
+            assertEquals(PlayerType.COMPUTER, created.getBlackPlayer().getType());
+            Game game = gameEngine.getGame(created.getId());
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (!game.isGameOver() && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+                game = gameEngine.getGame(created.getId());
+            }
+            System.out.println("[DEBUG_LOG] Self-play game " + game.getId() + " ended " + game.getState() + " after " + game.getVersion() + " moves");
+            assertTrue(game.isGameOver());
+            assertTrue(game.getVersion() > 0);
+        }
+    }
+
+    @Test
+    public void testBulkGamesWithTheComputerFirstComeBackAfterItsMove() {
+        BulkNewGameRequest request = new BulkNewGameRequest(2, BoardSize.EIGHT_BY_EIGHT, GameMode.HUMAN_VS_COMPUTER, "Bot", PlayerColor.BLACK);
+
+        ResponseEntity<GameResponseDto[]> response = restTemplate.postForEntity(
+                getBaseUrl() + "/bulk", request, GameResponseDto[].class);
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        GameResponseDto[] games = response.getBody();
+        assertNotNull(games);
+        assertEquals(2, games.length);
+        for (GameResponseDto game : games) {
+            assertEquals("Bot", game.getBlackPlayer().getName());
+            assertEquals(PlayerColor.BLACK, game.getCurrentTurn());
+        }
+
+        // A human-vs-computer game needs its player
+        request.setPlayerName(null);
+        assertEquals(HttpStatus.BAD_REQUEST, restTemplate.postForEntity(
+                getBaseUrl() + "/bulk", request, String.class).getStatusCode());
+    }
+
+    @Test
+    public void testEventStreamPushesCurrentStateAndMoves() throws Exception {
+        Game game = gameEngine.createGame(
+                BoardSize.EIGHT_BY_EIGHT,
+                "TestPlayer",
+                PlayerColor.RED
+        );
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(getBaseUrl() + "/" + game.getId() + "/events"))
+                .header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE)
+                .build();
+        HttpResponse<Stream<String>> response = HttpClient.newHttpClient()
+                .send(request, HttpResponse.BodyHandlers.ofLines());
+        assertEquals(200, response.statusCode());
+
+        BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+        Thread reader = new Thread(() -> response.body().forEach(lines::add));
+        reader.setDaemon(true);
+        reader.start();
+
+        try {
+            assertEquals("event:game", nextEventLine(lines));
+            String initialState = nextEventLine(lines);
+            System.out.println("[DEBUG_LOG] Initial event: " + initialState);
+            assertTrue(initialState.contains("\"version\":0"));
+
+            gameEngine.makeMove(MoveRequest.MoveRequestFactory.createMoveRequest(
+                    game.getId(), game.getRedPlayer().getId(), new Position(5, 0), new Position(4, 1)));
+
+            assertEquals("event:move", nextEventLine(lines));
+            String moveEvent = nextEventLine(lines);
+            System.out.println("[DEBUG_LOG] Move event: " + moveEvent);
+            assertTrue(moveEvent.contains("\"version\":2"));
+            assertTrue(moveEvent.contains("\"50-41\""), "Event should list the human move");
+        } finally {
+            response.body().close();
+        }
+    }
+
+    /**
+     * Returns the next event or data line of a server-sent event stream, skipping blank and comment lines.
+     */
+    private static String nextEventLine(BlockingQueue<String> lines) throws InterruptedException {
+        while (true) {
+            String line = lines.poll(10, TimeUnit.SECONDS);
+            assertNotNull(line, "Timed out waiting for an event");
+            if (!line.isBlank() && !line.startsWith(":")) {
+                return line;
+            }
+        }
+    }
 }
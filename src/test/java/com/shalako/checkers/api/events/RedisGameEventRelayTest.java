@@ -0,0 +1,115 @@
+package com.shalako.checkers.api.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.shalako.checkers.enums.BoardSize;
+import com.shalako.checkers.enums.PlayerColor;
+import com.shalako.checkers.model.Game;
+import com.shalako.checkers.util.EmbeddedRedisServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.JedisPool;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that game events reach subscribers on other nodes through Redis pub/sub.
+ */
+class RedisGameEventRelayTest {
+
+    private static boolean startedRedis;
+
+    private JedisPool pool;
+    private RecordingBroadcaster broadcasterA;
+    private RecordingBroadcaster broadcasterB;
+    private RedisGameEventRelay nodeA;
+    private RedisGameEventRelay nodeB;
+
+    @BeforeAll
+    static void startRedis() {
+        boolean wasActive = EmbeddedRedisServer.isActive();
+        EmbeddedRedisServer.start();
+        // Only stop the server afterwards if this test started it
+        startedRedis = !wasActive && EmbeddedRedisServer.isActive();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        if (startedRedis) {
+            EmbeddedRedisServer.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        HostAndPort endpoint = new HostAndPort("127.0.0.1", EmbeddedRedisServer.getCurrentPort());
+        RedisGameEventRelay.Settings settings = new RedisGameEventRelay.Settings(endpoint, "test:events");
+        pool = new JedisPool(endpoint.getHost(), endpoint.getPort());
+        broadcasterA = new RecordingBroadcaster();
+        broadcasterB = new RecordingBroadcaster();
+        nodeA = new RedisGameEventRelay(broadcasterA, pool, settings);
+        nodeB = new RedisGameEventRelay(broadcasterB, pool, settings);
+        assertTrue(nodeA.awaitSubscribed(Duration.ofSeconds(5)));
+        assertTrue(nodeB.awaitSubscribed(Duration.ofSeconds(5)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+        broadcasterA.close();
+        broadcasterB.close();
+        pool.close();
+    }
+
+    @Test
+    void testUpdatesReachLocalAndRemoteSubscribersOnce() throws InterruptedException {
+        Game game = Game.GameFactory.createHumanVsComputerGame(BoardSize.EIGHT_BY_EIGHT, "Player1", PlayerColor.RED);
+
+        nodeA.onGameUpdated(game, Collections.emptyList());
+
+        String remote = broadcasterB.delivered.poll(5, TimeUnit.SECONDS);
+        System.out.println("[DEBUG_LOG] Relayed event: " + remote);
+        assertNotNull(remote, "The other node should receive the event");
+        assertTrue(remote.contains(game.getId()));
+
+        // The publishing node delivers locally, and ignores its own message when it comes back
+        Thread.sleep(200);
+        assertEquals(List.of(remote), broadcasterA.deliveredSnapshot());
+        assertTrue(broadcasterB.delivered.isEmpty());
+    }
+
+    /**
+     * Broadcaster that records what it is asked to deliver instead of writing to clients.
+     */
+    private static final class RecordingBroadcaster extends GameEventBroadcaster {
+        private final BlockingQueue<String> delivered = new LinkedBlockingQueue<>();
+        private final List<String> all = new CopyOnWriteArrayList<>();
+
+        private RecordingBroadcaster() {
+            super(new ObjectMapper().registerModule(new JavaTimeModule()), Settings.DEFAULT);
+        }
+
+        @Override
+        public void deliver(String gameId, String eventJson) {
+            delivered.add(eventJson);
+            all.add(eventJson);
+        }
+
+        private List<String> deliveredSnapshot() {
+            return List.copyOf(all);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.shalako.checkers.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.shalako.checkers.api.dto.GameResponseDto;
+import com.shalako.checkers.api.dto.GameResponseDto.BoardFormat;
+import com.shalako.checkers.enums.BoardSize;
+import com.shalako.checkers.enums.PlayerColor;
+import com.shalako.checkers.model.Game;
+import java.util.function.Function;
+
+/**
+ * Compares the two board formats of game responses: the map of pieces keyed by position and the
+ * compact one-character-per-square string. For each board size it prints the response size and the
+ * time to build and serialise a response, measured after a warm-up so the JIT has compiled both paths.
+ *
+ * Run it with {@code ./gradlew boardEncodingBenchmark -Pbenchmark.iterations=200000}.
+ */
+public class BoardEncodingBenchmark {
+    private static final ObjectMapper MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+
+        for (BoardSize size : new BoardSize[] {BoardSize.STANDARD, BoardSize.INTERNATIONAL}) {
+            Game game = Game.GameFactory.createHumanVsComputerGame(size, "Benchmark", PlayerColor.RED);
+            System.out.printf("%s board, %d iterations%n", size, iterations);
+            for (BoardFormat format : BoardFormat.values()) {
+                Function<Game, byte[]> serialise = g -> write(GameResponseDto.fromGame(g, format));
+                int bytes = serialise.apply(game).length;
+                int boardBytes = write(GameResponseDto.fromGame(game, format).getBoard()).length;
+
+                // Warm up, then measure
+                run(serialise, game, iterations);
+                long elapsedNanos = run(serialise, game, iterations);
+                System.out.printf("  %-8s response %6d bytes (board %5d bytes), %8.2f us per response%n",
+                        format, bytes, boardBytes, elapsedNanos / 1_000.0 / iterations);
+            }
+        }
+    }
+
+    private static long run(Function<Game, byte[]> serialise, Game game, int iterations) {
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += serialise.apply(game).length;
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == 42) {
+            // Keeps the results observable so the loop is not optimised away
+            System.out.println();
+        }
+        return elapsed;
+    }
+
+    private static byte[] write(Object value) {
+        try {
+            return MAPPER.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.shalako.checkers.config;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestResponseLoggingFilterTest {
+
+    @Test
+    public void testUnsampledRequestsAreNotWrapped() throws Exception {
+        RequestResponseLoggingFilter filter = new RequestResponseLoggingFilter(0.0, 16, 100);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/games/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+        filter.destroy();
+
+        assertSame(request, chain.getRequest(), "Unsampled request should reach the controller unwrapped");
+        assertSame(response, chain.getResponse(), "Unsampled response should reach the controller unwrapped");
+    }
+
+    @Test
+    public void testSampledResponsesAreWrittenThroughAndCapturedUpToTheCap() throws Exception {
+        RequestResponseLoggingFilter filter = new RequestResponseLoggingFilter(1.0, 16, 100);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/games");
+        request.setContent("{\"playerName\":\"Player1\"}".getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String body = "{\"id\":\"game-1\",\"board\":{\"pieces\":{}}}";
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest req, ServletResponse res) throws IOException, ServletException {
+                super.doFilter(req, res);
+                req.getInputStream().readAllBytes();
+                res.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        };
+
+        filter.doFilter(request, response, chain);
+        filter.destroy();
+
+        assertInstanceOf(ContentCachingRequestWrapper.class, chain.getRequest());
+        BodyCapturingResponseWrapper wrapper = assertInstanceOf(BodyCapturingResponseWrapper.class, chain.getResponse());
+        System.out.println("[DEBUG_LOG] Captured response body: " + wrapper.getCapturedBody());
+
+        assertEquals(body, response.getContentAsString(), "The full body should reach the client");
+        assertEquals(body.substring(0, 16), wrapper.getCapturedBody());
+        assertEquals(body.length(), wrapper.getBodyLength());
+    }
+}
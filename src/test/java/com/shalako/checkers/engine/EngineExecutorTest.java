@@ -0,0 +1,48 @@
+package com.shalako.checkers.engine;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EngineExecutorTest {
+
+    @Test
+    void testWorkThatWaitedTooLongRunsItsFallbackAndFullQueueIsRejected() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        try (EngineExecutor executor = new EngineExecutor(new EngineExecutor.Settings(1, 1, 20))) {
+            // Occupy the only thread, then queue one task behind it
+            CompletableFuture<String> blocker = executor.supplyAsync(() -> {
+                await(release);
+                return "blocker";
+            });
+            CompletableFuture<String> queued = executor.supplyAsync(() -> "full search", () -> "quick move");
+
+            CompletableFuture<String> rejected = executor.supplyAsync(() -> "rejected");
+            EngineOverloadedException overloaded = assertThrows(EngineOverloadedException.class,
+                    () -> executor.call(() -> "rejected"));
+            assertTrue(rejected.isCompletedExceptionally());
+            assertTrue(overloaded.getRetryAfterSeconds() >= 1);
+
+            Thread.sleep(50);
+            release.countDown();
+            assertEquals("blocker", blocker.get(5, TimeUnit.SECONDS));
+            String result = queued.get(5, TimeUnit.SECONDS);
+            System.out.println("[DEBUG_LOG] Queued task returned: " + result + ", retry after: " + overloaded.getRetryAfterSeconds() + "s");
+            assertEquals("quick move", result);
+
+            // Work that did not wait runs in full
+            assertEquals("full search", executor.call(() -> "full search", () -> "quick move"));
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,16 +1,30 @@
 package com.shalako.checkers.engine;
 
 import com.shalako.checkers.enums.BoardSize;
+import com.shalako.checkers.enums.GameMode;
 import com.shalako.checkers.enums.GameState;
 import com.shalako.checkers.enums.PlayerColor;
+import com.shalako.checkers.enums.PlayerType;
 import com.shalako.checkers.model.*;
 import com.shalako.checkers.engine.rules.AmericanCheckersRules;
+import com.shalako.checkers.persistence.AsyncGameRepository;
 import com.shalako.checkers.persistence.GameRepository;
+import com.shalako.checkers.persistence.InMemoryGameRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -49,4 +63,212 @@ public class GameEngineTest {
         assertEquals(GameState.IN_PROGRESS, game.getState(), "Game should be in the IN_PROGRESS state");
         assertFalse(game.isGameOver(), "Game should not be over");
     }
+
+    @Test
+    public void testDeferredComputerReplyIsSavedAndAnnouncedAfterTheHumanMove() throws Exception {
+        InMemoryGameRepository repository = new InMemoryGameRepository();
+        GameRulesFactory rulesFactory = new GameRulesFactory();
+        AsyncGameRepository asyncRepository = new AsyncGameRepository(repository, Executors.newFixedThreadPool(2));
+        EngineExecutor engineExecutor = new EngineExecutor(new EngineExecutor.Settings(1, 4));
+        GameEngine deferredEngine = new GameEngine(repository, rulesFactory, asyncRepository, engineExecutor,
+                new GameEngine.Settings(true, GameEngine.Settings.DEFAULT.legalMoveCacheSize(),
+                        GameEngine.Settings.DEFAULT.maxDeltaMoves()));
+        BlockingQueue<Game> updates = new LinkedBlockingQueue<>();
+        deferredEngine.addUpdateListener((updated, moves) -> updates.add(updated));
+
+        Game game = deferredEngine.createGame(BoardSize.STANDARD, "Player1", PlayerColor.RED);
+        Game afterHumanMove = deferredEngine.makeMove(MoveRequest.MoveRequestFactory.createMoveRequest(
+                game.getId(), game.getRedPlayer().getId(), new Position(5, 0), new Position(4, 1)));
+
+        // The human move is returned before the computer has replied
+        System.out.println("[DEBUG_LOG] Returned version: " + afterHumanMove.getVersion() + ", turn: " + afterHumanMove.getCurrentTurn());
+        assertEquals(1, afterHumanMove.getVersion());
+        assertEquals(PlayerColor.BLACK, afterHumanMove.getCurrentTurn());
+
+        assertEquals(1, updates.poll(5, TimeUnit.SECONDS).getVersion());
+        Game reply = updates.poll(5, TimeUnit.SECONDS);
+        assertNotNull(reply, "The computer's reply should be announced");
+        assertEquals(2, reply.getVersion());
+        assertEquals(PlayerColor.RED, reply.getCurrentTurn());
+        assertEquals(2, repository.getMoves(game.getId(), 0).size());
+
+        engineExecutor.close();
+        asyncRepository.close();
+    }
+
+    @Test
+    public void testSelfPlayGameStillRunningAtThePlyLimitIsDrawnAndSavedOnce() {
+        InMemoryGameRepository repository = new InMemoryGameRepository();
+        GameEngine selfPlayEngine = new GameEngine(repository, new GameRulesFactory());
+        BlockingQueue<Game> updates = new LinkedBlockingQueue<>();
+        selfPlayEngine.addUpdateListener((updated, moves) -> updates.add(updated));
+
+        Game game = selfPlayEngine.createGames(GameMode.COMPUTER_VS_COMPUTER, BoardSize.STANDARD, null, null, 1).get(0);
+        Game played = selfPlayEngine.playToCompletion(game.getId(), 6);
+
+        System.out.println("[DEBUG_LOG] Self-play state: " + played.getState() + ", version: " + played.getVersion());
+        assertEquals(GameState.DRAW, played.getState());
+        assertEquals(6, played.getVersion());
+        assertEquals(6, repository.getMoves(game.getId(), 0).size());
+        assertEquals(1, updates.size(), "All the moves should be announced as one update");
+        assertEquals(played.getVersion(), repository.getGame(game.getId()).getVersion());
+    }
+
+    @Test
+    public void testGameEndedWithoutAMoveTakesANewVersion() {
+        InMemoryGameRepository repository = new InMemoryGameRepository();
+        GameEngine selfPlayEngine = new GameEngine(repository, new GameRulesFactory());
+
+        // Adjudicated before any move is played
+        Game game = selfPlayEngine.createGames(GameMode.COMPUTER_VS_COMPUTER, BoardSize.STANDARD, null, null, 1).get(0);
+        Game drawn = selfPlayEngine.playToCompletion(game.getId(), 0);
+        assertEquals(GameState.DRAW, drawn.getState());
+        assertEquals(game.getVersion() + 1, drawn.getVersion());
+        assertEquals(drawn.getVersion(), repository.getGame(game.getId()).getVersion());
+
+        // The red man is blocked, so the computer to move has no legal move and loses
+        Board blocked = Board.BoardFactory.createCustomBoard(BoardSize.STANDARD, Map.of(
+                new Position(1, 0), Piece.PieceFactory.createMan(PlayerColor.RED),
+                new Position(0, 1), Piece.PieceFactory.createMan(PlayerColor.BLACK)));
+        Game stuck = Game.GameFactory.createGame("stuck", blocked,
+                Player.PlayerFactory.createComputerPlayer(PlayerColor.RED),
+                Player.PlayerFactory.createComputerPlayer(PlayerColor.BLACK), PlayerColor.RED, GameState.IN_PROGRESS,
+                game.getCreatedAt(), game.getUpdatedAt(), game.getGameType(), 3);
+        repository.saveGame(stuck);
+        Game lost = selfPlayEngine.playToCompletion(stuck.getId(), 10);
+
+        System.out.println("[DEBUG_LOG] Stuck game state: " + lost.getState() + ", version: " + lost.getVersion());
+        assertEquals(GameState.BLACK_WON, lost.getState());
+        assertEquals(4, lost.getVersion());
+        assertEquals(4, repository.getGame(stuck.getId()).getVersion());
+    }
+
+    @Test
+    public void testBatchLargerThanTheEngineQueuePlaysEveryMove() throws Exception {
+        InMemoryGameRepository repository = new InMemoryGameRepository();
+        AsyncGameRepository asyncRepository = new AsyncGameRepository(repository, Executors.newFixedThreadPool(2));
+        EngineExecutor engineExecutor = new EngineExecutor(new EngineExecutor.Settings(2, 4));
+        GameEngine batchEngine = new GameEngine(repository, new GameRulesFactory(), asyncRepository, engineExecutor);
+
+        // The computer plays red and moves first in every game
+        List<MoveRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Game game = Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Bot", PlayerColor.BLACK);
+            repository.saveGame(game);
+            requests.add(MoveRequest.MoveRequestFactory.createMoveRequest(
+                    game.getId(), game.getRedPlayer().getId(), null, null, PlayerType.COMPUTER));
+        }
+
+        List<BatchMoveResult> results = batchEngine.makeMovesAsync(requests).get(10, TimeUnit.SECONDS);
+        assertEquals(50, results.size());
+        for (BatchMoveResult result : results) {
+            assertTrue(result.isPlayed(), () -> "Move refused: " + result.error());
+            assertEquals(1, repository.getGame(result.gameId()).getVersion());
+        }
+
+        engineExecutor.close();
+        asyncRepository.close();
+    }
+
+    @Test
+    public void testBatchRefusedByABusyEngineReportsTheOverload() throws Exception {
+        InMemoryGameRepository repository = new InMemoryGameRepository();
+        AsyncGameRepository asyncRepository = new AsyncGameRepository(repository, Executors.newFixedThreadPool(2));
+        EngineExecutor engineExecutor = new EngineExecutor(new EngineExecutor.Settings(1, 1));
+        GameEngine batchEngine = new GameEngine(repository, new GameRulesFactory(), asyncRepository, engineExecutor);
+        Game game = batchEngine.createGame(BoardSize.STANDARD, "Bot", PlayerColor.BLACK);
+
+        // Occupy the only engine thread and its one queue slot
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable block = () -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        engineExecutor.supplyAsync(() -> { block.run(); return null; });
+        engineExecutor.supplyAsync(() -> { block.run(); return null; });
+        try {
+            List<BatchMoveResult> results = batchEngine.makeMovesAsync(List.of(MoveRequest.MoveRequestFactory.createMoveRequest(
+                    game.getId(), game.getRedPlayer().getId(), null, null, PlayerType.COMPUTER))).get(10, TimeUnit.SECONDS);
+            System.out.println("[DEBUG_LOG] Overloaded batch result: " + results.get(0).error());
+            assertFalse(results.get(0).isPlayed());
+            assertInstanceOf(EngineOverloadedException.class, results.get(0).error());
+            assertEquals(0, repository.getGame(game.getId()).getVersion());
+        } finally {
+            release.countDown();
+            engineExecutor.close();
+            asyncRepository.close();
+        }
+    }
+
+    @Test
+    public void testBulkGamesAreNotCreatedWhenTheEngineCannotPlayTheOpeningMoves() {
+        InMemoryGameRepository repository = new InMemoryGameRepository();
+        AsyncGameRepository asyncRepository = new AsyncGameRepository(repository, Executors.newFixedThreadPool(2));
+        EngineExecutor engineExecutor = new EngineExecutor(new EngineExecutor.Settings(1, 1));
+        GameEngine batchEngine = new GameEngine(repository, new GameRulesFactory(), asyncRepository, engineExecutor);
+
+        // Occupy the only engine thread and its one queue slot
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable block = () -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        engineExecutor.supplyAsync(() -> { block.run(); return null; });
+        engineExecutor.supplyAsync(() -> { block.run(); return null; });
+        try {
+            EngineOverloadedException e = assertThrows(EngineOverloadedException.class, () ->
+                    batchEngine.createGames(GameMode.HUMAN_VS_COMPUTER, BoardSize.STANDARD, "Bot", PlayerColor.BLACK, 5));
+            System.out.println("[DEBUG_LOG] Bulk creation rejected: " + e.getMessage());
+            assertTrue(repository.getAllGames().isEmpty());
+        } finally {
+            release.countDown();
+            engineExecutor.close();
+            asyncRepository.close();
+        }
+    }
+
+    @Test
+    public void testAsyncComputerMoveDoesNotHoldARepositoryThread() throws Exception {
+        InMemoryGameRepository repository = new InMemoryGameRepository();
+        AsyncGameRepository asyncRepository = new AsyncGameRepository(repository, Executors.newSingleThreadExecutor());
+        EngineExecutor engineExecutor = new EngineExecutor(new EngineExecutor.Settings(1, 4));
+        GameEngine asyncEngine = new GameEngine(repository, new GameRulesFactory(), asyncRepository, engineExecutor);
+        Game game = Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Bot", PlayerColor.BLACK);
+        repository.saveGame(game);
+
+        // Keep the only engine thread busy so the computer's move has to wait for it
+        CountDownLatch release = new CountDownLatch(1);
+        engineExecutor.supplyAsync(() -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+        try {
+            CompletableFuture<Game> move = asyncEngine.makeMoveAsync(MoveRequest.MoveRequestFactory.createMoveRequest(
+                    game.getId(), game.getRedPlayer().getId(), null, null, PlayerType.COMPUTER));
+
+            // The single repository thread is free to serve other reads meanwhile
+            assertEquals(game.getId(), asyncRepository.getGameAsync(game.getId()).get(5, TimeUnit.SECONDS).getId());
+            assertFalse(move.isDone());
+
+            release.countDown();
+            Game played = move.get(10, TimeUnit.SECONDS);
+            System.out.println("[DEBUG_LOG] Async computer move version: " + played.getVersion());
+            assertEquals(1, played.getVersion());
+            assertEquals(1, repository.getGame(game.getId()).getVersion());
+        } finally {
+            release.countDown();
+            engineExecutor.close();
+            asyncRepository.close();
+        }
+    }
 }
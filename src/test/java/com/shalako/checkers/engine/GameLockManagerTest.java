@@ -0,0 +1,221 @@
+package com.shalako.checkers.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameLockManagerTest {
+
+    private final GameLockManager lockManager = new GameLockManager();
+
+    @Test
+    void testSameGameIsSerialised() throws Exception {
+        int threads = 8;
+        int iterations = 2000;
+        int[] counter = new int[1];
+        long[] latencies = new long[threads * iterations];
+        AtomicLong slot = new AtomicLong();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < iterations; i++) {
+                        long start = System.nanoTime();
+                        lockManager.withLock("game-1", () -> counter[0]++);
+                        latencies[(int) slot.getAndIncrement()] = System.nanoTime() - start;
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // A lost update would show up as a lower count
+        assertEquals(threads * iterations, counter[0]);
+        assertEquals(0, lockManager.getActiveLockCount());
+
+        Arrays.sort(latencies);
+        System.out.println("[DEBUG_LOG] Contended lock latency p50=" + latencies[latencies.length / 2] / 1000
+                + "us p99=" + latencies[(int) (latencies.length * 0.99)] / 1000 + "us");
+    }
+
+    @Test
+    void testDifferentGamesDoNotContend() throws Exception {
+        CountDownLatch holdingA = new CountDownLatch(1);
+        CountDownLatch releaseA = new CountDownLatch(1);
+
+        Thread holder = new Thread(() -> lockManager.withLock("game-a", () -> {
+            holdingA.countDown();
+            try {
+                releaseA.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        holder.start();
+        assertTrue(holdingA.await(5, TimeUnit.SECONDS));
+
+        // Must complete immediately even though game-a is held
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> other = executor.submit(() -> lockManager.withLock("game-b", () -> "done"));
+            assertEquals("done", other.get(1, TimeUnit.SECONDS));
+        } finally {
+            releaseA.countDown();
+            holder.join();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testThroughputAcrossThousandsOfGames() throws Exception {
+        int games = 5000;
+        int movesPerGame = 20;
+        int[] moves = new int[games];
+
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int g = 0; g < games; g++) {
+                int game = g;
+                futures.add(executor.submit(() -> {
+                    for (int m = 0; m < movesPerGame; m++) {
+                        lockManager.withLock("game-" + game, () -> moves[game]++);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        assertTrue(Arrays.stream(moves).allMatch(count -> count == movesPerGame));
+        assertEquals(0, lockManager.getActiveLockCount());
+        System.out.println("[DEBUG_LOG] " + games * movesPerGame + " locked operations over " + games
+                + " games in " + elapsedMs + "ms (" + (games * movesPerGame * 1000L / elapsedMs) + " ops/s)");
+    }
+
+    @Test
+    void testAsyncOperationsHoldTheGameUntilTheirFutureCompletes() throws Exception {
+        int operations = 200;
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        int[] counter = new int[1];
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        // Blocked synchronous callers must not occupy the threads the async stages run on
+        ExecutorService blockingCallers = Executors.newFixedThreadPool(4);
+        try {
+            List<CompletableFuture<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < operations; i++) {
+                if (i % 10 == 0) {
+                    // Synchronous callers queue up behind the same game
+                    results.add(CompletableFuture.supplyAsync(() -> lockManager.withLock("game-1", () -> ++counter[0]), blockingCallers));
+                    continue;
+                }
+                // Each operation spans two stages on different threads; nothing else may run in between
+                results.add(lockManager.withLockAsync("game-1", () -> CompletableFuture
+                        .supplyAsync(() -> {
+                            if (running.incrementAndGet() > 1) {
+                                overlaps.incrementAndGet();
+                            }
+                            return counter[0];
+                        }, executor)
+                        .thenApplyAsync(read -> {
+                            counter[0] = read + 1;
+                            running.decrementAndGet();
+                            return counter[0];
+                        }, executor)));
+            }
+            CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+            blockingCallers.shutdownNow();
+        }
+
+        assertEquals(0, overlaps.get());
+        assertEquals(operations, counter[0]);
+        assertEquals(0, lockManager.getActiveLockCount());
+    }
+
+    @Test
+    void testFailedAsyncOperationReleasesTheGame() throws Exception {
+        CompletableFuture<String> failed = lockManager.withLockAsync("game-1", () -> {
+            throw new IllegalStateException("boom");
+        });
+        CompletionException error = assertThrows(CompletionException.class, failed::join);
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+
+        // The next operation on the game still runs
+        assertEquals("next", lockManager.withLockAsync("game-1", () -> CompletableFuture.completedFuture("next"))
+                .get(1, TimeUnit.SECONDS));
+        assertEquals(0, lockManager.getActiveLockCount());
+    }
+
+    @Test
+    void testOverlappingMultiGameOperationsNeitherOverlapNorDeadlock() throws Exception {
+        int operations = 400;
+        String[] games = {"game-a", "game-b", "game-c", "game-d"};
+        AtomicInteger[] running = new AtomicInteger[games.length];
+        for (int g = 0; g < games.length; g++) {
+            running[g] = new AtomicInteger();
+        }
+        AtomicInteger overlaps = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<CompletableFuture<Void>> results = new ArrayList<>();
+            for (int i = 0; i < operations; i++) {
+                // Alternate the order the games are named in; a naive lock order would deadlock
+                int first = i % games.length;
+                int second = (first + 1 + i % 2) % games.length;
+                List<String> ids = i % 2 == 0 ? List.of(games[first], games[second]) : List.of(games[second], games[first]);
+                results.add(lockManager.withLocksAsync(ids, () -> CompletableFuture.runAsync(() -> {
+                    for (int g : new int[] {first, second}) {
+                        if (running[g].incrementAndGet() > 1) {
+                            overlaps.incrementAndGet();
+                        }
+                    }
+                    Thread.yield();
+                    running[first].decrementAndGet();
+                    running[second].decrementAndGet();
+                }, executor)));
+                // Single-game operations interleave with the multi-game ones
+                results.add(lockManager.withLockAsync(games[second], () -> CompletableFuture.runAsync(() -> {
+                    if (running[second].incrementAndGet() > 1) {
+                        overlaps.incrementAndGet();
+                    }
+                    running[second].decrementAndGet();
+                }, executor)));
+            }
+            CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(0, overlaps.get());
+        assertEquals(0, lockManager.getActiveLockCount());
+    }
+}
@@ -1,17 +1,22 @@
 package com.shalako.checkers.engine.rules;
 
 import com.shalako.checkers.enums.BoardSize;
+import com.shalako.checkers.enums.GameState;
 import com.shalako.checkers.enums.GameType;
 import com.shalako.checkers.enums.PieceType;
 import com.shalako.checkers.enums.PlayerColor;
 import com.shalako.checkers.model.Board;
 import com.shalako.checkers.model.Game;
 import com.shalako.checkers.model.Move;
+import com.shalako.checkers.model.MoveRequest;
 import com.shalako.checkers.model.Piece;
+import com.shalako.checkers.model.Player;
 import com.shalako.checkers.model.Position;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import java.time.Instant;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import static org.junit.jupiter.api.Assertions.*;
@@ -60,4 +65,58 @@ class AmericanCheckersRulesTest {
         List<Move> moves = rules.getValidMoves(board, new Position(3, 3));
         assertEquals(4, moves.size());
     }
+
+    @Test
+    void testFullPathSelectsOneOfTwoDoubleJumpsEndingOnTheSameSquare() {
+        // Both double jumps from (5,3) finish on (1,3): one via (3,1), the other via (3,5)
+        Map<Position, Piece> pieces = new HashMap<>();
+        pieces.put(new Position(5, 3), Piece.PieceFactory.createMan(PlayerColor.RED));
+        pieces.put(new Position(4, 2), Piece.PieceFactory.createMan(PlayerColor.BLACK));
+        pieces.put(new Position(2, 2), Piece.PieceFactory.createMan(PlayerColor.BLACK));
+        pieces.put(new Position(4, 4), Piece.PieceFactory.createMan(PlayerColor.BLACK));
+        pieces.put(new Position(2, 4), Piece.PieceFactory.createMan(PlayerColor.BLACK));
+        Player red = Player.PlayerFactory.createHumanPlayer("Red", PlayerColor.RED);
+        Game game = Game.GameFactory.createGame("multi-jump", Board.BoardFactory.createCustomBoard(BoardSize.EIGHT_BY_EIGHT, pieces),
+            red, Player.PlayerFactory.createComputerPlayer(PlayerColor.BLACK), PlayerColor.RED, GameState.IN_PROGRESS,
+            Instant.now(), Instant.now(), GameType.STANDARD_AMERICAN);
+
+        List<Position> path = List.of(new Position(5, 3), new Position(3, 5), new Position(1, 3));
+        Move move = rules.validateMove(game, MoveRequest.MoveRequestFactory.createMoveRequest(game.getId(), red.getId(), path));
+
+        assertEquals(path, move.getPath());
+        assertEquals(List.of(new Position(4, 4), new Position(2, 4)), move.getCapturedPieces());
+
+        // A path that stops before the sequence ends is not a legal move
+        MoveRequest partial = MoveRequest.MoveRequestFactory.createMoveRequest(game.getId(), red.getId(),
+            List.of(new Position(5, 3), new Position(3, 5)));
+        assertThrows(IllegalArgumentException.class, () -> rules.validateMove(game, partial));
+    }
+
+    @Test
+    void testQuickMovesAreLegalAndStopAtTheFirstCapturingPiece() {
+        // Two red men can capture; quick moves return the jumps of only one of them
+        Map<Position, Piece> pieces = new HashMap<>();
+        pieces.put(new Position(5, 1), Piece.PieceFactory.createMan(PlayerColor.RED));
+        pieces.put(new Position(4, 2), Piece.PieceFactory.createMan(PlayerColor.BLACK));
+        pieces.put(new Position(5, 5), Piece.PieceFactory.createMan(PlayerColor.RED));
+        pieces.put(new Position(4, 6), Piece.PieceFactory.createMan(PlayerColor.BLACK));
+        pieces.put(new Position(6, 0), Piece.PieceFactory.createMan(PlayerColor.RED));
+        board = Board.BoardFactory.createCustomBoard(BoardSize.EIGHT_BY_EIGHT, pieces);
+
+        List<Move> legal = rules.getAllValidMoves(board, PlayerColor.RED);
+        List<Move> quick = rules.getQuickMoves(board, PlayerColor.RED);
+        assertEquals(2, legal.size());
+        assertEquals(1, quick.size());
+        assertTrue(quick.get(0).isJump());
+        assertTrue(legal.containsAll(quick));
+
+        // Without captures every simple move is offered, promotions included
+        pieces.clear();
+        pieces.put(new Position(1, 1), Piece.PieceFactory.createMan(PlayerColor.RED));
+        pieces.put(new Position(5, 5), Piece.PieceFactory.createMan(PlayerColor.RED));
+        board = Board.BoardFactory.createCustomBoard(BoardSize.EIGHT_BY_EIGHT, pieces);
+        assertEquals(new HashSet<>(rules.getAllValidMoves(board, PlayerColor.RED)),
+            new HashSet<>(rules.getQuickMoves(board, PlayerColor.RED)));
+        assertTrue(rules.getQuickMoves(board, PlayerColor.RED).stream().anyMatch(Move::isPromotion));
+    }
 }
@@ -0,0 +1,185 @@
+package com.shalako.checkers.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.shalako.checkers.engine.GameRulesFactory;
+import com.shalako.checkers.engine.rules.GameRules;
+import com.shalako.checkers.enums.BoardSize;
+import com.shalako.checkers.enums.GameType;
+import com.shalako.checkers.enums.PieceType;
+import com.shalako.checkers.enums.PlayerColor;
+import com.shalako.checkers.model.Board;
+import com.shalako.checkers.model.Move;
+import com.shalako.checkers.model.Piece;
+import com.shalako.checkers.model.Position;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Drives a running server with concurrent simulated players and reports throughput and latency.
+ *
+ * Each client creates a human vs computer game, then loops: read the game, play a random legal
+ * move and let the server answer with the computer's move, starting a new game when one ends.
+ * Every request therefore does Redis I/O and half of them a computer search.
+ *
+ * Run it with {@code ./gradlew loadTest -PloadTest.url=http://localhost:8080 -PloadTest.clients=200
+ * -PloadTest.seconds=60} against a server started with {@code spring.threads.virtual.enabled=false}
+ * and again with {@code true} to compare the two request execution modes.
+ */
+public class MoveLoadGenerator {
+    private static final Pattern POSITION_PATTERN = Pattern.compile("row=(\\d+), column=(\\d+)");
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final GameRules rules = new GameRulesFactory().getRules(GameType.STANDARD_AMERICAN);
+    private final ConcurrentLinkedQueue<Long> latenciesMicros = new ConcurrentLinkedQueue<>();
+    private final AtomicLong errors = new AtomicLong();
+
+    public MoveLoadGenerator(String baseUrl, HttpClient httpClient) {
+        this.baseUrl = baseUrl;
+        this.httpClient = httpClient;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+
+        ExecutorService clientThreads = Executors.newFixedThreadPool(clients);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(4, clients / 10)))
+                .build();
+        MoveLoadGenerator generator = new MoveLoadGenerator(baseUrl, httpClient);
+
+        System.out.printf("Running %d clients against %s for %ds%n", clients, baseUrl, seconds);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        long start = System.nanoTime();
+        for (int i = 0; i < clients; i++) {
+            String playerName = "load-" + i;
+            clientThreads.execute(() -> generator.runClient(playerName, deadline));
+        }
+        clientThreads.shutdown();
+        clientThreads.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+        generator.report(System.nanoTime() - start);
+        System.exit(0);
+    }
+
+    private void runClient(String playerName, long deadline) {
+        JsonNode game = null;
+        while (System.nanoTime() < deadline) {
+            try {
+                if (game == null || game.path("gameOver").asBoolean()) {
+                    ObjectNode body = mapper.createObjectNode()
+                            .put("playerName", playerName)
+                            .put("boardSize", BoardSize.EIGHT_BY_EIGHT.name())
+                            .put("playerColor", PlayerColor.RED.name());
+                    game = send("POST", "/games", body);
+                    continue;
+                }
+                String gameId = game.get("id").asText();
+                game = send("GET", "/games/" + gameId, null);
+
+                Move move = randomMove(game);
+                if (move == null) {
+                    game = null;
+                    continue;
+                }
+                ObjectNode body = mapper.createObjectNode()
+                        .put("gameId", gameId)
+                        .put("playerId", game.get("redPlayer").get("id").asText());
+                body.putObject("from").put("row", move.getFrom().row()).put("column", move.getFrom().column());
+                body.putObject("to").put("row", move.getTo().row()).put("column", move.getTo().column());
+                game = send("POST", "/games/" + gameId + "/moves", body);
+            } catch (Exception e) {
+                errors.incrementAndGet();
+                game = null;
+            }
+        }
+    }
+
+    private JsonNode send(String method, String path, JsonNode body) throws Exception {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .method(method, publisher)
+                .build();
+
+        long start = System.nanoTime();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        latenciesMicros.add(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(method + " " + path + " returned " + response.statusCode());
+        }
+        return mapper.readTree(response.body());
+    }
+
+    /**
+     * Picks a random legal move for RED from a game response, or null if RED cannot move.
+     */
+    private Move randomMove(JsonNode game) {
+        Map<Position, Piece> pieces = new HashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = game.get("board").get("pieces").fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            Matcher matcher = POSITION_PATTERN.matcher(field.getKey());
+            if (!matcher.find()) {
+                continue;
+            }
+            PlayerColor color = PlayerColor.valueOf(field.getValue().get("color").asText());
+            Piece piece = PieceType.KING.name().equals(field.getValue().get("type").asText())
+                    ? Piece.PieceFactory.createKing(color)
+                    : Piece.PieceFactory.createMan(color);
+            pieces.put(new Position(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))), piece);
+        }
+        Board board = Board.BoardFactory.createCustomBoard(BoardSize.EIGHT_BY_EIGHT, pieces);
+
+        List<Move> moves = new ArrayList<>();
+        for (Map.Entry<Position, Piece> entry : pieces.entrySet()) {
+            if (entry.getValue().getColor() == PlayerColor.RED) {
+                moves.addAll(rules.getValidMoves(board, entry.getKey()));
+            }
+        }
+        return moves.isEmpty() ? null : moves.get(ThreadLocalRandom.current().nextInt(moves.size()));
+    }
+
+    private void report(long elapsedNanos) {
+        List<Long> sorted = new ArrayList<>(latenciesMicros);
+        sorted.sort(null);
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("Requests: %d, errors: %d, throughput: %.1f req/s%n",
+                sorted.size(), errors.get(), sorted.size() / seconds);
+        if (!sorted.isEmpty()) {
+            System.out.printf("Latency ms: p50=%.1f p95=%.1f p99=%.1f max=%.1f%n",
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    sorted.get(sorted.size() - 1) / 1000.0);
+        }
+    }
+
+    private static double percentile(List<Long> sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1000.0;
+    }
+}
@@ -58,4 +58,23 @@ public class BoardTest {
         assertTrue(hasBlackPieces, "There should be BLACK pieces in rows 0, 1, 2");
         assertTrue(hasRedPieces, "There should be RED pieces in rows 5, 6, 7");
     }
+
+    @Test
+    public void testCompactEncodingRoundTrips() {
+        Board board = Board.BoardFactory.createStandardBoard(BoardSize.STANDARD)
+                .applyMove(Move.MoveFactory.createSimpleMove(new Position(5, 0), new Position(4, 1)));
+        Map<Position, Piece> pieces = board.getPieces();
+        pieces.put(new Position(3, 4), Piece.PieceFactory.createKing(PlayerColor.BLACK));
+        board = Board.BoardFactory.createCustomBoard(BoardSize.STANDARD, pieces);
+
+        String encoded = board.encode();
+        System.out.println("[DEBUG_LOG] Encoded board: " + encoded);
+
+        assertEquals(64, encoded.length());
+        assertEquals(".b.b.b.b", encoded.substring(0, 8));
+        assertEquals('r', encoded.charAt(4 * 8 + 1));
+        assertEquals('B', encoded.charAt(3 * 8 + 4));
+        assertEquals(board, Board.BoardFactory.decode(BoardSize.STANDARD, encoded));
+        assertThrows(IllegalArgumentException.class, () -> Board.BoardFactory.decode(BoardSize.INTERNATIONAL, encoded));
+    }
 }
@@ -0,0 +1,177 @@
+package com.shalako.checkers.pdn;
+
+import com.shalako.checkers.engine.GameEngine;
+import com.shalako.checkers.engine.GameRulesFactory;
+import com.shalako.checkers.engine.rules.GameRules;
+import com.shalako.checkers.enums.BoardSize;
+import com.shalako.checkers.enums.GameState;
+import com.shalako.checkers.enums.GameType;
+import com.shalako.checkers.enums.PlayerColor;
+import com.shalako.checkers.model.Board;
+import com.shalako.checkers.model.Game;
+import com.shalako.checkers.model.Move;
+import com.shalako.checkers.model.Player;
+import com.shalako.checkers.model.Position;
+import com.shalako.checkers.persistence.GameRepository;
+import com.shalako.checkers.persistence.GameUpdate;
+import com.shalako.checkers.persistence.InMemoryGameRepository;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PdnTest {
+
+    private final GameRulesFactory gameRulesFactory = new GameRulesFactory();
+
+    @Test
+    public void testSquareNumbersAndFenRoundTrip() {
+        assertEquals(1, PdnNotation.toSquare(new Position(0, 1), BoardSize.STANDARD));
+        assertEquals(32, PdnNotation.toSquare(new Position(7, 6), BoardSize.STANDARD));
+        assertEquals(50, PdnNotation.toSquare(new Position(9, 8), BoardSize.INTERNATIONAL));
+        for (int square = 1; square <= 32; square++) {
+            assertEquals(square, PdnNotation.toSquare(PdnNotation.toPosition(square, BoardSize.STANDARD), BoardSize.STANDARD));
+        }
+
+        Board board = Board.BoardFactory.createStandardBoard(BoardSize.STANDARD);
+        String fen = PdnNotation.formatFen(board, PlayerColor.RED);
+        System.out.println("[DEBUG_LOG] Standard FEN: " + fen);
+        PdnNotation.FenPosition position = PdnNotation.parseFen(fen, BoardSize.STANDARD);
+        assertEquals(board, position.board());
+        assertEquals(PlayerColor.RED, position.toMove());
+        assertEquals(board, PdnNotation.parseFen("W:W21-32:B1-12", BoardSize.STANDARD).board());
+    }
+
+    @Test
+    public void testExportedGamesImportWithTheirMoves() throws Exception {
+        GameRepository source = new InMemoryGameRepository();
+        List<Game> games = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            games.add(playOpening(source, 6 + i));
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int exported = new PdnExporter(source).exportGames(Channels.newChannel(out));
+        assertEquals(games.size(), exported);
+        out.toString(StandardCharsets.UTF_8).lines().limit(12).forEach(line -> System.out.println("[DEBUG_LOG] " + line));
+
+        // The target already holds an older version of the first game and a newer one of the second
+        GameRepository target = new InMemoryGameRepository();
+        target.saveGame(withVersion(games.get(0), 1));
+        target.saveGame(withVersion(games.get(1), 100));
+
+        PdnImporter importer = new PdnImporter(new GameEngine(target, gameRulesFactory), gameRulesFactory,
+            new PdnImporter.Settings(2, 2));
+        PdnImportResult result = importer.importGames(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())));
+        System.out.println("[DEBUG_LOG] Import result: " + result);
+
+        assertEquals(games.size() - 1, result.imported());
+        assertEquals(1, result.rejected());
+        assertTrue(result.errors().get(0).startsWith("Game " + games.get(1).getId()));
+        assertEquals(100, target.getGame(games.get(1).getId()).getVersion());
+        for (Game game : games.subList(2, games.size())) {
+            Game imported = target.getGame(game.getId());
+            assertNotNull(imported, "Imported game should keep its id");
+            assertEquals(game.getBoard(), imported.getBoard());
+            assertEquals(game.getCurrentTurn(), imported.getCurrentTurn());
+            assertEquals(game.getState(), imported.getState());
+            assertEquals(game.getVersion(), imported.getVersion());
+            assertEquals(game.getCreatedAt(), imported.getCreatedAt());
+            assertEquals(game.getRedPlayer().getName(), imported.getRedPlayer().getName());
+            // Players keep their ids, so they can still play their restored games
+            assertEquals(game.getRedPlayer().getId(), imported.getRedPlayer().getId());
+            assertEquals(game.getBlackPlayer().getId(), imported.getBlackPlayer().getId());
+            assertEquals(source.getMoves(game.getId(), 0), target.getMoves(game.getId(), 0));
+        }
+        assertEquals(games.get(0).getBoard(), target.getGame(games.get(0).getId()).getBoard());
+    }
+
+    @Test
+    public void testGamesWithIllegalMovesAreRejected() throws Exception {
+        String pdn = """
+            [Event "Legal"]
+            [GameType "21"]
+            1. 11-15 23-19 2. 8-11 22-17 *
+
+            [Event "Illegal"]
+            [GameType "21"]
+            1. 11-15 23-19 2. 15-10 *
+            [Event "Unreadable"]
+            1. 11-15 {a comment} 23-99 *
+            """;
+
+        GameRepository target = new InMemoryGameRepository();
+        PdnImporter importer = new PdnImporter(new GameEngine(target, gameRulesFactory), gameRulesFactory,
+            PdnImporter.Settings.DEFAULT);
+        PdnImportResult result = importer.importGames(
+            Channels.newChannel(new ByteArrayInputStream(pdn.getBytes(StandardCharsets.UTF_8))));
+        System.out.println("[DEBUG_LOG] Import result: " + result);
+
+        assertEquals(1, result.imported());
+        assertEquals(2, result.rejected());
+        assertEquals(2, result.errors().size());
+        assertTrue(result.errors().stream().anyMatch(error -> error.startsWith("Game 2: Illegal move 3")));
+
+        Game game = target.getAllGames().get(0);
+        assertEquals(4, target.getMoves(game.getId(), 0).size());
+        assertEquals(PlayerColor.BLACK, game.getCurrentTurn(), "Black moves first in English draughts");
+        assertEquals(GameState.IN_PROGRESS, game.getState());
+    }
+
+    /**
+     * Plays the first legal move for each side a number of times and saves the game with its moves.
+     */
+    private Game playOpening(GameRepository repository, int plies) {
+        GameRules rules = gameRulesFactory.getRules(GameType.STANDARD_AMERICAN);
+        Board board = Board.BoardFactory.createStandardBoard(BoardSize.STANDARD);
+        PlayerColor toMove = PlayerColor.RED;
+        List<Move> moves = new ArrayList<>();
+        for (int i = 0; i < plies; i++) {
+            Move move = firstLegalMove(rules, board, toMove);
+            moves.add(move);
+            board = board.applyMove(move);
+            toMove = toMove.getOpposite();
+        }
+
+        Instant now = Instant.now();
+        Game game = Game.GameFactory.createGame(
+            "game-" + plies,
+            board,
+            Player.PlayerFactory.createHumanPlayer("Alice \"A\"", PlayerColor.RED),
+            Player.PlayerFactory.createComputerPlayer(PlayerColor.BLACK),
+            toMove,
+            GameState.IN_PROGRESS,
+            now,
+            now,
+            GameType.STANDARD_AMERICAN,
+            moves.size()
+        );
+        repository.saveGames(List.of(new GameUpdate(game, moves)));
+        return game;
+    }
+
+    private static Game withVersion(Game game, long version) {
+        return Game.GameFactory.createGame(game.getId(), Board.BoardFactory.createStandardBoard(BoardSize.STANDARD),
+            game.getRedPlayer(), game.getBlackPlayer(), PlayerColor.RED, GameState.IN_PROGRESS,
+            game.getCreatedAt(), game.getUpdatedAt(), game.getGameType(), version);
+    }
+
+    private static Move firstLegalMove(GameRules rules, Board board, PlayerColor toMove) {
+        for (Position position : board.getPieces().keySet()) {
+            if (board.getPieceAt(position).getColor() == toMove) {
+                List<Move> moves = rules.getValidMoves(board, position);
+                if (!moves.isEmpty()) {
+                    return moves.get(0);
+                }
+            }
+        }
+        throw new IllegalStateException("No legal move for " + toMove);
+    }
+}
@@ -0,0 +1,117 @@
+package com.shalako.checkers.persistence;
+
+import com.shalako.checkers.util.EmbeddedRedisServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.exceptions.JedisException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveJedisPoolSizerTest {
+
+    private static boolean startedRedis;
+
+    private MeterRegistry registry;
+    private InstrumentedJedisPool pool;
+    private AdaptiveJedisPoolSizer sizer;
+
+    @BeforeAll
+    static void startRedis() {
+        boolean wasActive = EmbeddedRedisServer.isActive();
+        EmbeddedRedisServer.start();
+        // Only stop the server afterwards if this test started it
+        startedRedis = !wasActive && EmbeddedRedisServer.isActive();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        if (startedRedis) {
+            EmbeddedRedisServer.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        JedisPoolConfig config = new JedisPoolConfig();
+        config.setMaxTotal(2);
+        config.setMaxWait(Duration.ofMillis(200));
+        config.setJmxEnabled(false);
+        registry = new SimpleMeterRegistry();
+        pool = new InstrumentedJedisPool(config, new HostAndPort("127.0.0.1", EmbeddedRedisServer.getCurrentPort()), registry);
+        // A long interval keeps the scheduled resize out of the way; the test resizes explicitly
+        sizer = new AdaptiveJedisPoolSizer(List.of(pool), new AdaptiveJedisPoolSizer.Settings(2, 16, Duration.ofHours(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        sizer.close();
+        pool.close();
+    }
+
+    @Test
+    void testPoolGrowsToObservedConcurrencyAndShrinksGradually() throws Exception {
+        int callers = 8;
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch exhausted = new CountDownLatch(callers - 2);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                futures.add(executor.submit(() -> {
+                    try (Jedis jedis = pool.getResource()) {
+                        release.await(5, TimeUnit.SECONDS);
+                        return jedis.ping();
+                    } catch (JedisException e) {
+                        // Borrows beyond the two connections time out while the first two are held
+                        exhausted.countDown();
+                        return null;
+                    }
+                }));
+            }
+            assertTrue(exhausted.await(5, TimeUnit.SECONDS));
+            release.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+
+        assertEquals(callers - 2, (long) registry.get("redis.pool.exhausted").counter().count());
+        assertEquals(callers, registry.get("redis.pool.borrow").timer().count());
+        System.out.println("[DEBUG_LOG] Max borrow wait: "
+                + registry.get("redis.pool.borrow").timer().max(TimeUnit.MILLISECONDS) + "ms");
+
+        // Eight concurrent callers plus a quarter of headroom
+        sizer.resize();
+        assertEquals(10, pool.getMaxTotal());
+        assertEquals(10.0, registry.get("redis.pool.max").gauge().value());
+
+        // Without demand the pool shrinks halfway towards the minimum on each resize
+        sizer.resize();
+        assertEquals(6, pool.getMaxTotal());
+        sizer.resize();
+        assertEquals(4, pool.getMaxTotal());
+        sizer.resize();
+        sizer.resize();
+        assertEquals(2, pool.getMaxTotal());
+        assertEquals(0.0, registry.get("redis.pool.active").gauge().value());
+    }
+}
@@ -0,0 +1,109 @@
+package com.shalako.checkers.persistence;
+
+import com.shalako.checkers.enums.BoardSize;
+import com.shalako.checkers.enums.PlayerColor;
+import com.shalako.checkers.model.Game;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalescingGameRepositoryTest {
+
+    @Test
+    void testConcurrentReadsShareOneLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        InMemoryGameRepository storage = new InMemoryGameRepository() {
+            @Override
+            public Game getGame(String gameId) {
+                loads.incrementAndGet();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.getGame(gameId);
+            }
+        };
+        Game game = Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Player1", PlayerColor.RED);
+        storage.saveGame(game);
+        CoalescingGameRepository repository = new CoalescingGameRepository(storage);
+
+        int readers = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        try {
+            List<Future<Game>> reads = new ArrayList<>();
+            for (int i = 0; i < readers; i++) {
+                reads.add(executor.submit(() -> repository.getGame(game.getId())));
+            }
+            // Let every reader reach the load before it finishes
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (repository.getSharedReads() < readers - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+            for (Future<Game> read : reads) {
+                assertSame(game, read.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        System.out.println("[DEBUG_LOG] " + readers + " reads, " + loads.get() + " loads, " + repository.getSharedReads() + " shared");
+        assertEquals(1, loads.get());
+        assertEquals(readers - 1, repository.getSharedReads());
+
+        // Once the load is done, the next read loads again
+        assertSame(game, repository.getGame(game.getId()));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testReadAfterSaveDoesNotJoinAnOlderLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        InMemoryGameRepository storage = new InMemoryGameRepository() {
+            @Override
+            public Game getGame(String gameId) {
+                Game loaded = super.getGame(gameId);
+                if (loading.getCount() > 0) {
+                    // Hold the first load after it has read the old version
+                    loading.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return loaded;
+            }
+        };
+        Game game = Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Player1", PlayerColor.RED);
+        storage.saveGame(game);
+        CoalescingGameRepository repository = new CoalescingGameRepository(storage);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Game> staleRead = executor.submit(() -> repository.getGame(game.getId()));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            Game saved = Game.GameFactory.createGame(game.getId(), game.getBoard(), game.getRedPlayer(), game.getBlackPlayer(),
+                    PlayerColor.BLACK, game.getState(), game.getCreatedAt(), game.getUpdatedAt(), game.getGameType(), 1);
+            repository.saveGame(saved);
+
+            assertSame(saved, repository.getGame(game.getId()));
+            release.countDown();
+            assertSame(game, staleRead.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
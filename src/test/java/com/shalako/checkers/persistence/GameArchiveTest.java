@@ -0,0 +1,83 @@
+package com.shalako.checkers.persistence;
+
+import com.shalako.checkers.enums.BoardSize;
+import com.shalako.checkers.enums.PlayerColor;
+import com.shalako.checkers.model.Game;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameArchiveTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testArchivedGamesSurviveReopen() {
+        Game game = Game.GameFactory.createHumanVsComputerGame(BoardSize.INTERNATIONAL, "Player1", PlayerColor.RED);
+        try (GameArchive archive = new GameArchive(tempDir)) {
+            archive.archive(game, Collections.emptyList());
+        }
+
+        try (GameArchive archive = new GameArchive(tempDir)) {
+            assertEquals(1, archive.size());
+            assertEquals(game.getBoard(), archive.getGame(game.getId()).game().getBoard());
+        }
+    }
+
+    @Test
+    void testRecordsMissingFromIndexAreReindexed() throws Exception {
+        Game first = Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Player1", PlayerColor.RED);
+        Game second = Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Player2", PlayerColor.RED);
+        try (GameArchive archive = new GameArchive(tempDir)) {
+            archive.archive(first, Collections.emptyList());
+            archive.archive(second, Collections.emptyList());
+        }
+
+        // Simulate a crash after the archive append but before the index append
+        Path index = tempDir.resolve("games.archive.idx");
+        long firstEntrySize = 2 + first.getId().length() + 8;
+        try (RandomAccessFile file = new RandomAccessFile(index.toFile(), "rw")) {
+            file.setLength(firstEntrySize + 3);
+        }
+
+        try (GameArchive archive = new GameArchive(tempDir)) {
+            assertEquals(2, archive.size());
+            assertNotNull(archive.getGame(second.getId()));
+        }
+        assertEquals(2 * firstEntrySize, Files.size(index));
+    }
+
+    @Test
+    void testTornRecordAtEndIsTruncated() throws Exception {
+        Game kept = Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Player1", PlayerColor.RED);
+        Game torn = Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Player2", PlayerColor.RED);
+        Path archiveFile = tempDir.resolve("games.archive");
+        long keptSize;
+        try (GameArchive archive = new GameArchive(tempDir)) {
+            archive.archive(kept, Collections.emptyList());
+            keptSize = Files.size(archiveFile);
+            archive.archive(torn, Collections.emptyList());
+        }
+
+        // Cut the second record short and drop its index entry, as a crash mid-append would
+        try (RandomAccessFile file = new RandomAccessFile(archiveFile.toFile(), "rw")) {
+            file.setLength(file.length() - 10);
+        }
+        try (RandomAccessFile file = new RandomAccessFile(tempDir.resolve("games.archive.idx").toFile(), "rw")) {
+            file.setLength(file.length() / 2);
+        }
+
+        try (GameArchive archive = new GameArchive(tempDir)) {
+            assertEquals(1, archive.size());
+            assertNull(archive.getGame(torn.getId()));
+            assertNotNull(archive.getGame(kept.getId()));
+        }
+        assertEquals(keptSize, Files.size(archiveFile));
+    }
+}
@@ -0,0 +1,110 @@
+package com.shalako.checkers.persistence;
+
+import com.shalako.checkers.enums.BoardSize;
+import com.shalako.checkers.enums.GameState;
+import com.shalako.checkers.enums.PlayerColor;
+import com.shalako.checkers.model.Game;
+import com.shalako.checkers.model.Move;
+import com.shalako.checkers.model.Position;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameLifecycleManagerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private InMemoryGameRepository repository;
+    private GameLifecycleManager lifecycleManager;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryGameRepository();
+        // A long sweep interval keeps the background sweeper out of the way; tests sweep explicitly
+        lifecycleManager = new GameLifecycleManager(repository, new GameArchive(tempDir),
+                new GameLifecycleManager.Settings(Duration.ofHours(1), Duration.ofDays(7), Duration.ofHours(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        lifecycleManager.close();
+    }
+
+    @Test
+    void testFinishedAndIdleGamesAreArchivedAndDeleted() {
+        Instant now = Instant.now();
+        Game finishedLongAgo = withState(newGame(), GameState.RED_WON, now.minus(Duration.ofHours(2)));
+        Game finishedRecently = withState(newGame(), GameState.BLACK_WON, now.minus(Duration.ofMinutes(5)));
+        Game idle = withState(newGame(), GameState.IN_PROGRESS, now.minus(Duration.ofDays(8)));
+        Game active = withState(newGame(), GameState.IN_PROGRESS, now.minus(Duration.ofHours(2)));
+        Move move = Move.MoveFactory.createSimpleMove(new Position(5, 0), new Position(4, 1));
+
+        repository.saveGame(finishedLongAgo);
+        repository.saveGame(withVersion(finishedLongAgo, 1), List.of(move));
+        repository.saveGame(finishedRecently);
+        repository.saveGame(idle);
+        repository.saveGame(active);
+
+        assertEquals(2, lifecycleManager.sweep());
+
+        assertNull(repository.getGame(finishedLongAgo.getId()));
+        assertNull(repository.getGame(idle.getId()));
+        assertNotNull(repository.getGame(finishedRecently.getId()));
+        assertNotNull(repository.getGame(active.getId()));
+
+        GameArchive.ArchivedGame archived = lifecycleManager.getArchivedGame(finishedLongAgo.getId());
+        assertEquals(GameState.RED_WON, archived.game().getState());
+        assertEquals(1, archived.game().getVersion());
+        assertEquals(List.of(move), archived.moves());
+        assertNull(lifecycleManager.getArchivedGame(active.getId()));
+
+        // Nothing left to archive
+        assertEquals(0, lifecycleManager.sweep());
+    }
+
+    @Test
+    void testGameChangedWhileBeingArchivedStaysLive() {
+        Game idle = withState(newGame(), GameState.IN_PROGRESS, Instant.now().minus(Duration.ofDays(8)));
+        Move move = Move.MoveFactory.createSimpleMove(new Position(5, 0), new Position(4, 1));
+        // A move lands while the sweep is reading the game's history
+        InMemoryGameRepository racingRepository = new InMemoryGameRepository() {
+            @Override
+            public List<Move> getMoves(String gameId, long fromVersion) {
+                List<Move> moves = super.getMoves(gameId, fromVersion);
+                saveGame(withState(withVersion(idle, 1), GameState.IN_PROGRESS, Instant.now()), List.of(move));
+                return moves;
+            }
+        };
+        racingRepository.saveGame(idle);
+
+        try (GameLifecycleManager racingManager = new GameLifecycleManager(racingRepository, new GameArchive(tempDir.resolve("racing")),
+                new GameLifecycleManager.Settings(Duration.ofHours(1), Duration.ofDays(7), Duration.ofHours(1)))) {
+            assertEquals(0, racingManager.sweep());
+            assertEquals(1, racingRepository.getGame(idle.getId()).getVersion());
+        }
+    }
+
+    private static Game newGame() {
+        return Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Player1", PlayerColor.RED);
+    }
+
+    private static Game withState(Game game, GameState state, Instant updatedAt) {
+        return Game.GameFactory.createGame(game.getId(), game.getBoard(), game.getRedPlayer(),
+                game.getBlackPlayer(), game.getCurrentTurn(), state, game.getCreatedAt(),
+                updatedAt, game.getGameType(), game.getVersion());
+    }
+
+    private static Game withVersion(Game game, long version) {
+        return Game.GameFactory.createGame(game.getId(), game.getBoard(), game.getRedPlayer(),
+                game.getBlackPlayer(), game.getCurrentTurn(), game.getState(), game.getCreatedAt(),
+                game.getUpdatedAt(), game.getGameType(), version);
+    }
+}
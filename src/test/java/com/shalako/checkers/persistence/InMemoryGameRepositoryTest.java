@@ -0,0 +1,89 @@
+package com.shalako.checkers.persistence;
+
+import com.shalako.checkers.enums.BoardSize;
+import com.shalako.checkers.enums.PlayerColor;
+import com.shalako.checkers.model.Game;
+import com.shalako.checkers.model.Move;
+import com.shalako.checkers.model.Position;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryGameRepositoryTest {
+
+    private final InMemoryGameRepository repository = new InMemoryGameRepository(4);
+
+    @Test
+    void testSaveGetAndDelete() {
+        Game game = Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Player1", PlayerColor.RED);
+        repository.saveGame(game);
+
+        assertSame(game, repository.getGame(game.getId()));
+        assertEquals(1, repository.getAllGames().size());
+        assertTrue(repository.deleteGame(game.getId()));
+        assertNull(repository.getGame(game.getId()));
+        assertFalse(repository.deleteGame(game.getId()));
+    }
+
+    @Test
+    void testMoveLogFollowsSavedVersions() {
+        Game game = Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Player1", PlayerColor.RED);
+        Move first = Move.MoveFactory.createSimpleMove(new Position(5, 0), new Position(4, 1));
+        Move second = Move.MoveFactory.createSimpleMove(new Position(2, 1), new Position(3, 0));
+
+        repository.saveGame(game);
+        repository.saveGame(withVersion(game, 1), List.of(first));
+        repository.saveGame(withVersion(game, 2), List.of(second));
+
+        assertEquals(List.of(first, second), repository.getMoves(game.getId(), 0));
+        assertEquals(List.of(second), repository.getMoves(game.getId(), 1));
+        assertTrue(repository.getMoves(game.getId(), 2).isEmpty());
+
+        // A save that does not continue the log restarts it
+        repository.saveGame(withVersion(game, 5), List.of(first));
+        assertEquals(List.of(first), repository.getMoves(game.getId(), 0));
+    }
+
+    @Test
+    void testConcurrentSavesAcrossStripes() throws Exception {
+        int threads = 8;
+        int gamesPerThread = 500;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < gamesPerThread; i++) {
+                        Game game = Game.GameFactory.createHumanVsComputerGame(
+                                BoardSize.STANDARD, "Player1", PlayerColor.RED);
+                        repository.saveGame(game);
+                        assertNotNull(repository.getGame(game.getId()));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * gamesPerThread, repository.getAllGames().size());
+        System.out.println("[DEBUG_LOG] " + threads * gamesPerThread + " saves and reads in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
+    }
+
+    private static Game withVersion(Game game, long version) {
+        return Game.GameFactory.createGame(game.getId(), game.getBoard(), game.getRedPlayer(),
+                game.getBlackPlayer(), game.getCurrentTurn(), game.getState(), game.getCreatedAt(),
+                game.getUpdatedAt(), game.getGameType(), version);
+    }
+}
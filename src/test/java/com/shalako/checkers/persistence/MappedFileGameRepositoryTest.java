@@ -0,0 +1,111 @@
+package com.shalako.checkers.persistence;
+
+import com.shalako.checkers.enums.BoardSize;
+import com.shalako.checkers.enums.PlayerColor;
+import com.shalako.checkers.model.Game;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedFileGameRepositoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private MappedFileGameRepository open() {
+        return new MappedFileGameRepository(new MappedFileGameRepository.Settings(tempDir.resolve("games.dat"), false));
+    }
+
+    @Test
+    void testGamesSurviveReopen() {
+        Game game = Game.GameFactory.createHumanVsComputerGame(BoardSize.INTERNATIONAL, "Player1", PlayerColor.BLACK);
+        try (MappedFileGameRepository repository = open()) {
+            repository.saveGame(game);
+            repository.saveGame(withVersion(game, 1));
+        }
+
+        try (MappedFileGameRepository repository = open()) {
+            Game loaded = repository.getGame(game.getId());
+            assertEquals(1, loaded.getVersion());
+            assertEquals(game.getBoard(), loaded.getBoard());
+            assertEquals(game.getRedPlayer().getName(), loaded.getRedPlayer().getName());
+            assertEquals(game.getBlackPlayer(), loaded.getBlackPlayer());
+            assertEquals(game.getCreatedAt(), loaded.getCreatedAt());
+            assertEquals(game.getGameType(), loaded.getGameType());
+        }
+    }
+
+    @Test
+    void testDeletedGamesStayDeletedAndFreeTheirSlots() {
+        Game deleted = Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Player1", PlayerColor.RED);
+        Game reused = Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Player2", PlayerColor.RED);
+        try (MappedFileGameRepository repository = open()) {
+            repository.saveGame(deleted);
+            assertTrue(repository.deleteGame(deleted.getId()));
+            assertFalse(repository.deleteGame(deleted.getId()));
+            repository.saveGame(reused);
+        }
+
+        try (MappedFileGameRepository repository = open()) {
+            assertNull(repository.getGame(deleted.getId()));
+            assertNotNull(repository.getGame(reused.getId()));
+            assertEquals(1, repository.getGameCount());
+        }
+    }
+
+    @Test
+    void testTornWriteFallsBackToPreviousRecord() throws Exception {
+        Game game = Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Player1", PlayerColor.RED);
+        try (MappedFileGameRepository repository = open()) {
+            repository.saveGame(game);
+            repository.saveGame(withVersion(game, 1));
+        }
+
+        // The second save went to the second slot of the game's pair; corrupt its payload
+        try (RandomAccessFile file = new RandomAccessFile(tempDir.resolve("games.dat").toFile(), "rw")) {
+            file.seek(MappedFileGameRepository.SLOT_SIZE + 40);
+            file.write(0x7F);
+        }
+
+        try (MappedFileGameRepository repository = open()) {
+            assertEquals(0, repository.getGame(game.getId()).getVersion());
+            // The next save overwrites the torn slot
+            repository.saveGame(withVersion(game, 2));
+            assertEquals(2, repository.getGame(game.getId()).getVersion());
+        }
+    }
+
+    @Test
+    void testFileGrowsBeyondOneSegment() {
+        int games = MappedFileGameRepository.SEGMENT_SIZE / MappedFileGameRepository.SLOT_SIZE / 2 + 10;
+        List<String> ids = new ArrayList<>();
+        long start = System.nanoTime();
+        try (MappedFileGameRepository repository = open()) {
+            for (int i = 0; i < games; i++) {
+                Game game = Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Player" + i, PlayerColor.RED);
+                repository.saveGame(game);
+                ids.add(game.getId());
+            }
+        }
+        long writeMs = (System.nanoTime() - start) / 1_000_000;
+
+        start = System.nanoTime();
+        try (MappedFileGameRepository repository = open()) {
+            assertEquals(games, repository.getGameCount());
+            assertEquals("Player" + (games - 1), repository.getGame(ids.get(games - 1)).getRedPlayer().getName());
+        }
+        System.out.println("[DEBUG_LOG] Wrote " + games + " games in " + writeMs + "ms, reopened in "
+                + (System.nanoTime() - start) / 1_000_000 + "ms");
+    }
+
+    private static Game withVersion(Game game, long version) {
+        return Game.GameFactory.createGame(game.getId(), game.getBoard(), game.getRedPlayer(),
+                game.getBlackPlayer(), game.getCurrentTurn(), game.getState(), game.getCreatedAt(),
+                game.getUpdatedAt(), game.getGameType(), version);
+    }
+}
@@ -0,0 +1,92 @@
+package com.shalako.checkers.persistence;
+
+import com.shalako.checkers.enums.BoardSize;
+import com.shalako.checkers.enums.PlayerColor;
+import com.shalako.checkers.model.Game;
+import com.shalako.checkers.util.EmbeddedRedisServer;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.JedisPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs two near-cache "nodes" against the same embedded Redis server.
+ */
+class NearCacheGameRepositoryTest {
+
+    private static boolean startedRedis;
+
+    private JedisPool poolA;
+    private JedisPool poolB;
+    private NearCacheGameRepository nodeA;
+    private NearCacheGameRepository nodeB;
+
+    @BeforeAll
+    static void startRedis() {
+        boolean wasActive = EmbeddedRedisServer.isActive();
+        EmbeddedRedisServer.start();
+        // Only stop the server afterwards if this test started it
+        startedRedis = !wasActive && EmbeddedRedisServer.isActive();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        if (startedRedis) {
+            EmbeddedRedisServer.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        HostAndPort endpoint = new HostAndPort("127.0.0.1", EmbeddedRedisServer.getCurrentPort());
+        NearCacheGameRepository.Settings settings = new NearCacheGameRepository.Settings(
+                endpoint, "test:invalidations", 100);
+
+        poolA = new JedisPool(endpoint.getHost(), endpoint.getPort());
+        poolB = new JedisPool(endpoint.getHost(), endpoint.getPort());
+        nodeA = new NearCacheGameRepository(new RedisGameRepository(poolA), poolA, settings);
+        nodeB = new NearCacheGameRepository(new RedisGameRepository(poolB), poolB, settings);
+        assertTrue(nodeA.awaitSubscribed(Duration.ofSeconds(5)));
+        assertTrue(nodeB.awaitSubscribed(Duration.ofSeconds(5)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+        poolA.close();
+        poolB.close();
+    }
+
+    @Test
+    void testSaveOnOneNodeEvictsOtherNodesCopy() throws InterruptedException {
+        Game game = Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Player1", PlayerColor.RED);
+        nodeA.saveGame(game);
+
+        // Node B reads through and caches version 0; a read racing with node A's own
+        // invalidation is deliberately not cached, so retry until the copy sticks
+        long cacheDeadline = System.currentTimeMillis() + 5000;
+        do {
+            assertEquals(0, nodeB.getGame(game.getId()).getVersion());
+        } while (nodeB.getCachedCount() == 0 && System.currentTimeMillis() < cacheDeadline);
+        assertEquals(1, nodeB.getCachedCount());
+
+        Game nextVersion = Game.GameFactory.createGame(game.getId(), game.getBoard(), game.getRedPlayer(),
+                game.getBlackPlayer(), PlayerColor.BLACK, game.getState(), game.getCreatedAt(),
+                game.getUpdatedAt(), game.getGameType(), 1);
+        nodeA.saveGame(nextVersion);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (nodeB.getCachedCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(0, nodeB.getCachedCount(), "Node B should have evicted its stale copy");
+        assertEquals(1, nodeB.getGame(game.getId()).getVersion());
+    }
+}
@@ -0,0 +1,258 @@
+package com.shalako.checkers.persistence;
+
+import com.shalako.checkers.enums.BoardSize;
+import com.shalako.checkers.enums.GameState;
+import com.shalako.checkers.enums.PlayerColor;
+import com.shalako.checkers.model.Board;
+import com.shalako.checkers.model.Game;
+import com.shalako.checkers.model.Move;
+import com.shalako.checkers.model.Piece;
+import com.shalako.checkers.model.Position;
+import com.shalako.checkers.util.EmbeddedRedisServer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedisGameRepositoryTest {
+
+    private static boolean startedRedis;
+
+    private JedisPool pool;
+    private RedisGameRepository repository;
+    private Game game;
+
+    @BeforeAll
+    static void startRedis() {
+        boolean wasActive = EmbeddedRedisServer.isActive();
+        EmbeddedRedisServer.start();
+        // Only stop the server afterwards if this test started it
+        startedRedis = !wasActive && EmbeddedRedisServer.isActive();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        if (startedRedis) {
+            EmbeddedRedisServer.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        pool = new JedisPool("127.0.0.1", EmbeddedRedisServer.getCurrentPort());
+        repository = new RedisGameRepository(pool,
+                new RedisGameRepository.Settings(2, Duration.ZERO, Duration.ofHours(1)));
+
+        Board board = Board.BoardFactory.createCustomBoard(BoardSize.STANDARD, Map.of(
+                new Position(5, 0), Piece.PieceFactory.createMan(PlayerColor.RED),
+                new Position(0, 1), Piece.PieceFactory.createMan(PlayerColor.BLACK)));
+        Game created = Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Player1", PlayerColor.RED);
+        game = withBoard(created, board, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteGame(game.getId());
+        pool.close();
+    }
+
+    @Test
+    void testMovesAreAppendedAndReplayedOntoSnapshot() {
+        repository.saveGame(game);
+
+        List<Move> moves = List.of(
+                Move.MoveFactory.createSimpleMove(new Position(5, 0), new Position(4, 1)),
+                Move.MoveFactory.createSimpleMove(new Position(0, 1), new Position(1, 2)),
+                Move.MoveFactory.createSimpleMove(new Position(4, 1), new Position(3, 0)),
+                Move.MoveFactory.createSimpleMove(new Position(1, 2), new Position(2, 3)),
+                Move.MoveFactory.createSimpleMove(new Position(3, 0), new Position(2, 1)));
+
+        Game current = game;
+        for (Move move : moves) {
+            current = withBoard(current, current.getBoard().applyMove(move), current.getVersion() + 1);
+            repository.saveGame(current, List.of(move));
+
+            Game loaded = repository.getGame(game.getId());
+            assertEquals(current.getVersion(), loaded.getVersion());
+            assertEquals(current.getBoard(), loaded.getBoard());
+        }
+
+        assertEquals(moves, repository.getMoves(game.getId(), 0));
+        assertEquals(moves.subList(3, 5), repository.getMoves(game.getId(), 3));
+        // A batched read replays the log the same way and skips unknown ids
+        assertEquals(List.of(current.getBoard()),
+                repository.getGames(List.of("missing-game", game.getId())).stream().map(Game::getBoard).toList());
+
+        // With an interval of 2 the last snapshot was taken at version 4, so one move is replayed
+        try (Jedis jedis = pool.getResource()) {
+            assertEquals("4", jedis.hget("game:" + game.getId(), "snapshotVersion"));
+            assertEquals(5L, jedis.llen("game:" + game.getId() + ":moves"));
+            // In-progress games get the idle TTL on every key
+            assertTrue(jedis.ttl("game:" + game.getId()) > 0);
+            assertTrue(jedis.ttl("game:" + game.getId() + ":moves") > 0);
+            assertTrue(jedis.ttl("game:" + game.getId() + ":board") > 0);
+        }
+    }
+
+    @Test
+    void testMovesNotContinuingTheStoredVersionAreSavedAsSnapshot() {
+        repository.saveGame(game);
+
+        // Claims to follow version 2, but version 0 is stored
+        Move move = Move.MoveFactory.createSimpleMove(new Position(5, 0), new Position(4, 1));
+        Game skipped = withBoard(game, game.getBoard().applyMove(move), 3);
+        repository.saveGame(skipped, List.of(move));
+
+        Game loaded = repository.getGame(game.getId());
+        assertEquals(3, loaded.getVersion());
+        assertEquals(skipped.getBoard(), loaded.getBoard());
+        // The log restarts at version 2, so history before it is not available
+        assertEquals(List.of(move), repository.getMoves(game.getId(), 0));
+    }
+
+    @Test
+    void testReadsNeverSeeHalfWrittenSnapshotsOrAppends() throws Exception {
+        // Kings shuffling back and forth, so the board at any version is one of four positions
+        Board board = Board.BoardFactory.createCustomBoard(BoardSize.STANDARD, Map.of(
+                new Position(5, 0), Piece.PieceFactory.createKing(PlayerColor.RED),
+                new Position(0, 1), Piece.PieceFactory.createKing(PlayerColor.BLACK)));
+        List<Move> cycle = List.of(
+                Move.MoveFactory.createSimpleMove(new Position(5, 0), new Position(4, 1)),
+                Move.MoveFactory.createSimpleMove(new Position(0, 1), new Position(1, 2)),
+                Move.MoveFactory.createSimpleMove(new Position(4, 1), new Position(5, 0)),
+                Move.MoveFactory.createSimpleMove(new Position(1, 2), new Position(0, 1)));
+        List<Board> boards = new ArrayList<>();
+        for (Move move : cycle) {
+            boards.add(board);
+            board = board.applyMove(move);
+        }
+        repository.saveGame(withBoard(game, boards.get(0), 0));
+
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        try {
+            // With an interval of 2 the writer alternates between log appends and full snapshots
+            Future<?> writes = writer.submit(() -> {
+                Game current = withBoard(game, boards.get(0), 0);
+                for (int version = 1; version <= 400; version++) {
+                    Move move = cycle.get((version - 1) % cycle.size());
+                    current = withBoard(current, boards.get(version % cycle.size()), version);
+                    repository.saveGame(current, List.of(move));
+                }
+            });
+
+            int reads = 0;
+            while (!writes.isDone()) {
+                Game loaded = repository.getGame(game.getId());
+                assertEquals(boards.get((int) (loaded.getVersion() % cycle.size())), loaded.getBoard(),
+                        "board at version " + loaded.getVersion());
+                reads++;
+            }
+            writes.get();
+            System.out.println("[DEBUG_LOG] Consistent reads during concurrent writes: " + reads);
+        } finally {
+            writer.shutdownNow();
+        }
+    }
+
+    @Test
+    void testMoveEncodingRoundTrips() {
+        List<Move> moves = new ArrayList<>();
+        moves.add(Move.MoveFactory.createSimpleMove(new Position(5, 2), new Position(4, 3)));
+        moves.add(Move.MoveFactory.createPromotionMove(new Position(1, 2), new Position(0, 1)));
+        moves.add(Move.MoveFactory.createMultiJumpMove(
+                List.of(new Position(5, 2), new Position(3, 4), new Position(1, 6)),
+                List.of(new Position(4, 3), new Position(2, 5))));
+
+        for (Move move : moves) {
+            String encoded = move.encode();
+            System.out.println("[DEBUG_LOG] " + move + " -> " + encoded);
+            assertEquals(move, Move.MoveFactory.decode(encoded));
+        }
+    }
+
+    @Test
+    void testSecondaryIndexesServePlayerAndFinishedListings() throws InterruptedException {
+        String playerId = game.getRedPlayer().getId();
+        repository.saveGame(game);
+        Thread.sleep(5);
+        Game second = Game.GameFactory.createGame("indexed-" + game.getId(), game.getBoard(), game.getRedPlayer(),
+                game.getBlackPlayer(), game.getCurrentTurn(), game.getState(), game.getCreatedAt(),
+                game.getUpdatedAt(), game.getGameType(), 0);
+        repository.saveGame(second);
+
+        try {
+            // Most recently updated first
+            List<Game> active = repository.getActiveGamesForPlayer(playerId, 0, 10);
+            assertEquals(List.of(second.getId(), game.getId()), active.stream().map(Game::getId).toList());
+            assertEquals(List.of(game.getId()), repository.getActiveGamesForPlayer(playerId, 1, 10).stream().map(Game::getId).toList());
+            assertTrue(repository.getGameIdsByState(GameState.IN_PROGRESS).contains(game.getId()));
+            assertTrue(repository.getGameIdsByType(game.getGameType()).contains(second.getId()));
+
+            // Finishing a game moves it from the player's active games to the finished listing
+            Game finished = Game.GameFactory.createGame(game.getId(), game.getBoard(), game.getRedPlayer(),
+                    game.getBlackPlayer(), game.getCurrentTurn(), GameState.RED_WON, game.getCreatedAt(),
+                    game.getUpdatedAt(), game.getGameType(), 1);
+            repository.saveGame(finished, List.of(Move.MoveFactory.createSimpleMove(new Position(5, 0), new Position(4, 1))));
+
+            assertEquals(List.of(second.getId()), repository.getActiveGamesForPlayer(playerId, 0, 10).stream().map(Game::getId).toList());
+            assertTrue(repository.getRecentlyFinishedGames(0, 100).stream().anyMatch(g -> g.getId().equals(game.getId())));
+            assertFalse(repository.getGameIdsByState(GameState.IN_PROGRESS).contains(game.getId()));
+            assertTrue(repository.getGameIdsByState(GameState.RED_WON).contains(game.getId()));
+
+            // Keys that expired leave index entries behind; listings drop them
+            try (Jedis jedis = pool.getResource()) {
+                jedis.del("game:" + second.getId(), "game:" + second.getId() + ":board");
+            }
+            assertTrue(repository.getActiveGamesForPlayer(playerId, 0, 10).isEmpty());
+            try (Jedis jedis = pool.getResource()) {
+                assertEquals(0L, jedis.zcard("games:player:" + playerId + ":active"));
+            }
+        } finally {
+            repository.deleteGame(second.getId());
+        }
+
+        // Deleting a game removes it from every index
+        repository.deleteGame(game.getId());
+        assertFalse(repository.getGameIdsByState(GameState.RED_WON).contains(game.getId()));
+        assertTrue(repository.getRecentlyFinishedGames(0, 100).stream().noneMatch(g -> g.getId().equals(game.getId())));
+    }
+
+    @Test
+    void testDueGamesAreFoundByUpdateTimeAndOnlyDeletedAtTheExpectedVersion() throws InterruptedException {
+        repository.saveGame(game);
+        Thread.sleep(5);
+        Instant afterSave = Instant.now();
+
+        assertTrue(repository.getGameIdsUpdatedBefore(afterSave, afterSave).contains(game.getId()));
+        assertFalse(repository.getGameIdsUpdatedBefore(afterSave, afterSave.minusSeconds(60)).contains(game.getId()));
+
+        // A move saved after the sweep read the game keeps it live
+        Move move = Move.MoveFactory.createSimpleMove(new Position(5, 0), new Position(4, 1));
+        repository.saveGame(withBoard(game, game.getBoard().applyMove(move), 1), List.of(move));
+        assertFalse(repository.deleteGame(game.getId(), 0));
+        assertEquals(1, repository.getGame(game.getId()).getVersion());
+
+        assertTrue(repository.deleteGame(game.getId(), 1));
+        assertNull(repository.getGame(game.getId()));
+        assertFalse(repository.getGameIdsUpdatedBefore(Instant.now(), Instant.now()).contains(game.getId()));
+    }
+
+    private static Game withBoard(Game game, Board board, long version) {
+        return Game.GameFactory.createGame(game.getId(), board, game.getRedPlayer(), game.getBlackPlayer(),
+                game.getCurrentTurn(), game.getState(), game.getCreatedAt(), game.getUpdatedAt(),
+                game.getGameType(), version);
+    }
+}
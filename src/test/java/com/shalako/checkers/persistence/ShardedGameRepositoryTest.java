@@ -0,0 +1,131 @@
+package com.shalako.checkers.persistence;
+
+import com.shalako.checkers.enums.BoardSize;
+import com.shalako.checkers.enums.PlayerColor;
+import com.shalako.checkers.model.Game;
+import com.shalako.checkers.util.EmbeddedRedisServer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Shards games across the main embedded Redis server and two more on the fallback ports.
+ */
+class ShardedGameRepositoryTest {
+
+    private static boolean startedRedis;
+    private static List<Integer> shardPorts;
+
+    private final Map<String, JedisPool> pools = new LinkedHashMap<>();
+    // The main server is shared with other tests, so only games saved here are asserted on and deleted
+    private final Set<String> savedIds = new HashSet<>();
+    private ShardedGameRepository repository;
+
+    @BeforeAll
+    static void startRedis() {
+        boolean wasActive = EmbeddedRedisServer.isActive();
+        EmbeddedRedisServer.start();
+        // Only stop the server afterwards if this test started it
+        startedRedis = !wasActive && EmbeddedRedisServer.isActive();
+        shardPorts = EmbeddedRedisServer.startShards(2);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        EmbeddedRedisServer.stopShards();
+        if (startedRedis) {
+            EmbeddedRedisServer.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(shardPorts.size() == 2, "Two extra Redis servers are needed on the fallback ports");
+        List<Integer> ports = new ArrayList<>();
+        ports.add(EmbeddedRedisServer.getCurrentPort());
+        ports.addAll(shardPorts);
+
+        Map<String, GameRepository> shards = new LinkedHashMap<>();
+        for (int port : ports) {
+            String name = "127.0.0.1:" + port;
+            JedisPool pool = new JedisPool("127.0.0.1", port);
+            pools.put(name, pool);
+            shards.put(name, new RedisGameRepository(pool));
+        }
+        repository = new ShardedGameRepository(shards, ShardedGameRepository.DEFAULT_VIRTUAL_NODES);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (repository == null) {
+            return;
+        }
+        savedIds.forEach(repository::deleteGame);
+        repository.close();
+        pools.values().forEach(JedisPool::close);
+    }
+
+    @Test
+    void testGamesAreStoredOnTheirOwningShard() {
+        Map<String, Integer> perShard = new HashMap<>();
+        List<GameUpdate> batch = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Game game = Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Player" + i, PlayerColor.RED);
+            batch.add(GameUpdate.snapshot(game));
+            savedIds.add(game.getId());
+            perShard.merge(repository.getShardName(game.getId()), 1, Integer::sum);
+        }
+        repository.saveGames(batch);
+
+        System.out.println("[DEBUG_LOG] Games per shard: " + perShard);
+        assertEquals(3, perShard.size());
+        for (GameUpdate update : batch) {
+            String gameId = update.game().getId();
+            try (Jedis jedis = pools.get(repository.getShardName(gameId)).getResource()) {
+                assertTrue(jedis.sismember("games", gameId));
+            }
+            assertEquals(update.game().getRedPlayer().getName(), repository.getGame(gameId).getRedPlayer().getName());
+        }
+    }
+
+    @Test
+    void testListingMergesAllShards() {
+        for (int i = 0; i < 30; i++) {
+            Game game = Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Player" + i, PlayerColor.RED);
+            repository.saveGame(game);
+            savedIds.add(game.getId());
+        }
+
+        assertTrue(repository.getGameIds().containsAll(savedIds));
+        List<String> listed = repository.getAllGames().stream().map(Game::getId).toList();
+        assertTrue(listed.containsAll(savedIds));
+        // Listing across shards returns each game once
+        assertEquals(listed.size(), new HashSet<>(listed).size());
+
+        // A batched read splits the ids per shard and returns the games in the order asked, skipping unknown ids
+        List<String> ids = new ArrayList<>(savedIds);
+        List<String> requested = new ArrayList<>(ids);
+        requested.add(1, "missing-game");
+        assertEquals(ids, repository.getGames(requested).stream().map(Game::getId).toList());
+
+        String deleted = savedIds.iterator().next();
+        assertTrue(repository.deleteGame(deleted));
+        assertNull(repository.getGame(deleted));
+        assertFalse(repository.getGameIds().contains(deleted));
+        savedIds.stream().filter(id -> !id.equals(deleted)).forEach(id -> assertNotNull(repository.getGame(id)));
+    }
+}
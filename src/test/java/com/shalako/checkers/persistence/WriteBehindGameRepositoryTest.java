@@ -0,0 +1,157 @@
+package com.shalako.checkers.persistence;
+
+import com.shalako.checkers.enums.BoardSize;
+import com.shalako.checkers.enums.GameState;
+import com.shalako.checkers.enums.PlayerColor;
+import com.shalako.checkers.model.Game;
+import com.shalako.checkers.model.Move;
+import com.shalako.checkers.model.Position;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WriteBehindGameRepositoryTest {
+
+    @Mock
+    private GameRepository delegate;
+
+    private WriteBehindGameRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        // A long flush interval keeps the background flusher out of the way; tests flush explicitly
+        repository = new WriteBehindGameRepository(delegate,
+                new WriteBehindGameRepository.Settings(2, Duration.ofMinutes(30), Duration.ofHours(1), 10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    void testRepeatedSavesAreCoalescedIntoOneWrite() {
+        Game game = Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Player1", PlayerColor.RED);
+
+        repository.saveGame(game);
+        repository.saveGame(game);
+        repository.saveGame(game);
+        assertEquals(1, repository.getDirtyCount());
+
+        repository.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<GameUpdate>> batch = ArgumentCaptor.forClass(List.class);
+        verify(delegate, times(1)).saveGames(batch.capture());
+        assertEquals(List.of(GameUpdate.snapshot(game)), batch.getValue());
+        verify(delegate, never()).saveGame(any());
+        assertEquals(0, repository.getDirtyCount());
+    }
+
+    @Test
+    void testReadsOfOneGameOnlyWriteThatGame() {
+        Game game = Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Player1", PlayerColor.RED);
+        Game other = Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Player2", PlayerColor.RED);
+        repository.saveGame(game);
+        repository.saveGame(other);
+
+        repository.getMoves(game.getId(), 0);
+        repository.getActiveGamesForPlayer(game.getRedPlayer().getId(), 0, 10);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<GameUpdate>> batch = ArgumentCaptor.forClass(List.class);
+        verify(delegate, times(1)).saveGames(batch.capture());
+        assertEquals(List.of(GameUpdate.snapshot(game)), batch.getValue());
+        assertEquals(1, repository.getDirtyCount());
+
+        // Id listings include pending games without writing them
+        when(delegate.getGameIdsByState(GameState.IN_PROGRESS)).thenReturn(List.of(game.getId()));
+        assertEquals(List.of(game.getId(), other.getId()), repository.getGameIdsByState(GameState.IN_PROGRESS));
+        verify(delegate, times(1)).saveGames(any());
+    }
+
+    @Test
+    void testReadsAreServedFromMemory() {
+        Game game = Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Player1", PlayerColor.RED);
+        repository.saveGame(game);
+
+        assertSame(game, repository.getGame(game.getId()));
+        verify(delegate, never()).getGame(any());
+    }
+
+    @Test
+    void testCloseFlushesPendingGames() {
+        Game game = Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Player1", PlayerColor.RED);
+        repository.saveGame(game);
+
+        repository.close();
+
+        verify(delegate, times(1)).saveGames(List.of(GameUpdate.snapshot(game)));
+        assertEquals(0, repository.getDirtyCount());
+    }
+
+    @Test
+    void testMovesSavedBetweenFlushesAreWrittenTogether() {
+        Game game = Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Player1", PlayerColor.RED);
+        repository.saveGame(game);
+        repository.flush();
+
+        Move first = Move.MoveFactory.createSimpleMove(new Position(5, 0), new Position(4, 1));
+        Move second = Move.MoveFactory.createSimpleMove(new Position(2, 1), new Position(3, 0));
+        Game afterFirst = withVersion(game, 1);
+        Game afterSecond = withVersion(game, 2);
+        repository.saveGame(afterFirst, List.of(first));
+        repository.saveGame(afterSecond, List.of(second));
+
+        repository.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<GameUpdate>> batches = ArgumentCaptor.forClass(List.class);
+        verify(delegate, times(2)).saveGames(batches.capture());
+        GameUpdate written = batches.getAllValues().get(1).get(0);
+        assertEquals(2, written.game().getVersion());
+        assertEquals(List.of(first, second), written.moves());
+    }
+
+    @Test
+    void testMovesThatDoNotContinueTheCachedVersionFallBackToSnapshot() {
+        Game game = Game.GameFactory.createHumanVsComputerGame(BoardSize.STANDARD, "Player1", PlayerColor.RED);
+        repository.saveGame(game);
+        repository.flush();
+
+        // Version 3 does not follow from the cached version 0 with a single move
+        Game skipped = withVersion(game, 3);
+        repository.saveGame(skipped,
+                List.of(Move.MoveFactory.createSimpleMove(new Position(5, 0), new Position(4, 1))));
+
+        repository.flush();
+
+        // Games compare by id, so check the version of the written state explicitly
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<GameUpdate>> batches = ArgumentCaptor.forClass(List.class);
+        verify(delegate, times(2)).saveGames(batches.capture());
+        GameUpdate written = batches.getAllValues().get(1).get(0);
+        assertEquals(3, written.game().getVersion());
+        assertTrue(written.moves().isEmpty());
+    }
+
+    private static Game withVersion(Game game, long version) {
+        return Game.GameFactory.createGame(game.getId(), game.getBoard(), game.getRedPlayer(),
+                game.getBlackPlayer(), game.getCurrentTurn(), game.getState(), game.getCreatedAt(),
+                game.getUpdatedAt(), game.getGameType(), version);
+    }
+}
@@ -0,0 +1,60 @@
+package com.shalako.checkers.util;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 100_000;
+
+    @Test
+    void testKeysAreSpreadEvenly() {
+        ConsistentHashRing<String> ring = new ConsistentHashRing<>(
+                List.of("127.0.0.1:6379", "127.0.0.1:6380", "127.0.0.1:6381"), 320, Function.identity());
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            counts.merge(ring.nodeFor(UUID.randomUUID().toString()), 1, Integer::sum);
+        }
+
+        System.out.println("[DEBUG_LOG] Keys per node: " + counts);
+        assertEquals(3, counts.size());
+        // Each node should get its third of the keys within 15%
+        counts.values().forEach(count -> assertTrue(Math.abs(count - KEYS / 3) < KEYS / 3 * 0.15, counts.toString()));
+    }
+
+    @Test
+    void testAddingANodeOnlyMovesItsShare() {
+        ConsistentHashRing<String> before = new ConsistentHashRing<>(List.of("a", "b", "c"), 160, Function.identity());
+        ConsistentHashRing<String> after = new ConsistentHashRing<>(List.of("a", "b", "c", "d"), 160, Function.identity());
+
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            String key = "game-" + i;
+            String owner = after.nodeFor(key);
+            if (!owner.equals(before.nodeFor(key))) {
+                // Keys only ever move to the new node
+                assertEquals("d", owner);
+                moved++;
+            }
+        }
+
+        System.out.println("[DEBUG_LOG] Keys moved after adding a fourth node: " + moved * 100 / KEYS + "%");
+        assertTrue(moved > KEYS * 0.15 && moved < KEYS * 0.35, "moved=" + moved);
+    }
+
+    @Test
+    void testPlacementIsDeterministic() {
+        ConsistentHashRing<String> first = new ConsistentHashRing<>(List.of("a", "b"), 50, Function.identity());
+        ConsistentHashRing<String> second = new ConsistentHashRing<>(List.of("b", "a"), 50, Function.identity());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(first.nodeFor("game-" + i), second.nodeFor("game-" + i));
+        }
+    }
+}